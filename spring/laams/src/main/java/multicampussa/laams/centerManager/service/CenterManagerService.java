@@ -8,6 +8,7 @@ import multicampussa.laams.centerManager.dto.CenterExamListDto;
 import multicampussa.laams.centerManager.dto.ConfirmDirectorRequest;
 import multicampussa.laams.centerManager.dto.DirectorAssignmentRequestListResponse;
 import multicampussa.laams.director.dto.director.ExamMonthDayListDto;
+import multicampussa.laams.director.service.ExamDirectorAccessIndex;
 import multicampussa.laams.global.CustomExceptions;
 import multicampussa.laams.manager.domain.center.Center;
 import multicampussa.laams.manager.domain.center.CenterRepository;
@@ -15,9 +16,12 @@ import multicampussa.laams.manager.domain.exam.Exam;
 import multicampussa.laams.manager.domain.exam.ExamDirector;
 import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
 import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.service.dashboard.DashboardDailyRollup;
+import multicampussa.laams.manager.service.exam.OngoingExamIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,6 +32,9 @@ public class CenterManagerService {
     private final ExamDirectorRepository examDirectorRepository;
     private final ExamRepository examRepository;
     private final CenterRepository centerRepository;
+    private final ExamDirectorAccessIndex examDirectorAccessIndex;
+    private final DashboardDailyRollup dashboardDailyRollup;
+    private final OngoingExamIndex ongoingExamIndex;
 
     @Transactional
     public void confirmDirector(ConfirmDirectorRequest request) {
@@ -36,7 +43,22 @@ public class CenterManagerService {
         if (examDirector == null) {
             throw new CustomExceptions.ExamDirectorNotFoundException("해당 시험을 신청한 감독관이 없습니다.");
         }
-        examDirector.confirmDirector();
+        // 승인 상태를 바꾸기 전에 승인된 감독관 수가 비어 있는 시험이면 채워 둠
+        examRepository.fillConfirmedDirectorCnt(request.getExamNo());
+        // 이미 승인된 요청이면 정원을 다시 차지하지 않음
+        if (examDirectorRepository.confirmIfNotConfirmed(examDirector.getNo(), LocalDateTime.now()) == 0) {
+            return;
+        }
+        // 정원이 남아 있을 때만 승인 (조건부 update라 동시에 승인해도 정원을 넘지 않음, 실패하면 롤백)
+        if (examRepository.increaseConfirmedDirectorCnt(request.getExamNo()) == 0) {
+            throw new CustomExceptions.ExamDirectorFullException("시험 감독관 정원이 모두 찼습니다.");
+        }
+        // 첫 감독관이 승인되면 미배정 시험에서 빠짐
+        if (examRepository.findConfirmedDirectorCnt(request.getExamNo()) == 1) {
+            dashboardDailyRollup.recordUnassignedExam(examDirector.getExam().getExamDate(), -1);
+        }
+        examDirectorAccessIndex.evictExam(request.getExamNo());
+        ongoingExamIndex.invalidate();
     }
 
     @Transactional
@@ -46,7 +68,19 @@ public class CenterManagerService {
         if (examDirector == null) {
             throw new CustomExceptions.ExamDirectorNotFoundException("해당 시험을 신청한 감독관이 없습니다.");
         }
-        examDirector.denyDirector();
+        examRepository.fillConfirmedDirectorCnt(request.getExamNo());
+        // 승인됐던 요청을 거절하면 정원 반환
+        if (examDirectorRepository.denyIfConfirmed(examDirector.getNo(), LocalDateTime.now()) == 1) {
+            examRepository.decreaseConfirmedDirectorCnt(request.getExamNo());
+            // 마지막 승인 감독관이 빠지면 다시 미배정 시험
+            if (examRepository.findConfirmedDirectorCnt(request.getExamNo()) == 0) {
+                dashboardDailyRollup.recordUnassignedExam(examDirector.getExam().getExamDate(), 1);
+            }
+        } else {
+            examDirector.denyDirector();
+        }
+        examDirectorAccessIndex.evictExam(request.getExamNo());
+        ongoingExamIndex.invalidate();
     }
 
     @Transactional
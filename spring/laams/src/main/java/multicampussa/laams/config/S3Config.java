@@ -8,13 +8,22 @@ import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import java.util.concurrent.Executors;
+
 @Configuration
 public class S3Config {
+
+    private static final int UPLOAD_THREADS = 8;
+    private static final long MULTIPART_UPLOAD_THRESHOLD = 16L * 1024 * 1024;
+    private static final long MULTIPART_PART_SIZE = 8L * 1024 * 1024;
+
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
 
@@ -36,4 +45,15 @@ public class S3Config {
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
                 .build();
     }
+
+    // 여러 파일 병렬 업로드용 (스레드 수 제한, 큰 파일은 멀티파트 업로드)
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(UPLOAD_THREADS))
+                .withMultipartUploadThreshold(MULTIPART_UPLOAD_THRESHOLD)
+                .withMinimumUploadPartSize(MULTIPART_PART_SIZE)
+                .build();
+    }
 }
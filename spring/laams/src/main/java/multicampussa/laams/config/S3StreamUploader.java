@@ -0,0 +1,124 @@
+package multicampussa.laams.config;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.global.storage.ObjectStorage;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일을 byte[]로 읽지 않고 멀티파트 임시 파일 스트림에서 바로 S3로 보내는 업로더.
+ * 크기를 미리 알려 주므로 SDK가 본문을 메모리에 모으지 않고, 재전송용 버퍼(read limit)만 잡는다.
+ * 동시에 진행 중인 업로드가 잡는 버퍼 합계를 MAX_IN_FLIGHT_BUFFER_BYTES 이하로 제한한다.
+ */
+@Slf4j
+@Component
+public class S3StreamUploader {
+
+    // 업로드 하나가 재전송을 위해 메모리에 잡아 두는 최대 크기
+    private static final int READ_LIMIT_BYTES = 256 * 1024;
+
+    // 진행 중인 업로드 전체가 잡을 수 있는 버퍼 크기
+    private static final int MAX_IN_FLIGHT_BUFFER_BYTES = 32 * 1024 * 1024;
+
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+
+    private final TransferManager transferManager;
+    private final Semaphore bufferBudget = new Semaphore(MAX_IN_FLIGHT_BUFFER_BYTES);
+
+    public S3StreamUploader(TransferManager transferManager) {
+        this.transferManager = transferManager;
+    }
+
+    // 업로드 (완료될 때까지 대기)
+    public void upload(String bucket, String key, MultipartFile file) throws IOException {
+        startUpload(bucket, key, file).waitForCompletion();
+    }
+
+    // 업로드 시작 (TransferManager 스레드 풀에서 진행, 큰 파일은 멀티파트 업로드)
+    public StreamUpload startUpload(String bucket, String key, MultipartFile file) throws IOException {
+        int reserved = (int) Math.min(file.getSize(), READ_LIMIT_BYTES);
+        acquire(reserved);
+
+        InputStream inputStream = null;
+        try {
+            inputStream = file.getInputStream();
+
+            // 메타 데이터 설정(설정해주지 않으면 url 접속 시 바로 다운로드됨)
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(file.getContentType());
+            metadata.setContentLength(file.getSize());
+
+            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, inputStream, metadata);
+            putObjectRequest.setCannedAcl(CannedAccessControlList.PublicRead);
+            putObjectRequest.getRequestClientOptions().setReadLimit(READ_LIMIT_BYTES + 1);
+
+            return new StreamUpload(transferManager.upload(putObjectRequest), inputStream, reserved);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(inputStream);
+            bufferBudget.release(reserved);
+            throw e;
+        }
+    }
+
+    private void acquire(int bytes) throws IOException {
+        try {
+            if (!bufferBudget.tryAcquire(bytes, ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IOException("진행 중인 업로드가 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("업로드가 중단되었습니다.", e);
+        }
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        if (inputStream == null) {
+            return;
+        }
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.debug("업로드 스트림 닫기 실패", e);
+        }
+    }
+
+    // 진행 중인 업로드 (완료되면 스트림을 닫고 버퍼 예산 반환)
+    public class StreamUpload implements ObjectStorage.PendingUpload {
+        private final Upload upload;
+        private final InputStream inputStream;
+        private final int reserved;
+
+        private StreamUpload(Upload upload, InputStream inputStream, int reserved) {
+            this.upload = upload;
+            this.inputStream = inputStream;
+            this.reserved = reserved;
+        }
+
+        @Override
+        public void waitForCompletion() throws IOException {
+            try {
+                upload.waitForUploadResult();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                upload.abort();
+                throw new IOException("업로드가 중단되었습니다.", e);
+            } catch (AmazonClientException e) {
+                throw new IOException("S3 업로드에 실패했습니다: " + e.getMessage(), e);
+            } finally {
+                closeQuietly(inputStream);
+                bufferBudget.release(reserved);
+            }
+        }
+    }
+}
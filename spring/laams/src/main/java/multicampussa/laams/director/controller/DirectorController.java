@@ -17,6 +17,7 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
 import springfox.documentation.annotations.ApiIgnore;
 
@@ -24,6 +25,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 @RequiredArgsConstructor
 @RestController
@@ -35,6 +37,9 @@ public class DirectorController {
     private final JwtTokenProvider jwtTokenProvider;
     private final ImageUploadService imageUploadService;
 
+    // 비동기 얼굴 비교 최대 대기 시간
+    private static final long COMPARISON_TIMEOUT_MILLIS = 15_000L;
+
     // 시험 목록 조회
 //    @GetMapping("/{directorNo}/exams")
 //    public List<ExamListDto> getExams(@PathVariable Long directorNo){
@@ -46,7 +51,7 @@ public class DirectorController {
     @PostMapping(
             value = "/examinees/upload",
             consumes = "multipart/form-data")
-    public String uploadImages(
+    public ResponseEntity<Map<String, Object>> uploadImages(
             @ApiIgnore @RequestHeader String authorization,
             @RequestPart(value = "files") List<MultipartFile> files,
             @RequestParam("imageReason") String imageReason,
@@ -57,22 +62,19 @@ public class DirectorController {
         String authority = jwtTokenProvider.getAuthority(token);
 
         if (authority.equals("ROLE_DIRECTOR")) {
+            Map<String, Object> resultMap = new HashMap<>();
             try {
-                for (MultipartFile file : files) {
-                    byte[] imageBytes = file.getBytes();
-                    String imageName = file.getOriginalFilename();
-                    imageUploadService.uploadImageToS3(file, imageBytes, imageName, examNo, examineeNo, imageReason);
-                }
-
-                return "이미지 업로드 및 저장 성공!";
-            } catch (IOException e) {
-                // 파일 데이터를 읽어오는 과정에서 오류가 발생한 경우의 처리
-                e.printStackTrace(); // 또는 로깅 등을 활용하여 예외를 기록
-                return "이미지 업로드 실패: 파일 데이터를 읽어오는 도중 오류 발생";
-            } catch (Exception e) {
-                // 그 외의 예외 상황에 대한 처리
-                e.printStackTrace(); // 또는 로깅 등을 활용하여 예외를 기록
-                return "이미지 업로드 실패: " + e.getMessage();
+                // 파일별 업로드 결과
+                List<ImageUploadResultDto> results = imageUploadService.uploadImages(files, examNo, examineeNo, imageReason);
+                resultMap.put("data", results);
+                resultMap.put("message", "이미지 업로드가 처리되었습니다.");
+                resultMap.put("code", HttpStatus.OK.value());
+                resultMap.put("status", "success");
+                return new ResponseEntity<>(resultMap, HttpStatus.OK);
+            } catch (IllegalArgumentException e) {
+                resultMap.put("message", e.getMessage());
+                resultMap.put("status", HttpStatus.BAD_REQUEST.value());
+                return new ResponseEntity<>(resultMap, HttpStatus.BAD_REQUEST);
             }
         } else {
             throw new CustomExceptions.UnauthorizedException("접근 권한이 없습니다.");
@@ -110,6 +112,41 @@ public class DirectorController {
         }
     }
 
+    // 얼굴 일치 비교 (비동기, 비교 서버 응답을 기다리는 동안 요청 스레드를 반환)
+    @ApiOperation(value = "얼굴 일치 비교 (비동기)")
+    @PostMapping(value = "/comparison/async")
+    public DeferredResult<ResponseEntity<ApiResponse<String>>> comparePhotoAsync(
+            @ApiIgnore @RequestHeader String authorization,
+            @RequestPart("existingPhoto") MultipartFile existingPhoto,
+            @RequestPart("newPhoto") MultipartFile newPhoto,
+            @RequestParam("examineeName") String applicantName,
+            @RequestParam("examineeNo") String applicantNo
+    ) {
+        String token = authorization.replace("Bearer", "");
+        String authority = jwtTokenProvider.getAuthority(token);
+        if (authority.equals("ROLE_DIRECTOR")) {
+            DeferredResult<ResponseEntity<ApiResponse<String>>> deferredResult = new DeferredResult<>(COMPARISON_TIMEOUT_MILLIS);
+            deferredResult.onTimeout(() -> deferredResult.setErrorResult(
+                    new CustomExceptions.FaceCompareException("얼굴 비교 응답 시간이 초과되었습니다.")));
+
+            directorService.compareFaceAsync(existingPhoto, newPhoto, applicantName, applicantNo)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            // CompletableFuture가 감싼 예외를 꺼내서 전역 예외 처리기로 전달
+                            deferredResult.setErrorResult(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                        } else {
+                            deferredResult.setResult(new ResponseEntity<>(new ApiResponse<>(
+                                    "success",
+                                    HttpStatus.OK.value(),
+                                    result), HttpStatus.OK));
+                        }
+                    });
+            return deferredResult;
+        } else {
+            throw new CustomExceptions.UnauthorizedException("접근 권한이 없습니다.");
+        }
+    }
+
     // 파일 헤더 설정을 위한 메서드
     private HttpHeaders getMultipartHeaders(MultipartFile file) throws IOException {
         HttpHeaders headers = new HttpHeaders();
@@ -256,6 +293,28 @@ public class DirectorController {
         }
     }
 
+    @ApiOperation(value = "일괄 출석 확인", notes = "응시자 번호(examineeNos) 또는 수험 번호(examineeCodes) 목록으로 한 번에 출석 확인, 응시자별 결과 반환")
+    @PutMapping("/exams/{examNo}/examinees/attendance")
+    public ResponseEntity<Map<String, Object>> checkAttendanceBulk(@ApiIgnore @RequestHeader String authorization, @PathVariable Long examNo, @RequestBody BulkAttendanceRequestDto bulkAttendanceRequestDto){
+        Map<String, Object> resultMap = new HashMap<>();
+        try {
+            String token = authorization.replace("Bearer", "");
+            String authority = jwtTokenProvider.getAuthority(token);
+            String directorId = jwtTokenProvider.getId(token);
+
+            List<BulkAttendanceResultDto> results = directorService.checkAttendanceBulk(examNo, bulkAttendanceRequestDto, authority, directorId);
+            resultMap.put("data", results);
+            resultMap.put("message", "응시자들의 출석 확인이 처리되었습니다.");
+            resultMap.put("code", HttpStatus.OK.value());
+            resultMap.put("status", "success");
+            return new ResponseEntity<>(resultMap, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            resultMap.put("message", e.getMessage());
+            resultMap.put("status", HttpStatus.BAD_REQUEST.value());
+            return new ResponseEntity<>(resultMap, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @ApiOperation(value = "서류 제출 확인")
     @PutMapping ("/exams/{examNo}/examinees/{examineeNo}/document")
     public ResponseEntity<Map<String, Object>> checkDocument(@ApiIgnore @RequestHeader String authorization, @PathVariable Long examNo, @PathVariable Long examineeNo, @RequestBody DocumentRequestDto documentRequestDto) {
@@ -368,6 +427,29 @@ public class DirectorController {
         }
     }
 
+    @ApiOperation(value = "현재 위치 주변 센터 조회", notes = "오늘 감독할 시험의 센터 중 반경(기본 500m) 안에 있는 센터와 전체 센터 중 가장 가까운 센터")
+    @GetMapping("/centers/nearby")
+    public ResponseEntity<Map<String, Object>> findNearbyCenters(@ApiIgnore @RequestHeader String authorization,
+                                                                 @RequestParam Double latitude, @RequestParam Double longitude,
+                                                                 @RequestParam(required = false) Double radius) {
+        Map<String, Object> resultMap = new HashMap<>();
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String authority = jwtTokenProvider.getAuthority(token);
+            String directorId = jwtTokenProvider.getId(token);
+
+            resultMap.put("data", directorService.findNearbyCenters(authority, directorId, latitude, longitude, radius));
+            resultMap.put("message", "주변 센터를 조회했습니다.");
+            resultMap.put("code", HttpStatus.OK.value());
+            resultMap.put("status", "success");
+            return new ResponseEntity<>(resultMap, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            resultMap.put("message", e.getMessage());
+            resultMap.put("status", HttpStatus.BAD_REQUEST.value());
+            return new ResponseEntity<>(resultMap, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @ApiOperation(value = "신청 안 한 시험과 승인 안 된 시험 목록 조회", notes = "내가 속한 센터 시험 중 내가 아직 신청 요청 안 보내고, 꽉 차지 않은 시험 + 내가 신청했지만 승인 안된 시험 목록")
     @GetMapping("/exams/unapproved")
     public ResponseEntity<Map<String, Object>> UnappliedAndUnapprovedExamList(@ApiIgnore @RequestHeader String authorization,
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+// columnList는 필드 이름으로 씀 (Hibernate가 논리 이름으로 찾고, DB에는 created_at으로 만들어짐)
+@Table(indexes = @Index(name = "idx_error_report_created_at", columnList = "createdAt"))
 public class ErrorReport extends BaseTimeEntity {
 
     @Id
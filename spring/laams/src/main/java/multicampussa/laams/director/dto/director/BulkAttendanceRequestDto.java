@@ -0,0 +1,20 @@
+package multicampussa.laams.director.dto.director;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkAttendanceRequestDto {
+
+    // 응시자 pk 목록
+    private List<Long> examineeNos;
+    // 수험 번호 목록
+    private List<String> examineeCodes;
+}
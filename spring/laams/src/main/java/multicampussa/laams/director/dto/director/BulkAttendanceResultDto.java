@@ -0,0 +1,44 @@
+package multicampussa.laams.director.dto.director;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkAttendanceResultDto {
+
+    private Long examineeNo; // 응시자 pk
+    private String examineeCode;
+    private Boolean success;
+    private String message;
+    private LocalDateTime attendanceTime;
+    private Boolean compensation;
+    private String compensationType;
+
+    public static BulkAttendanceResultDto success(Long examineeNo, String examineeCode, CheckAttendanceDto checkAttendanceDto) {
+        return BulkAttendanceResultDto.builder()
+                .examineeNo(examineeNo)
+                .examineeCode(examineeCode)
+                .success(true)
+                .message("응시자의 출석이 확인되었습니다.")
+                .attendanceTime(checkAttendanceDto.getAttendanceTime())
+                .compensation(checkAttendanceDto.getCompensation())
+                .compensationType(checkAttendanceDto.getCompensationType())
+                .build();
+    }
+
+    public static BulkAttendanceResultDto fail(Long examineeNo, String examineeCode, String message) {
+        return BulkAttendanceResultDto.builder()
+                .examineeNo(examineeNo)
+                .examineeCode(examineeCode)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package multicampussa.laams.director.dto.director;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import multicampussa.laams.director.service.CenterGeofence;
+
+import java.time.LocalDateTime;
+
+// 감독관의 오늘 시험 일정 (시험 시작 시간과 센터 번호, 센터 좌표)
+// 센터 좌표는 일정을 읽을 때 라디안/cos(위도)로 미리 계산해 두고 도착 인증마다 다시 계산하지 않는다
+@Getter
+@NoArgsConstructor
+public class DirectorScheduleDto {
+
+    private String directorId;
+    private Long examNo;
+    private LocalDateTime examDate;
+    private Long centerNo;
+    private Double centerLatitude;
+    private Double centerLongitude;
+    private CenterGeofence.GeoPoint centerPoint;
+
+    public DirectorScheduleDto(String directorId, Long examNo, LocalDateTime examDate, Long centerNo, Double centerLatitude, Double centerLongitude) {
+        this.directorId = directorId;
+        this.examNo = examNo;
+        this.examDate = examDate;
+        this.centerNo = centerNo;
+        this.centerLatitude = centerLatitude;
+        this.centerLongitude = centerLongitude;
+        if (centerLatitude != null && centerLongitude != null) {
+            this.centerPoint = CenterGeofence.point(centerLatitude, centerLongitude);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package multicampussa.laams.director.dto.director;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 센터 시험별 승인된 감독관 수와 현재 감독관의 배정 요청 상태 (집계 쿼리 한 번)
+@Getter
+@NoArgsConstructor
+public class ExamApplyStatusDto {
+
+    private Long examNo;
+    private LocalDateTime examDate;
+    private int runningTime;
+    private String examType;
+    private String examLanguage;
+    private int maxDirector;
+    private int confirmDirectorCnt;
+    // 현재 감독관의 배정 요청 상태 (요청 안 했으면 null, 대기/승인/거절)
+    private String myConfirm;
+
+    public ExamApplyStatusDto(Long examNo, LocalDateTime examDate, Integer runningTime, String examType, String examLanguage,
+                              Integer maxDirector, Long confirmDirectorCnt, Long myWaitCnt, Long myApprovedCnt, Long myRejectedCnt) {
+        this.examNo = examNo;
+        this.examDate = examDate;
+        this.runningTime = runningTime;
+        this.examType = examType;
+        this.examLanguage = examLanguage;
+        this.maxDirector = maxDirector;
+        this.confirmDirectorCnt = toInt(confirmDirectorCnt);
+
+        if (toInt(myApprovedCnt) > 0) {
+            this.myConfirm = "승인";
+        } else if (toInt(myWaitCnt) > 0) {
+            this.myConfirm = "대기";
+        } else if (toInt(myRejectedCnt) > 0) {
+            this.myConfirm = "거절";
+        }
+    }
+
+    // 배정 요청을 안 했는지
+    public boolean isUnapplied() {
+        return myConfirm == null;
+    }
+
+    // 승인된 감독관 수가 최대 배정 인원보다 적은지
+    public boolean isNotFull() {
+        return maxDirector > confirmDirectorCnt;
+    }
+
+    // 감독관 배정 요청이 없으면 sum 결과가 null
+    private static int toInt(Long count) {
+        return count == null ? 0 : count.intValue();
+    }
+}
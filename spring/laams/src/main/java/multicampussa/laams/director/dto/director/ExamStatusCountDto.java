@@ -0,0 +1,29 @@
+package multicampussa.laams.director.dto.director;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 시험 현황 카운터 초기값 조회용 (집계 쿼리 한 번)
+@Getter
+@NoArgsConstructor
+public class ExamStatusCountDto {
+
+    private int examineeCnt;
+    private int attendanceCnt; // 출석 (정시 + 지각)
+    private int onTimeCnt;
+    private int documentCnt;
+    private int compensationCnt;
+
+    public ExamStatusCountDto(Long examineeCnt, Long attendanceCnt, Long onTimeCnt, Long documentCnt, Long compensationCnt) {
+        this.examineeCnt = toInt(examineeCnt);
+        this.attendanceCnt = toInt(attendanceCnt);
+        this.onTimeCnt = toInt(onTimeCnt);
+        this.documentCnt = toInt(documentCnt);
+        this.compensationCnt = toInt(compensationCnt);
+    }
+
+    // 응시자가 없으면 sum 결과가 null
+    private static int toInt(Long count) {
+        return count == null ? 0 : count.intValue();
+    }
+}
@@ -13,7 +13,9 @@ public class ExamStatusDto {
 
     private int exmaineeCnt;
     private int attendanceCnt;
+    private int lateCnt;
     private int documentCnt;
+    private int compensationCnt;
     private boolean directorAttendance;
 
     public ExamStatusDto(int examineeCnt, int attendanceCnt, int documentCnt, boolean directorAttendance){
@@ -22,4 +24,10 @@ public class ExamStatusDto {
         this.documentCnt = documentCnt;
         this.directorAttendance = directorAttendance;
     }
+
+    public ExamStatusDto(int examineeCnt, int attendanceCnt, int lateCnt, int documentCnt, int compensationCnt, boolean directorAttendance){
+        this(examineeCnt, attendanceCnt, documentCnt, directorAttendance);
+        this.lateCnt = lateCnt;
+        this.compensationCnt = compensationCnt;
+    }
 }
@@ -0,0 +1,35 @@
+package multicampussa.laams.director.dto.director;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImageUploadResultDto {
+
+    private String fileName;
+    private Boolean success;
+    private String message;
+    private String imageUrl;
+
+    public static ImageUploadResultDto success(String fileName, String imageUrl) {
+        return ImageUploadResultDto.builder()
+                .fileName(fileName)
+                .success(true)
+                .message("이미지 업로드 및 저장 성공")
+                .imageUrl(imageUrl)
+                .build();
+    }
+
+    public static ImageUploadResultDto fail(String fileName, String message) {
+        return ImageUploadResultDto.builder()
+                .fileName(fileName)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
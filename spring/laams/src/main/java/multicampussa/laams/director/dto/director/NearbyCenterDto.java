@@ -0,0 +1,17 @@
+package multicampussa.laams.director.dto.director;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import multicampussa.laams.director.service.CenterGeofence;
+
+import java.util.List;
+
+// 감독관 현재 위치 기준 센터 (오늘 감독할 시험의 센터 중 반경 안에 있는 센터, 전체 센터 중 가장 가까운 센터)
+@Getter
+@AllArgsConstructor
+public class NearbyCenterDto {
+
+    private double radiusMeters;
+    private List<CenterGeofence.CenterDistance> todayCentersWithin;  // 가까운 순
+    private CenterGeofence.CenterDistance nearestCenter;  // 좌표가 있는 센터가 없으면 null
+}
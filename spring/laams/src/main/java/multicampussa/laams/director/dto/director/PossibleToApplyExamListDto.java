@@ -33,4 +33,15 @@ public class PossibleToApplyExamListDto {
         this.maxDirector = exam.getMaxDirector();
         this.confirmDirectorCnt = cntConfirmDirector;
     }
+
+    public PossibleToApplyExamListDto(ExamApplyStatusDto examApplyStatus){
+        this.examNo = examApplyStatus.getExamNo();
+        this.examDate = examApplyStatus.getExamDate();
+        this.runningTime = examApplyStatus.getRunningTime();
+        this.endExamDate = examApplyStatus.getExamDate().plus(examApplyStatus.getRunningTime(), ChronoUnit.MINUTES);
+        this.examType = examApplyStatus.getExamType();
+        this.examLanguage = examApplyStatus.getExamLanguage();
+        this.maxDirector = examApplyStatus.getMaxDirector();
+        this.confirmDirectorCnt = examApplyStatus.getConfirmDirectorCnt();
+    }
 }
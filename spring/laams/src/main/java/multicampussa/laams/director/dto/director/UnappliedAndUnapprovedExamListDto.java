@@ -35,4 +35,15 @@ public class UnappliedAndUnapprovedExamListDto {
         this.currentConfirm = currentConfirm;
         this.confirmDirectorCnt = cntConfirmDirector;
     }
+
+    public UnappliedAndUnapprovedExamListDto(ExamApplyStatusDto examApplyStatus, String currentConfirm){
+        this.examNo = examApplyStatus.getExamNo();
+        this.examDate = examApplyStatus.getExamDate();
+        this.runningTime = examApplyStatus.getRunningTime();
+        this.endExamDate = examApplyStatus.getExamDate().plus(examApplyStatus.getRunningTime(), ChronoUnit.MINUTES);
+        this.examType = examApplyStatus.getExamType();
+        this.examLanguage = examApplyStatus.getExamLanguage();
+        this.currentConfirm = currentConfirm;
+        this.confirmDirectorCnt = examApplyStatus.getConfirmDirectorCnt();
+    }
 }
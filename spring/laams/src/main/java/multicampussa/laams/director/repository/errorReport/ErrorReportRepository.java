@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -20,4 +21,9 @@ public interface ErrorReportRepository extends JpaRepository<ErrorReport, Long>
     @Query("SELECT er FROM ErrorReport  er WHERE DATE(er.createdAt) = :targetDate")
     List<ErrorReport> findErrorReportByDate(@Param("targetDate") java.sql.Date targetDate);
 
+    // 기간 조회 (대시보드 월 단위, 작성자와 작성자 센터 함께 조회, 즉시 로딩 연관을 센터마다 따로 읽지 않도록)
+    @Query("SELECT er FROM ErrorReport er JOIN FETCH er.director d LEFT JOIN FETCH d.center dc LEFT JOIN FETCH dc.centerManager " +
+            "WHERE er.createdAt >= :start AND er.createdAt < :end ORDER BY er.no")
+    List<ErrorReport> findErrorReportBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
 }
@@ -0,0 +1,274 @@
+package multicampussa.laams.director.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.manager.domain.center.Center;
+import multicampussa.laams.manager.domain.center.CenterRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 센터 위치 기준 지오펜스.
+ * 센터 좌표는 라디안과 cos(위도)를 미리 계산해 두고, 하버사인 공식으로 거리를 구한다.
+ * 반경 검사는 위도/경도 범위(bounding box)로 먼저 거른 뒤에만 하버사인 계산을 한다 (위도 범위 검사는 삼각함수 없이 비교만 함).
+ * 범위는 센터 좌표마다 반경별로 한 번만 계산해 두므로 반복 검사에서는 비교만 남는다.
+ * 전체 센터는 위도 순으로 정렬해 두어 가장 가까운 센터 조회 때 위도 차이만으로 더 멀어지는 센터는 건너뛴다.
+ * 센터 목록은 주기적으로 통째로 다시 만들어서 삭제된 센터도 빠진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CenterGeofence {
+
+    // 지구 평균 반지름 (m)
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // 범위 비교에 더하는 부동소수점 오차 여유 (라디안, 지표면에서 약 6μm)
+    // 경계에 딱 걸친 지점이 반올림 오차로 범위 밖으로 빠지지 않게 할 뿐이고, 최종 판정은 하버사인 거리로 한다
+    private static final double BOX_TOLERANCE_RAD = 1e-12;
+
+    private final CenterRepository centerRepository;
+
+    // 위도 순으로 정렬된 전체 센터 (좌표 없는 센터 제외)
+    private volatile GeoPoint[] centers;
+    // 센터 번호 -> 좌표 (갱신할 때마다 새로 만든 맵으로 교체)
+    private volatile Map<Long, GeoPoint> centersByNo = new ConcurrentHashMap<>();
+
+    // 센터 반경 안에 있는지
+    public boolean isWithin(Long centerNo, double latitude, double longitude, double radiusMeters) {
+        GeoPoint center = getCenter(centerNo);
+        if (center == null) {
+            throw new IllegalArgumentException("센터 위치 정보가 없습니다.");
+        }
+        return center.isWithin(latitude, longitude, radiusMeters);
+    }
+
+    // 센터까지의 거리 (m)
+    public double distanceMeters(Long centerNo, double latitude, double longitude) {
+        GeoPoint center = getCenter(centerNo);
+        if (center == null) {
+            throw new IllegalArgumentException("센터 위치 정보가 없습니다.");
+        }
+        return center.distanceMeters(latitude, longitude);
+    }
+
+    // 주어진 센터들 중 반경 안에 있는 센터 (가까운 순)
+    public List<CenterDistance> centersWithin(Collection<Long> centerNos, double latitude, double longitude, double radiusMeters) {
+        List<CenterDistance> result = new ArrayList<>();
+        for (Long centerNo : centerNos) {
+            GeoPoint center = getCenter(centerNo);
+            if (center != null && center.isWithin(latitude, longitude, radiusMeters)) {
+                result.add(new CenterDistance(center.centerNo, center.distanceMeters(latitude, longitude)));
+            }
+        }
+        result.sort(Comparator.comparingDouble(CenterDistance::getDistanceMeters));
+        return result;
+    }
+
+    // 전체 센터 중 가장 가까운 센터 (센터가 없으면 null)
+    public CenterDistance nearestCenter(double latitude, double longitude) {
+        GeoPoint[] sorted = sortedCenters();
+        if (sorted.length == 0) {
+            return null;
+        }
+        double latRad = Math.toRadians(latitude);
+        double lonRad = Math.toRadians(longitude);
+        double cosLat = Math.cos(latRad);
+
+        // 위도가 가까운 센터부터 위아래로 넓혀 가며, 위도 차이만으로도 현재 최단 거리보다 멀면 중단
+        int upper = lowerBound(sorted, latRad);
+        int lower = upper - 1;
+        GeoPoint best = null;
+        double bestDistance = Double.MAX_VALUE;
+        while (lower >= 0 || upper < sorted.length) {
+            double lowerGap = lower >= 0 ? (latRad - sorted[lower].latRad) * EARTH_RADIUS_METERS : Double.MAX_VALUE;
+            double upperGap = upper < sorted.length ? (sorted[upper].latRad - latRad) * EARTH_RADIUS_METERS : Double.MAX_VALUE;
+            if (Math.min(lowerGap, upperGap) > bestDistance) {
+                break;
+            }
+            GeoPoint candidate = lowerGap <= upperGap ? sorted[lower--] : sorted[upper++];
+            double distance = candidate.distanceMeters(latRad, lonRad, cosLat);
+            if (distance < bestDistance) {
+                best = candidate;
+                bestDistance = distance;
+            }
+        }
+        return new CenterDistance(best.centerNo, bestDistance);
+    }
+
+    // 센터 좌표 다시 읽기 (센터 정보는 거의 바뀌지 않으므로 주기적으로만 갱신)
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void refresh() {
+        List<Center> all = centerRepository.findAll();
+        List<GeoPoint> points = new ArrayList<>(all.size());
+        Map<Long, GeoPoint> byNo = new ConcurrentHashMap<>();
+        for (Center center : all) {
+            if (center.getLatitude() != null && center.getLongitude() != null) {
+                GeoPoint point = new GeoPoint(center.getNo(), center.getLatitude(), center.getLongitude());
+                points.add(point);
+                byNo.put(point.centerNo, point);
+            }
+        }
+        GeoPoint[] sorted = points.toArray(new GeoPoint[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble(point -> point.latRad));
+        centers = sorted;
+        centersByNo = byNo;
+        log.debug("센터 위치 {}건 갱신", sorted.length);
+    }
+
+    private GeoPoint getCenter(Long centerNo) {
+        GeoPoint center = centersByNo.get(centerNo);
+        if (center == null) {
+            // 새로 추가된 센터일 수 있으므로 한 건만 읽어서 추가
+            Center found = centerRepository.findByNo(centerNo);
+            if (found == null || found.getLatitude() == null || found.getLongitude() == null) {
+                return null;
+            }
+            center = new GeoPoint(found.getNo(), found.getLatitude(), found.getLongitude());
+            centersByNo.put(centerNo, center);
+        }
+        return center;
+    }
+
+    private GeoPoint[] sortedCenters() {
+        GeoPoint[] sorted = centers;
+        if (sorted == null) {
+            synchronized (this) {
+                if (centers == null) {
+                    refresh();
+                }
+                sorted = centers;
+            }
+        }
+        return sorted;
+    }
+
+    // latRad 이상인 첫 번째 위치
+    private static int lowerBound(GeoPoint[] sorted, double latRad) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].latRad < latRad) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 좌표를 이미 알고 있는 센터의 지오펜스 (오늘 일정처럼 한 번 만들어 두고 반복해서 확인할 때)
+    public static GeoPoint point(double centerLatitude, double centerLongitude) {
+        return new GeoPoint(null, centerLatitude, centerLongitude);
+    }
+
+    // 두 지점 사이 거리 (m, 하버사인)
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        return haversine(lat1Rad, Math.toRadians(lon1), Math.cos(lat1Rad), lat2Rad, Math.toRadians(lon2), Math.cos(lat2Rad));
+    }
+
+    private static double haversine(double lat1Rad, double lon1Rad, double cosLat1, double lat2Rad, double lon2Rad, double cosLat2) {
+        double sinHalfDLat = Math.sin((lat2Rad - lat1Rad) / 2);
+        double sinHalfDLon = Math.sin((lon2Rad - lon1Rad) / 2);
+        double a = sinHalfDLat * sinHalfDLat + cosLat1 * cosLat2 * sinHalfDLon * sinHalfDLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    @Getter
+    public static class CenterDistance {
+        private final Long centerNo;
+        private final double distanceMeters;
+
+        public CenterDistance(Long centerNo, double distanceMeters) {
+            this.centerNo = centerNo;
+            this.distanceMeters = distanceMeters;
+        }
+    }
+
+    // 라디안, cos(위도)를 미리 계산해 둔 센터 좌표
+    // 반경별 위도/경도 범위도 마지막으로 쓴 반경 기준으로 한 번만 계산해 둔다 (도착 인증은 항상 같은 반경)
+    public static final class GeoPoint {
+        private final Long centerNo;
+        private final double latRad;
+        private final double lonRad;
+        private final double cosLat;
+        private volatile Box box;
+
+        private GeoPoint(Long centerNo, double latitude, double longitude) {
+            this.centerNo = centerNo;
+            this.latRad = Math.toRadians(latitude);
+            this.lonRad = Math.toRadians(longitude);
+            this.cosLat = Math.cos(latRad);
+        }
+
+        // 센터까지의 거리 (m)
+        public double distanceMeters(double latitude, double longitude) {
+            double otherLatRad = Math.toRadians(latitude);
+            return distanceMeters(otherLatRad, Math.toRadians(longitude), Math.cos(otherLatRad));
+        }
+
+        private double distanceMeters(double otherLatRad, double otherLonRad, double otherCosLat) {
+            return haversine(latRad, lonRad, cosLat, otherLatRad, otherLonRad, otherCosLat);
+        }
+
+        // 센터 반경 안에 있는지
+        public boolean isWithin(double latitude, double longitude, double radiusMeters) {
+            Box range = boxFor(radiusMeters);
+            double otherLatRad = Math.toRadians(latitude);
+
+            // 위도 범위로 먼저 거름 (반경 안의 지점은 위도 차이가 반경의 중심각 이하, 삼각함수 없이 대부분 탈락)
+            if (Math.abs(otherLatRad - latRad) > range.latDelta) {
+                return false;
+            }
+            double otherLonRad = Math.toRadians(longitude);
+            if (range.limitsLongitude) {
+                double dLon = Math.abs(otherLonRad - lonRad);
+                dLon = Math.min(dLon, 2 * Math.PI - dLon);
+                if (dLon > range.lonDelta) {
+                    return false;
+                }
+            }
+            return distanceMeters(otherLatRad, otherLonRad, Math.cos(otherLatRad)) <= radiusMeters;
+        }
+
+        private Box boxFor(double radiusMeters) {
+            Box range = box;
+            if (range == null || range.radiusMeters != radiusMeters) {
+                range = new Box(radiusMeters, cosLat);
+                box = range;
+            }
+            return range;
+        }
+    }
+
+    // 반경에 해당하는 위도/경도 범위 (오차 여유 포함)
+    private static final class Box {
+        private final double radiusMeters;
+        private final double latDelta;
+        private final boolean limitsLongitude;
+        private final double lonDelta;
+
+        private Box(double radiusMeters, double cosLat) {
+            this.radiusMeters = radiusMeters;
+            double angle = radiusMeters / EARTH_RADIUS_METERS;
+            this.latDelta = angle + BOX_TOLERANCE_RAD;
+            // 경도 범위는 asin(sin(중심각) / cos(센터 위도)), 반경이 극을 포함하면 모든 경도가 가능하므로 생략
+            // (중심각 / cos(위도)로 근사하면 고위도, 큰 반경에서 실제 범위보다 좁아서 반경 안의 지점을 떨어뜨림)
+            double sinAngle = Math.sin(angle);
+            this.limitsLongitude = sinAngle < cosLat;
+            this.lonDelta = limitsLongitude ? Math.asin(sinAngle / cosLat) + BOX_TOLERANCE_RAD : Math.PI;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package multicampussa.laams.director.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.director.dto.director.DirectorScheduleDto;
+import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 감독관별 오늘 시험 일정 (시험 시작 시간 순, 센터 번호 포함).
+ * 날짜가 바뀌면 쿼리 한 번으로 전체 감독관의 일정을 만들고, 배정 요청이 들어오면 해당 감독관 일정만 다시 읽는다.
+ * 홈화면 도착 인증은 DB 조회 없이 메모리에서 다음 시험을 찾는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectorDailySchedule {
+
+    private final ExamDirectorRepository examDirectorRepository;
+
+    private volatile Day today;
+
+    // 오늘 시험 중 now 이후에 시작하는 가장 빠른 시험 (없으면 null)
+    public DirectorScheduleDto nextExam(String directorId, LocalDateTime now) {
+        for (DirectorScheduleDto schedule : getTodaySchedules(directorId)) {
+            if (schedule.getExamDate().isAfter(now)) {
+                return schedule;
+            }
+        }
+        return null;
+    }
+
+    // 감독관의 오늘 시험 일정 (시험 시작 시간 순)
+    public List<DirectorScheduleDto> getTodaySchedules(String directorId) {
+        return currentDay().schedules.getOrDefault(directorId, Collections.emptyList());
+    }
+
+    // 배정 요청 등으로 감독관의 시험이 바뀌었을 때 (커밋 후 해당 감독관 일정만 다시 조회)
+    public void refreshDirector(String directorId) {
+        afterCommit(() -> {
+            Day day = today;
+            if (day == null || !day.date.equals(LocalDate.now())) {
+                return;
+            }
+            List<DirectorScheduleDto> schedules = examDirectorRepository.findSchedulesByDirectorIdBetween(
+                    directorId, day.date.atStartOfDay(), day.date.plusDays(1).atStartOfDay());
+            if (schedules.isEmpty()) {
+                day.schedules.remove(directorId);
+            } else {
+                day.schedules.put(directorId, Collections.unmodifiableList(schedules));
+            }
+        });
+    }
+
+    // 시험 시간, 센터 변경이나 시험 삭제처럼 여러 감독관에 걸친 변경 (다음 조회 때 다시 만듦)
+    public void invalidate() {
+        afterCommit(() -> today = null);
+    }
+
+    // 자정마다 새 날짜의 일정을 미리 만들어 둠
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollOver() {
+        today = load(LocalDate.now());
+    }
+
+    private Day currentDay() {
+        Day day = today;
+        LocalDate date = LocalDate.now();
+        if (day != null && day.date.equals(date)) {
+            return day;
+        }
+        synchronized (this) {
+            day = today;
+            if (day == null || !day.date.equals(date)) {
+                day = load(date);
+                today = day;
+            }
+            return day;
+        }
+    }
+
+    private Day load(LocalDate date) {
+        List<DirectorScheduleDto> schedules = examDirectorRepository.findSchedulesBetween(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        // 쿼리 결과가 시험 시작 시간 순이라 감독관별로 나눠 담아도 순서가 유지됨
+        Map<String, List<DirectorScheduleDto>> byDirector = new ConcurrentHashMap<>();
+        for (DirectorScheduleDto schedule : schedules) {
+            byDirector.computeIfAbsent(schedule.getDirectorId(), id -> new ArrayList<>()).add(schedule);
+        }
+        byDirector.replaceAll((id, list) -> Collections.unmodifiableList(list));
+        log.info("{} 감독관 일정 {}건 ({}명) 생성", date, schedules.size(), byDirector.size());
+        return new Day(date, byDirector);
+    }
+
+    // 롤백된 변경이 일정에 반영되지 않도록 커밋 후에 실행
+    private static void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+    private static class Day {
+        private final LocalDate date;
+        private final Map<String, List<DirectorScheduleDto>> schedules;
+
+        private Day(LocalDate date, Map<String, List<DirectorScheduleDto>> schedules) {
+            this.date = date;
+            this.schedules = schedules;
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package multicampussa.laams.director.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import multicampussa.laams.director.domain.director.Director;
 import multicampussa.laams.director.domain.errorReport.ErrorReport;
@@ -17,24 +15,28 @@ import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
 import multicampussa.laams.manager.domain.exam.ExamRepository;
 import multicampussa.laams.manager.domain.examinee.ExamExaminee;
 import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
+import multicampussa.laams.manager.service.dashboard.DashboardDailyRollup;
 import org.joda.time.LocalTime;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
-import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
-import multicampussa.laams.director.service.LocationDistance;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import static org.joda.time.LocalTime.*;
@@ -43,82 +45,46 @@ import static org.joda.time.LocalTime.*;
 @RequiredArgsConstructor
 public class DirectorService {
 
+    // 일괄 출석 확인 시 한 번에 처리할 수 있는 최대 응시자 수
+    private static final int MAX_BULK_ATTENDANCE_SIZE = 200;
+
+    // 감독관 도착 인증 가능 반경 (m)
+    private static final double ARRIVAL_RADIUS_METERS = 500;
+
     private final DirectorRepository directorRepository;
     private final ExamRepository examRepository;
     private final ExamExamineeRepository examExamineeRepository;
     private final ExamDirectorRepository examDirectorRepository;
     private final ErrorReportRepository errorReportRepository;
+    private final ExamDirectorAccessIndex examDirectorAccessIndex;
+    private final ExamStatusCounter examStatusCounter;
+    private final ExamArrivalHistogram examArrivalHistogram;
+    private final DirectorDailySchedule directorDailySchedule;
+    private final DashboardDailyRollup dashboardDailyRollup;
+    private final CenterGeofence centerGeofence;
+    private final FaceComparisonClient faceComparisonClient;
+    private final FaceComparisonCache faceComparisonCache;
 
 
-    // 파일 헤더 설정을 위한 메서드
-    private HttpHeaders getMultipartHeaders(MultipartFile file) throws IOException {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.valueOf(file.getContentType()));
-        headers.setContentDispositionFormData(file.getName(), file.getOriginalFilename());
-        return headers;
-    }
-
     // 얼굴 일치 비교
     public String compareFace(
             MultipartFile existingPhoto,
             MultipartFile newPhoto,
             String applicantName,
             String applicantNo ) {
+        // 같은 사진 조합이면 캐시된 결과를 쓰고, 동시에 들어온 같은 요청은 한 번만 비교 서버로 보냄
+        return faceComparisonCache.get(existingPhoto, newPhoto,
+                () -> faceComparisonClient.compare(existingPhoto, newPhoto, applicantName, applicantNo));
+    }
 
-        try {
-            // 스프링부트에서 장고 API 호출
-            String djangoApiUrl = "[서버주소]/opencv/api/v1/comparison";
-//            String djangoApiUrl = "http://localhost:8000/api/v1/comparison";
-
-            // 필요한 헤더 설정 등 필요에 따라 커스터마이징
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            // 파일 및 기타 데이터를 MultiValueMap에 넣기
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("existingPhoto", new HttpEntity<>(existingPhoto.getBytes(), getMultipartHeaders(existingPhoto)));
-            body.add("newPhoto", new HttpEntity<>(newPhoto.getBytes(), getMultipartHeaders(newPhoto)));
-            body.add("applicantName", applicantName);
-            body.add("applicantNo", applicantNo);
-
-            HttpEntity<MultiValueMap<String, Object>> entity = new HttpEntity<>(body, headers);
-
-            // RestTemplate을 사용하여 장고 API 호출
-            RestTemplate restTemplate = new RestTemplate();
-            ResponseEntity<String> response = restTemplate.exchange(
-                    djangoApiUrl,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
-
-            String data = response.getBody();
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-
-            JsonNode jsonNode = objectMapper.readTree(data);
-
-            // 데이터 파싱 부분
-            double matchRate = jsonNode.get(0).asDouble();
-            int percentage = (int) (matchRate);
-
-            double normalCriteria = 0.6;
-            boolean normalPass = jsonNode.get(1).asDouble() < normalCriteria;
-            String normalResult = normalPass ? "통과" : "미통과";
-
-            double strictCriteria = 0.5;
-            boolean strictPass = jsonNode.get(1).asDouble() < strictCriteria;
-            String strictResult = strictPass ? "통과" : "미통과";
-
-            // jsonData에 넣을 문자열 생성
-            String jsonData = String.format("일치율: %d%%, 정상적 기준: %s, 엄격한 기준: %s", percentage, normalResult, strictResult);
-
-            return jsonData;
-
-        } catch (Exception e) {
-            throw new CustomExceptions.FaceCompareException("이미지와 요청 쿼리를 확인하세요.");
-        }
+    // 얼굴 일치 비교 (비동기, 톰캣 스레드를 붙잡지 않음)
+    public CompletableFuture<String> compareFaceAsync(
+            MultipartFile existingPhoto,
+            MultipartFile newPhoto,
+            String applicantName,
+            String applicantNo ) {
+        return faceComparisonCache.getAsync(existingPhoto, newPhoto,
+                () -> faceComparisonClient.compareAsync(existingPhoto, newPhoto, applicantName, applicantNo));
     }
 
     // 감독관 시험 월별, 일별 조회
@@ -144,9 +110,7 @@ public class DirectorService {
         if(authority.equals("ROLE_DIRECTOR")){
             Optional<Exam> exam = examRepository.findById(examNo);
             if (exam.isPresent()) {
-                List<ExamDirector> examDirectors = exam.get().getExamDirector();
-                boolean isDirectorExists = examDirectors.stream()
-                        .anyMatch(examDirector -> examDirector.getDirector().getId().equals(directorId));
+                boolean isDirectorExists = examDirectorAccessIndex.isAssigned(examNo, directorId);
                 if(isDirectorExists){
                     return new ExamInformationDto(exam.get());
                 }else {
@@ -165,11 +129,8 @@ public class DirectorService {
     @Transactional
     public List<ExamExamineeListDto> getExamExamineeList(Long examNo, String authority, String directorId) {
         if(authority.equals("ROLE_DIRECTOR")){
-            Optional<Exam> exam = examRepository.findById(examNo);
-            if(exam.isPresent()){
-                List<ExamDirector> examDirectors = exam.get().getExamDirector();
-                boolean isDirectorExists = examDirectors.stream()
-                        .anyMatch(examDirector -> examDirector.getDirector().getId().equals(directorId));
+            if(examRepository.existsById(examNo)){
+                boolean isDirectorExists = examDirectorAccessIndex.isAssigned(examNo, directorId);
                 if(isDirectorExists){
                     List<ExamExamineeListDto> examExamineeListDtos = new ArrayList<>();
                     List<ExamExaminee> examExaminees = examExamineeRepository.findByExamNo(examNo);
@@ -193,11 +154,8 @@ public class DirectorService {
     @Transactional
     public ExamExamineeDto getExamExaminee(Long examNo, Long examineeNo, String authority, String directorId) {
         if(authority.equals("ROLE_DIRECTOR")){
-            Optional<Exam> exam = examRepository.findById(examNo);
-            if(exam.isPresent()){
-                List<ExamDirector> examDirectors = exam.get().getExamDirector();
-                boolean isDirectorExists = examDirectors.stream()
-                        .anyMatch(examDirector -> examDirector.getDirector().getId().equals(directorId));
+            if(examRepository.existsById(examNo)){
+                boolean isDirectorExists = examDirectorAccessIndex.isAssigned(examNo, directorId);
                 if(isDirectorExists){
                     Optional<ExamExaminee> examExaminee = Optional.ofNullable(examExamineeRepository.findByExamNoAndExamineeNo(examNo, examineeNo));
                     if(examExaminee.isEmpty()){
@@ -221,17 +179,8 @@ public class DirectorService {
     @Transactional
     public ExamStatusDto getExamStatus(Long examNo, String authority, String directorId) {
         if(authority.equals("ROLE_DIRECTOR")){
-            Exam exam = examRepository.findById(examNo)
-                    .orElseThrow(() -> new IllegalArgumentException("해당 시험은 없습니다."));
-
-            int examineeCnt = examExamineeRepository.countByExamineeNo(examNo);
-            int attendanceCnt = examExamineeRepository.countByAttendance(examNo);
-            int documentCnt = examExamineeRepository.countByDocument(examNo);
-
-            // 감독관 자신의 시험 출석 조회 여부(했으면 1, 안했으면 0)
-            boolean directorAttendance = examDirectorRepository.findByDirectorIdAndExamNo(directorId, examNo);
-
-            return new ExamStatusDto(examineeCnt, attendanceCnt, documentCnt, directorAttendance);
+            // 응시자 수, 출석(정시/지각), 서류, 보상 대상 수와 감독관 자신의 도착 인증 여부를 메모리 카운터에서 조회
+            return examStatusCounter.getStatus(examNo, directorId);
         }
         else{
             throw new IllegalArgumentException("접근 권한이 없습니다.");
@@ -245,39 +194,31 @@ public class DirectorService {
         if(authority.equals("ROLE_DIRECTOR")){
             Optional<Exam> exam = examRepository.findById(examNo);
             if(exam.isPresent()){
-                List<ExamDirector> examDirectors = exam.get().getExamDirector();
-                boolean isDirectorExists = examDirectors.stream()
-                        .anyMatch(examDirector -> examDirector.getDirector().getId().equals(directorId));
+                boolean isDirectorExists = examDirectorAccessIndex.isAssigned(examNo, directorId);
                 if(isDirectorExists){
                     Optional<ExamExaminee> examExaminee = Optional.ofNullable(examExamineeRepository.findByExamNoAndExamineeNo(examNo, examineeNo));
                     if(examExaminee.isEmpty()){
                         throw new IllegalArgumentException("해당 시험의 응시자가 아닙니다.");
                     }else {
+                        LocalDateTime examStartTime = exam.get().getExamDate();
+                        ExamStatusCounter.Snapshot before = ExamStatusCounter.Snapshot.of(examExaminee.get(), examStartTime);
+                        boolean attendedBefore = Boolean.TRUE.equals(examExaminee.get().getAttendance());
 
                         examExaminee.get().updateAttendanceTime(LocalDateTime.now());
                         examExamineeRepository.save(examExaminee.get());
 
                         // 응시자의 출석 시간과 시험 시작 시간 비교
                         LocalDateTime examineeAttendanceTime =examExaminee.get().getAttendanceTime();
-                        LocalDateTime examStartTime = exam.get().getExamDate();
-                        // 응시자의 출석 시간이 더 빠름(지각x)
-                        if(examineeAttendanceTime.isBefore(examStartTime)){
-                            Boolean attendance = true;
-                            Boolean compensation = false;
-                            String compensationType = null;
-
-                            CheckAttendanceDto checkAttendanceDto = new CheckAttendanceDto(LocalDateTime.now(), attendance, compensation, compensationType);
-                            examExaminee.get().updateAttendace(checkAttendanceDto);
-                            return checkAttendanceDto;
-                        }else{
-                            Boolean attendance = true;
-                            Boolean compensation = true;
-                            String compensationType = "지각";
-
-                            CheckAttendanceDto checkAttendanceDto = new CheckAttendanceDto(LocalDateTime.now(), attendance, compensation, compensationType);
-                            examExaminee.get().updateAttendace(checkAttendanceDto);
-                            return checkAttendanceDto;
+                        CheckAttendanceDto checkAttendanceDto = toCheckAttendanceDto(examineeAttendanceTime, examStartTime);
+                        examExaminee.get().updateAttendace(checkAttendanceDto);
+                        ExamStatusCounter.Snapshot after = ExamStatusCounter.Snapshot.of(examExaminee.get(), examStartTime);
+                        examStatusCounter.record(examNo, before, after);
+                        dashboardDailyRollup.recordCompensation(examStartTime, before, after);
+                        // 도착 분포는 처음 출석한 시간만 기록
+                        if (!attendedBefore) {
+                            examArrivalHistogram.recordArrival(examNo, examExaminee.get().getNo(), examineeAttendanceTime, !examineeAttendanceTime.isBefore(examStartTime));
                         }
+                        return checkAttendanceDto;
                     }
                 } else {
                     throw new IllegalArgumentException("감독 권한이 없는 사람입니다.");
@@ -292,15 +233,105 @@ public class DirectorService {
 
     }
 
+    // 일괄 출석 확인
+    // 시험 시작 직전에 여러 응시자를 한 번에 출석 처리 (권한 확인 1회, 응시자 조회 1회, 배치 저장)
+    @Transactional
+    public List<BulkAttendanceResultDto> checkAttendanceBulk(Long examNo, BulkAttendanceRequestDto bulkAttendanceRequestDto, String authority, String directorId) {
+        if(authority.equals("ROLE_DIRECTOR")){
+            Exam exam = examRepository.findById(examNo)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 시험은 없습니다."));
+            boolean isDirectorExists = examDirectorAccessIndex.isAssigned(examNo, directorId);
+            if(!isDirectorExists){
+                throw new IllegalArgumentException("감독 권한이 없는 사람입니다.");
+            }
+
+            List<Long> examineeNos = bulkAttendanceRequestDto.getExamineeNos() == null
+                    ? Collections.emptyList() : bulkAttendanceRequestDto.getExamineeNos();
+            List<String> examineeCodes = bulkAttendanceRequestDto.getExamineeCodes() == null
+                    ? Collections.emptyList() : bulkAttendanceRequestDto.getExamineeCodes();
+            if(examineeNos.isEmpty() && examineeCodes.isEmpty()){
+                throw new IllegalArgumentException("출석 확인할 응시자가 없습니다.");
+            }
+            if(examineeNos.size() + examineeCodes.size() > MAX_BULK_ATTENDANCE_SIZE){
+                throw new IllegalArgumentException("한 번에 " + MAX_BULK_ATTENDANCE_SIZE + "명까지 출석 확인할 수 있습니다.");
+            }
+
+            // 요청된 응시자들을 한 번에 조회
+            Map<Long, ExamExaminee> examineesByNo = new HashMap<>();
+            if(!examineeNos.isEmpty()){
+                for(ExamExaminee examExaminee : examExamineeRepository.findByExamNoAndExamineeNoIn(examNo, new HashSet<>(examineeNos))){
+                    examineesByNo.put(examExaminee.getExaminee().getNo(), examExaminee);
+                }
+            }
+            Map<String, ExamExaminee> examineesByCode = new HashMap<>();
+            if(!examineeCodes.isEmpty()){
+                for(ExamExaminee examExaminee : examExamineeRepository.findByExamNoAndExamineeCodeIn(examNo, new HashSet<>(examineeCodes))){
+                    examineesByCode.put(examExaminee.getExamineeCode(), examExaminee);
+                }
+            }
+
+            // 같은 요청 안에서는 같은 출석 시간으로 지각 여부 판단
+            LocalDateTime now = LocalDateTime.now();
+            List<BulkAttendanceResultDto> results = new ArrayList<>();
+            List<ExamExaminee> checkedExaminees = new ArrayList<>();
+            Set<Long> checkedNos = new HashSet<>();
+            for(Long examineeNo : examineeNos){
+                results.add(checkAttendanceItem(examNo, examineesByNo.get(examineeNo), examineeNo, null, exam.getExamDate(), now, checkedNos, checkedExaminees));
+            }
+            for(String examineeCode : examineeCodes){
+                results.add(checkAttendanceItem(examNo, examineesByCode.get(examineeCode), null, examineeCode, exam.getExamDate(), now, checkedNos, checkedExaminees));
+            }
+
+            examExamineeRepository.saveAll(checkedExaminees);
+            return results;
+        }
+        else{
+            throw new IllegalArgumentException("접근 권한이 없습니다.");
+        }
+    }
+
+    // 일괄 출석의 응시자 한 명 처리
+    private BulkAttendanceResultDto checkAttendanceItem(Long examNo, ExamExaminee examExaminee, Long examineeNo, String examineeCode, LocalDateTime examStartTime,
+                                                        LocalDateTime now, Set<Long> checkedNos, List<ExamExaminee> checkedExaminees) {
+        if(examExaminee == null){
+            return BulkAttendanceResultDto.fail(examineeNo, examineeCode, "해당 시험의 응시자가 아닙니다.");
+        }
+        Long no = examExaminee.getExaminee().getNo();
+        String code = examExaminee.getExamineeCode();
+        if(!checkedNos.add(examExaminee.getNo())){
+            return BulkAttendanceResultDto.fail(no, code, "요청에 중복된 응시자입니다.");
+        }
+        if(Boolean.TRUE.equals(examExaminee.getAttendance())){
+            return BulkAttendanceResultDto.fail(no, code, "이미 출석이 확인된 응시자입니다.");
+        }
+
+        ExamStatusCounter.Snapshot before = ExamStatusCounter.Snapshot.of(examExaminee, examStartTime);
+        CheckAttendanceDto checkAttendanceDto = toCheckAttendanceDto(now, examStartTime);
+        examExaminee.updateAttendanceTime(now);
+        examExaminee.updateAttendace(checkAttendanceDto);
+        checkedExaminees.add(examExaminee);
+        ExamStatusCounter.Snapshot after = ExamStatusCounter.Snapshot.of(examExaminee, examStartTime);
+        examStatusCounter.record(examNo, before, after);
+        dashboardDailyRollup.recordCompensation(examStartTime, before, after);
+        examArrivalHistogram.recordArrival(examNo, examExaminee.getNo(), now, !now.isBefore(examStartTime));
+        return BulkAttendanceResultDto.success(no, code, checkAttendanceDto);
+    }
+
+    // 응시자의 출석 시간과 시험 시작 시간 비교 (시작 시간 이후면 지각으로 보상 대상)
+    private CheckAttendanceDto toCheckAttendanceDto(LocalDateTime attendanceTime, LocalDateTime examStartTime) {
+        if(attendanceTime.isBefore(examStartTime)){
+            return new CheckAttendanceDto(attendanceTime, true, false, null);
+        }
+        return new CheckAttendanceDto(attendanceTime, true, true, "지각");
+    }
+
     // 서류 제출 확인
     @Transactional
     public CheckDocumentDto checkDocument(Long examNo, Long examineeNo, DocumentRequestDto documentRequestDto, String authority, String directorId) {
         if(authority.equals("ROLE_DIRECTOR")){
             Optional<Exam> exam = examRepository.findById(examNo);
             if(exam.isPresent()){
-                List<ExamDirector> examDirectors = exam.get().getExamDirector();
-                boolean isDirectorExists = examDirectors.stream()
-                        .anyMatch(examDirector -> examDirector.getDirector().getId().equals(directorId));
+                boolean isDirectorExists = examDirectorAccessIndex.isAssigned(examNo, directorId);
                 if(isDirectorExists){
                     Optional<ExamExaminee> examExaminee = Optional.ofNullable(examExamineeRepository.findByExamNoAndExamineeNo(examNo, examineeNo));
                     if(examExaminee.isEmpty()){
@@ -308,6 +339,7 @@ public class DirectorService {
                     }else {
                         // 출석이 true인 응시자 중에서 서류 제출 여부 확인하기
                         if(examExaminee.get().getAttendance() == true){
+                            ExamStatusCounter.Snapshot before = ExamStatusCounter.Snapshot.of(examExaminee.get(), exam.get().getExamDate());
                             // 서류 있음
                             System.out.println(documentRequestDto.getDocument());
                             if(documentRequestDto.getDocument().toString().equals("서류_제출_완료")){
@@ -315,8 +347,15 @@ public class DirectorService {
                                 Boolean compensation = false;
                                 String compensationType = "";
 
+                                boolean submittedBefore = examExaminee.get().getDocument() == ExamExaminee.DocumentStatus.서류_제출_완료;
                                 CheckDocumentDto checkDocumentDto = new CheckDocumentDto(document, compensation, compensationType);
                                 examExaminee.get().updateDocument(checkDocumentDto);
+                                ExamStatusCounter.Snapshot after = ExamStatusCounter.Snapshot.of(examExaminee.get(), exam.get().getExamDate());
+                                examStatusCounter.record(examNo, before, after);
+                                dashboardDailyRollup.recordCompensation(exam.get().getExamDate(), before, after);
+                                if (!submittedBefore) {
+                                    examArrivalHistogram.recordDocument(examNo, examExaminee.get().getNo(), LocalDateTime.now());
+                                }
                                 return checkDocumentDto;
                             }else{
                                 // 서류가 없으면 서류 미제출, 보상여부 true, 보상타입 서류 미제출로
@@ -326,6 +365,9 @@ public class DirectorService {
 
                                 CheckDocumentDto checkDocumentDto = new CheckDocumentDto(document, compensation, compensationType);
                                 examExaminee.get().updateDocument(checkDocumentDto);
+                                ExamStatusCounter.Snapshot after = ExamStatusCounter.Snapshot.of(examExaminee.get(), exam.get().getExamDate());
+                                examStatusCounter.record(examNo, before, after);
+                                dashboardDailyRollup.recordCompensation(exam.get().getExamDate(), before, after);
                                 return checkDocumentDto;
                             }
 
@@ -351,36 +393,28 @@ public class DirectorService {
     // 요청 한 번 했으면 더 안되게 만들어야함
     @Transactional
     public void requestExamAssignment(Long examNo, String authority, String directorId, Long centerNo) {
-        System.out.println(directorId);
         if(authority.equals("ROLE_DIRECTOR")){
-            // 자기 센터 시험만 신청 가능하니까
-            List<Exam> exams = examRepository.findByCenterNo(centerNo);
+            // 자기 센터 시험만 신청 가능하니까 시험 번호와 센터 번호로 바로 조회
+            Exam exam = examRepository.findByNoAndCenterNo(examNo, centerNo);
+            if(exam == null) {
+                throw new IllegalArgumentException("현재 센터에는 이 시험이 없습니다.");
+            }
+            // 이미 정원이 찬 시험은 요청을 받지 않음 (최종 정원 확인은 승인할 때 조건부 update로)
+            if(exam.getConfirmedDirectorCnt() >= exam.getMaxDirector()) {
+                throw new IllegalArgumentException("감독관 정원이 모두 찬 시험입니다.");
+            }
             Director director = directorRepository.findById(directorId);
-            if(exams == null) {
-                throw new IllegalArgumentException("현재 센터에 시험이 없습니다.");
-            }else {
-                // 시험 있으면 배정 요청
-                boolean examFound = false;
-                for (Exam exam : exams){
-                    if(exam.getNo() == examNo){
-                        int assignedExamDirector = examDirectorRepository.findByExamNoAndDirectorId(examNo, directorId);
-                        if(assignedExamDirector == 0){
-                            ExamDirector examDirector = new ExamDirector();
-                            examDirector.setExam(exam, director);
-                            examDirectorRepository.save(examDirector);
-                            examFound = true;
-                            break;
-                        } else {
-                            throw new IllegalArgumentException("이미 배정 요청한 시험입니다.");
-                        }
-                    }else{
-                        continue;
-                    }
-                }
-                if(!examFound){
-                    throw new IllegalArgumentException("현재 센터에는 이 시험이 없습니다.");
-                }
+
+            ExamDirector examDirector = new ExamDirector();
+            examDirector.setExam(exam, director);
+            // (exam_no, director_no) 유니크 제약으로 동시에 요청해도 한 번만 저장됨
+            try {
+                examDirectorRepository.saveAndFlush(examDirector);
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalArgumentException("이미 배정 요청한 시험입니다.");
             }
+            examDirectorAccessIndex.evict(examNo, directorId);
+            directorDailySchedule.refreshDirector(directorId);
         } else{
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
@@ -393,18 +427,20 @@ public class DirectorService {
         if(authority.equals("ROLE_DIRECTOR")){
             Exam exam = examRepository.findById(examNo).orElse(null);
             if(exam != null){
-                List<ExamDirector> examDirectors = exam.getExamDirector();
-                boolean isDirectorExists = examDirectors.stream()
-                        .anyMatch(examDirector -> examDirector.getDirector().getId().equals(directorId));
+                boolean isDirectorExists = examDirectorAccessIndex.isAssigned(examNo, directorId);
                 if(isDirectorExists){
                     ExamExaminee examExaminee = examExamineeRepository.findByExamNoAndExamineeNo(examNo, examineeNo);
                     if(examExaminee != null){
                         if(compensationApplyDto.getCompensationType().isEmpty()){
                             throw new IllegalArgumentException("보상타입이 없습니다.");
                         }
+                        ExamStatusCounter.Snapshot before = ExamStatusCounter.Snapshot.of(examExaminee, exam.getExamDate());
                         boolean compensation = true;
                         examExaminee.setCompensation(compensationApplyDto, compensation);
                         examExamineeRepository.save(examExaminee);
+                        ExamStatusCounter.Snapshot after = ExamStatusCounter.Snapshot.of(examExaminee, exam.getExamDate());
+                        examStatusCounter.record(examNo, before, after);
+                        dashboardDailyRollup.recordCompensation(exam.getExamDate(), before, after);
                     }
                     else {
                         throw new IllegalArgumentException("해당 시험의 응시자가 없습니다.");
@@ -432,6 +468,7 @@ public class DirectorService {
 
                 errorReport.toEntity(errorReportCreateDto, director);
                 errorReportRepository.save(errorReport);
+                dashboardDailyRollup.recordErrorReport(errorReport.getCreatedAt() != null ? errorReport.getCreatedAt() : LocalDateTime.now());
             }else {
                 throw new IllegalArgumentException(directorNo + "가 없습니다.");
             }
@@ -446,17 +483,11 @@ public class DirectorService {
         if(authority.equals("ROLE_DIRECTOR")) {
             Exam exam = examRepository.findById(examNo).orElse(null);
             if(exam != null){
-                List<ExamDirector> examDirectors = exam.getExamDirector();
-                boolean isDirectorExists = examDirectors.stream()
-                        .anyMatch(examDirector -> examDirector.getDirector().getId().equals(directorId));
+                boolean isDirectorExists = examDirectorAccessIndex.isAssigned(examNo, directorId);
                 // 자신이 감독하는 시험인지
                 if(isDirectorExists){
-                    ExamDirector currentExamDirector = examDirectors.stream()
-                            .filter(examDirector -> examDirector.getDirector().getNo() == directorNo)
-                            .findFirst()
-                            .orElse(null);
+                    ExamDirector currentExamDirector = examDirectorRepository.findByExamNoAndDirectorNo(examNo, directorNo);
 
-                    System.out.println(currentExamDirector.getNo()); // 아직 directorNo는 사용 안하는 중..
                     // 현재 이 시험을 감독하는 사람인지
                     if(currentExamDirector != null){
 
@@ -469,12 +500,8 @@ public class DirectorService {
                                 Double directorLatitude = directorAttendanceRequestDto.getLatitude();
                                 Double directorLongitude = directorAttendanceRequestDto.getLongitude();
 
-                                Double centerLatitude = exam.getCenter().getLatitude();
-                                Double centerLongitude = exam.getCenter().getLongitude();
-
-                                // 거리 계산
-                                Double dist = LocationDistance.distance(directorLatitude, directorLongitude ,centerLatitude, centerLongitude, "meter");
-                                if(dist > 500) { // 500m 초과이면
+                                // 센터 반경 확인
+                                if(!centerGeofence.isWithin(exam.getCenter().getNo(), directorLatitude, directorLongitude, ARRIVAL_RADIUS_METERS)) { // 500m 초과이면
                                     throw new IllegalArgumentException("센터 거리 500m내에서 인증해 주세요.");
                                 }
                                 else {
@@ -483,6 +510,7 @@ public class DirectorService {
 
                                     if(currentExamDirector.getDirectorAttendance() != true) {
                                         currentExamDirector.updateAttendance(directorAttendanceDto);
+                                        examStatusCounter.recordDirectorAttendance(examNo, directorId);
                                     } else {
                                         throw new IllegalArgumentException(exam.getNo() + "번 시험은 이미 도착 인증을 했습니다.");
                                     }
@@ -512,28 +540,20 @@ public class DirectorService {
     public DirectorAttendanceDto attendanceDirectorHome(DirectorAttendanceRequestDto directorAttendacneRequestDto, String authority, String directorId) {
         if(authority.equals("ROLE_DIRECTOR")){
 
-            LocalDateTime startOfToday = LocalDateTime.of(LocalDate.now(), java.time.LocalTime.MIDNIGHT);
-            LocalDateTime endOfToday = LocalDateTime.of(LocalDate.now().plusDays(1), java.time.LocalTime.MIDNIGHT.minusNanos(1));
-            // 감독관이 감독하는 시험들 중에서 오늘 시험 리스트 가져오기
-            List<Exam> exams = examRepository.findByDirectorIdToday(directorId, startOfToday, endOfToday);
+            // 감독관이 감독하는 시험들 중에서 오늘 시험 리스트 가져오기 (메모리에 만들어 둔 오늘 일정)
+            List<DirectorScheduleDto> exams = directorDailySchedule.getTodaySchedules(directorId);
             if(exams.isEmpty()) {
                 throw new IllegalArgumentException("감독관이 감독할 오늘 시험은 없습니다.");
             } else {
 
                 LocalDateTime now = LocalDateTime.now();
-                LocalDateTime closestExamTime = null;
-                Exam closestExam = null;
-
-                for(Exam exam : exams){
-                    LocalDateTime examDate = exam.getExamDate();
-                    // 오늘 시험 중 현재 시간 보다 늦고 그 중 가장 빠른 시험 찾기
-                    if(examDate.isAfter(now) && (closestExam == null || examDate.isBefore(closestExamTime))) {
-                        closestExam = exam;
-                        closestExamTime = examDate;
-                    }
+                // 오늘 시험 중 현재 시간 보다 늦고 그 중 가장 빠른 시험 찾기
+                DirectorScheduleDto closestExam = directorDailySchedule.nextExam(directorId, now);
+                if(closestExam == null) {
+                    throw new IllegalArgumentException("오늘 남은 시험이 없습니다.");
                 }
 
-                Duration duration = Duration.between(now, closestExamTime);
+                Duration duration = Duration.between(now, closestExam.getExamDate());
                 if(duration.toHours() >= 1) {
                     throw new IllegalArgumentException("시험 시작 시간 한시간 전부터 출석 인증이 가능합니다");
                 } else {
@@ -542,24 +562,23 @@ public class DirectorService {
                         Double directorLatitude = directorAttendacneRequestDto.getLatitude();
                         Double directorLongitude = directorAttendacneRequestDto.getLongitude();
 
-                        Double centerLatitude = closestExam.getCenter().getLatitude();
-                        Double centerLongitude = closestExam.getCenter().getLongitude();
-
-                        // 거리 계산
-                        Double dist = LocationDistance.distance(directorLatitude, directorLongitude ,centerLatitude, centerLongitude, "meter");
-                        if(dist > 500) { // 500m 초과이면
+                        if(closestExam.getCenterPoint() == null) {
+                            throw new IllegalArgumentException("센터 위치 정보가 없습니다.");
+                        }
+                        // 센터 반경 확인 (오늘 일정에 미리 계산해 둔 센터 좌표 사용)
+                        if(!closestExam.getCenterPoint().isWithin(directorLatitude, directorLongitude, ARRIVAL_RADIUS_METERS)) { // 500m 초과이면
                             throw new IllegalArgumentException("센터 거리 500m내에서 인증해 주세요.");
                         }
                         else {
-                            System.out.println(closestExam.getNo());
                             Boolean directorAttendance = true;
                             DirectorAttendanceDto directorAttendanceDto = new DirectorAttendanceDto(directorAttendance);
 
-                            ExamDirector currentExamDirector = examDirectorRepository.findByDirectorAndExam(directorId, closestExam.getNo());
+                            ExamDirector currentExamDirector = examDirectorRepository.findByDirectorAndExam(directorId, closestExam.getExamNo());
                             if(currentExamDirector.getDirectorAttendance() != true) {
                                 currentExamDirector.updateAttendance(directorAttendanceDto);
+                                examStatusCounter.recordDirectorAttendance(closestExam.getExamNo(), directorId);
                             } else {
-                                throw new IllegalArgumentException(closestExam.getNo() + "번 시험은 이미 도착 인증을 했습니다.");
+                                throw new IllegalArgumentException(closestExam.getExamNo() + "번 시험은 이미 도착 인증을 했습니다.");
                             }
 
                             return directorAttendanceDto;
@@ -574,6 +593,30 @@ public class DirectorService {
         }
     }
 
+    // 현재 위치 기준 오늘 감독할 시험의 센터 중 반경 안에 있는 센터와 전체 센터 중 가장 가까운 센터
+    public NearbyCenterDto findNearbyCenters(String authority, String directorId, Double latitude, Double longitude, Double radiusMeters) {
+        if(!authority.equals("ROLE_DIRECTOR")) {
+            throw new IllegalArgumentException("접근 권한이 없습니다.");
+        }
+        if(latitude == null || longitude == null) {
+            throw new IllegalArgumentException("위치를 인식할 수 없습니다.");
+        }
+        double radius = radiusMeters != null ? radiusMeters : ARRIVAL_RADIUS_METERS;
+        if(radius <= 0) {
+            throw new IllegalArgumentException("반경은 0보다 커야 합니다.");
+        }
+
+        Set<Long> todayCenterNos = new LinkedHashSet<>();
+        for (DirectorScheduleDto schedule : directorDailySchedule.getTodaySchedules(directorId)) {
+            if (schedule.getCenterNo() != null) {
+                todayCenterNos.add(schedule.getCenterNo());
+            }
+        }
+        return new NearbyCenterDto(radius,
+                centerGeofence.centersWithin(todayCenterNos, latitude, longitude, radius),
+                centerGeofence.nearestCenter(latitude, longitude));
+    }
+
     // 내가 속한 센터에 내가 아직 신청 요청 안 보내고, 꽉 차지 않는 시험 +
     // 내가 신청했지만 승인 안된 시험 목록
     @Transactional
@@ -581,29 +624,18 @@ public class DirectorService {
         if (authority.equals("ROLE_DIRECTOR")) {
 
             List<UnappliedAndUnapprovedExamListDto> unappliedAndUnapprovedExamListDtos = new ArrayList<>();
-            // 내가 속한 센터이 시험들
-            List<Exam> centerExams = examRepository.findByCenterNoContainingDate(centerNo, year, month, day);
-
-            for(Exam exam : centerExams){
-                int cntConfirmDirector = examDirectorRepository.countByConfirm(exam.getNo());
-                // 감독관이 시험 배정 요청 했는지 (했으면 0, 안했으면 1)
-                boolean unapplied = examDirectorRepository.findByDirectorIdAndExam(exam.getNo(), directorId);
-                if(unapplied) {
-                    // 현재 시험에서 배정 요청이 승인된 감독관 수
-                    int confirmedDirectorCnt = examDirectorRepository.countByConfirm(exam.getNo());
+            // 내가 속한 센터의 시험들 (승인된 감독관 수, 내 배정 요청 상태 포함)
+            List<ExamApplyStatusDto> centerExams = examRepository.findApplyStatusByCenterNoContainingDate(centerNo, directorId, year, month, day);
 
+            for(ExamApplyStatusDto exam : centerExams){
+                if(exam.isUnapplied()) {
                     // 최대 배정 가능한 감독관 수와 비교해서 배정이 가능하면(꽉 차지 않았으면)
-                    if(exam.getMaxDirector() > confirmedDirectorCnt) {
-                        unappliedAndUnapprovedExamListDtos.add(new UnappliedAndUnapprovedExamListDto(exam, "미배치", cntConfirmDirector));
+                    if(exam.isNotFull()) {
+                        unappliedAndUnapprovedExamListDtos.add(new UnappliedAndUnapprovedExamListDto(exam, "미배치"));
                     }
-                } else {
-                    // 배정 요청했을 때의 현재 시험 감독관 찾기
-                    ExamDirector currentExamDirector = examDirectorRepository.findByDirectorAndExam(directorId, exam.getNo());
-
+                } else if(exam.getMyConfirm().equals("대기") || exam.getMyConfirm().equals("거절")) {
                     // 승인이 안됨
-                    if(currentExamDirector.getConfirm().toString().equals("대기") || currentExamDirector.getConfirm().toString().equals("거절")) {
-                        unappliedAndUnapprovedExamListDtos.add(new UnappliedAndUnapprovedExamListDto(exam, currentExamDirector.getConfirm().toString(), cntConfirmDirector));
-                    }
+                    unappliedAndUnapprovedExamListDtos.add(new UnappliedAndUnapprovedExamListDto(exam, exam.getMyConfirm()));
                 }
             }
             return unappliedAndUnapprovedExamListDtos;
@@ -619,21 +651,13 @@ public class DirectorService {
         if (authority.equals("ROLE_DIRECTOR")) {
 
             List<PossibleToApplyExamListDto> possibleToApplyExamListDtos = new ArrayList<>();
-            // 내가 속한 센터의 시험들
-            List<Exam> centerExams = examRepository.findByCenterNoContainingDate(centerNo, year, month, day);
+            // 내가 속한 센터의 시험들 (승인된 감독관 수, 내 배정 요청 상태 포함)
+            List<ExamApplyStatusDto> centerExams = examRepository.findApplyStatusByCenterNoContainingDate(centerNo, directorId, year, month, day);
 
-            for(Exam exam : centerExams){
-                int cntConfirmDirector = examDirectorRepository.countByConfirm(exam.getNo());
-                // 감독관이 시험 배정 요청 했는지 (했으면 0, 안했으면 1)
-                boolean unapplied = examDirectorRepository.findByDirectorIdAndExam(exam.getNo(), directorId);
-                if(unapplied) {
-                    // 현재 시험에서 배정 요청이 승인된 감독관 수
-                    int confirmedDirectorCnt = examDirectorRepository.countByConfirm(exam.getNo());
-
-                    // 최대 배정 가능한 감독관 수와 비교해서 배정이 가능하면(꽉 차지 않았으면)
-                    if(exam.getMaxDirector() > confirmedDirectorCnt) {
-                        possibleToApplyExamListDtos.add(new PossibleToApplyExamListDto(exam, cntConfirmDirector));
-                    }
+            for(ExamApplyStatusDto exam : centerExams){
+                // 배정 요청을 안 했고, 최대 배정 가능한 감독관 수보다 승인된 감독관이 적으면(꽉 차지 않았으면)
+                if(exam.isUnapplied() && exam.isNotFull()) {
+                    possibleToApplyExamListDtos.add(new PossibleToApplyExamListDto(exam));
                 }
             }
             return possibleToApplyExamListDtos;
@@ -0,0 +1,290 @@
+package multicampussa.laams.director.service;
+
+import lombok.RequiredArgsConstructor;
+import multicampussa.laams.global.CustomExceptions;
+import multicampussa.laams.manager.domain.exam.Exam;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.domain.examinee.ExamExaminee;
+import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
+import multicampussa.laams.manager.dto.exam.response.ExamArrivalResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시험별 분 단위 응시자 도착 분포 (정시 출석, 지각, 서류 제출).
+ * 시험 시작 BEFORE_MINUTES분 전부터 종료까지 1분 간격 구간을 int 배열 하나에 담고, 출석/서류 확인 커밋 후 해당 구간만 1 올린다.
+ * 시험은 SLOTS개 고정 슬롯을 돌아가며 쓰고, 슬롯이 다 차면 가장 먼저 들어온 시험부터 밀려난다.
+ * 처음 조회할 때 응시자 출석 시간으로 한 번 채운다 (서류 제출 시각은 저장되지 않으므로 출석 시간 구간에 넣음).
+ * 채우기는 분포를 맵에 먼저 넣은 뒤 분포 잠금 안에서 하고, 응시자(exam_examinee 번호)별로 한 번만 세므로
+ * DB 조회 전후 어느 쪽에 커밋된 출석이든 빠지거나 두 번 세지 않는다. 트랜잭션 밖(조회 API)에서 호출해야 DB 조회가 최신 커밋을 본다.
+ * 커밋 후 반영할 기록은 스레드별로 재사용하는 버퍼에 모아 두므로 출석 확인마다 새 객체를 만들지 않는다
+ * (트랜잭션마다 Spring이 동기화 등록 항목 하나를 만드는 것은 예외).
+ */
+@Component
+@RequiredArgsConstructor
+public class ExamArrivalHistogram {
+
+    private static final int BEFORE_MINUTES = 60;
+    private static final int SLOTS = 256;
+
+    private static final int ON_TIME = 0;
+    private static final int LATE = 1;
+    private static final int DOCUMENT = 2;
+    private static final int KINDS = 3;
+
+    private final ExamRepository examRepository;
+    private final ExamExamineeRepository examExamineeRepository;
+
+    private final Histogram[] slots = new Histogram[SLOTS];
+    private final Map<Long, Histogram> histograms = new ConcurrentHashMap<>();
+    private int nextSlot;
+
+    // 트랜잭션 안에서 기록한 출석/서류 확인 (커밋 후 한 번에 반영, 스레드마다 하나를 계속 재사용)
+    private final ThreadLocal<PendingRecords> pending = ThreadLocal.withInitial(PendingRecords::new);
+
+    // 응시자 출석 반영 (이미 센 응시자는 다시 세지 않음)
+    public void recordArrival(Long examNo, Long examExamineeNo, LocalDateTime attendanceTime, boolean late) {
+        record(examNo, examExamineeNo, attendanceTime, late ? LATE : ON_TIME);
+    }
+
+    // 서류 제출 완료 반영
+    public void recordDocument(Long examNo, Long examExamineeNo, LocalDateTime checkedAt) {
+        record(examNo, examExamineeNo, checkedAt, DOCUMENT);
+    }
+
+    // 시험 시간 변경, 삭제 (다음 조회 때 다시 채움)
+    public void evict(Long examNo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    histograms.remove(examNo);
+                }
+            });
+        } else {
+            histograms.remove(examNo);
+        }
+    }
+
+    public ExamArrivalResponse getHistogram(Long examNo) {
+        Histogram histogram = histograms.get(examNo);
+        if (histogram == null) {
+            histogram = install(examNo);
+        }
+
+        int[] counts;
+        synchronized (histogram) {
+            if (!histogram.seeded) {
+                seed(histogram);
+            }
+            counts = histogram.counts.clone();
+        }
+        List<ExamArrivalResponse.Bucket> buckets = new ArrayList<>(histogram.bucketCnt);
+        for (int i = 0; i < histogram.bucketCnt; i++) {
+            int offset = i * KINDS;
+            buckets.add(new ExamArrivalResponse.Bucket(i - BEFORE_MINUTES, histogram.examDate.plusMinutes(i - BEFORE_MINUTES),
+                    counts[offset + ON_TIME], counts[offset + LATE], counts[offset + DOCUMENT]));
+        }
+        return new ExamArrivalResponse(examNo, histogram.examDate, histogram.runningTime, buckets);
+    }
+
+    // 롤백된 변경이 분포에 반영되지 않도록 커밋 후에 반영
+    private void record(Long examNo, Long examExamineeNo, LocalDateTime time, int kind) {
+        if (examNo == null || examExamineeNo == null || time == null) {
+            return;
+        }
+        long epochMinute = epochMinute(time);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingRecords records = pending.get();
+            records.add(examNo, examExamineeNo, epochMinute, kind);
+            if (!records.registered) {
+                TransactionSynchronizationManager.registerSynchronization(records);
+                records.registered = true;
+            }
+        } else {
+            apply(examNo, examExamineeNo, epochMinute, kind);
+        }
+    }
+
+    private void apply(Long examNo, long examExamineeNo, long epochMinute, int kind) {
+        // 아직 조회된 적 없는 시험은 처음 조회할 때 DB에서 채움
+        Histogram histogram = histograms.get(examNo);
+        if (histogram != null) {
+            synchronized (histogram) {
+                histogram.increment(examExamineeNo, epochMinute, kind);
+            }
+        }
+    }
+
+    // 빈 분포를 먼저 맵에 넣어서 DB 조회 중에 커밋된 출석도 분포에 들어오게 함
+    private Histogram install(Long examNo) {
+        Exam exam = examRepository.findById(examNo)
+                .orElseThrow(() -> new CustomExceptions.ExamNotFoundException(examNo + "번 시험은 존재하지 않습니다."));
+        Histogram created = new Histogram(examNo, exam.getExamDate(), exam.getRunningTime());
+
+        synchronized (slots) {
+            Histogram existing = histograms.get(examNo);
+            if (existing != null) {
+                return existing;
+            }
+            Histogram evicted = slots[nextSlot];
+            if (evicted != null) {
+                histograms.remove(evicted.examNo, evicted);
+            }
+            slots[nextSlot] = created;
+            nextSlot = (nextSlot + 1) % SLOTS;
+            histograms.put(examNo, created);
+            return created;
+        }
+    }
+
+    // 분포 잠금을 잡은 상태에서 호출 (그동안 들어온 커밋 후 반영은 잠금을 기다렸다가 중복 없이 더해짐)
+    private void seed(Histogram histogram) {
+        for (ExamExaminee examExaminee : examExamineeRepository.findByExamNo(histogram.examNo)) {
+            LocalDateTime attendanceTime = examExaminee.getAttendanceTime();
+            if (!Boolean.TRUE.equals(examExaminee.getAttendance()) || attendanceTime == null) {
+                continue;
+            }
+            long epochMinute = epochMinute(attendanceTime);
+            histogram.increment(examExaminee.getNo(), epochMinute, attendanceTime.isBefore(histogram.examDate) ? ON_TIME : LATE);
+            if (examExaminee.getDocument() == ExamExaminee.DocumentStatus.서류_제출_완료) {
+                histogram.increment(examExaminee.getNo(), epochMinute, DOCUMENT);
+            }
+        }
+        histogram.seeded = true;
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    // 한 트랜잭션에서 기록한 반영 목록 (배열은 스레드별로 재사용하고 부족할 때만 늘림)
+    private class PendingRecords implements TransactionSynchronization {
+        private Long[] examNos = new Long[16];
+        private long[] examExamineeNos = new long[16];
+        private long[] epochMinutes = new long[16];
+        private int[] kinds = new int[16];
+        private int size;
+        private boolean registered;
+
+        private void add(Long examNo, long examExamineeNo, long epochMinute, int kind) {
+            if (size == kinds.length) {
+                int capacity = size * 2;
+                examNos = Arrays.copyOf(examNos, capacity);
+                examExamineeNos = Arrays.copyOf(examExamineeNos, capacity);
+                epochMinutes = Arrays.copyOf(epochMinutes, capacity);
+                kinds = Arrays.copyOf(kinds, capacity);
+            }
+            examNos[size] = examNo;
+            examExamineeNos[size] = examExamineeNo;
+            epochMinutes[size] = epochMinute;
+            kinds[size] = kind;
+            size++;
+        }
+
+        @Override
+        public void afterCommit() {
+            for (int i = 0; i < size; i++) {
+                apply(examNos[i], examExamineeNos[i], epochMinutes[i], kinds[i]);
+            }
+        }
+
+        // 커밋/롤백 모두 비움
+        @Override
+        public void afterCompletion(int status) {
+            Arrays.fill(examNos, 0, size, null);
+            size = 0;
+            registered = false;
+        }
+    }
+
+    // 시험 하나의 구간별 건수 (counts[구간 * KINDS + 종류], 갱신은 배열 값만 바꿈, 분포 잠금 안에서만 접근)
+    private static class Histogram {
+        private final Long examNo;
+        private final LocalDateTime examDate;
+        private final int runningTime;
+        private final long firstMinute;
+        private final int bucketCnt;
+        private final int[] counts;
+        // 이미 센 응시자 (출석, 서류 제출 따로)
+        private final LongSet arrived = new LongSet();
+        private final LongSet documented = new LongSet();
+        private boolean seeded;
+
+        private Histogram(Long examNo, LocalDateTime examDate, int runningTime) {
+            this.examNo = examNo;
+            this.examDate = examDate;
+            this.runningTime = runningTime;
+            this.firstMinute = epochMinute(examDate) - BEFORE_MINUTES;
+            this.bucketCnt = BEFORE_MINUTES + Math.max(runningTime, 1);
+            this.counts = new int[bucketCnt * KINDS];
+        }
+
+        // 범위 밖 시각은 처음/마지막 구간에 넣음
+        private void increment(long examExamineeNo, long epochMinute, int kind) {
+            LongSet counted = kind == DOCUMENT ? documented : arrived;
+            if (!counted.add(examExamineeNo)) {
+                return;
+            }
+            long bucket = epochMinute - firstMinute;
+            int index = (int) Math.max(0, Math.min(bucketCnt - 1, bucket));
+            counts[index * KINDS + kind]++;
+        }
+    }
+
+    // 양수 번호 집합 (개방 주소법, 0은 빈 칸, 절반 넘게 차면 두 배로 늘림)
+    private static class LongSet {
+        private long[] table = new long[64];
+        private int size;
+
+        private boolean add(long value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException("번호는 양수여야 합니다: " + value);
+            }
+            if ((size + 1) * 2 > table.length) {
+                resize();
+            }
+            int mask = table.length - 1;
+            int index = hash(value) & mask;
+            while (table[index] != 0) {
+                if (table[index] == value) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = value;
+            size++;
+            return true;
+        }
+
+        private void resize() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            int mask = table.length - 1;
+            for (long value : old) {
+                if (value != 0) {
+                    int index = hash(value) & mask;
+                    while (table[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    table[index] = value;
+                }
+            }
+        }
+
+        // 연속된 번호가 한 곳에 몰리지 않도록 황금비 상수를 곱해서 섞음
+        private static int hash(long value) {
+            long h = value * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
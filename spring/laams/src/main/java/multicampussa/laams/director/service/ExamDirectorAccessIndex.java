@@ -0,0 +1,113 @@
+package multicampussa.laams.director.service;
+
+import lombok.RequiredArgsConstructor;
+import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (시험 no, 감독관 id) 기준 감독 권한 인덱스.
+ * 시험의 ExamDirector 목록 전체를 불러오는 대신 존재 여부 쿼리 한 번으로 확인하고,
+ * 결과는 크기가 제한된 LRU 캐시에 보관한다.
+ * 배정 요청/승인/거절, 시험 삭제 시 evict 해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExamDirectorAccessIndex {
+
+    // 캐시 최대 항목 수
+    private static final int MAX_ENTRIES = 10_000;
+
+    // 감독관 아이디 변경 등 직접 evict 하지 못한 변경을 위한 만료 시간
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final ExamDirectorRepository examDirectorRepository;
+
+    private final Map<String, CachedAccess> cache = new LinkedHashMap<String, CachedAccess>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedAccess> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // evict 될 때마다 증가, 조회 도중 evict 된 경우 오래된 결과를 캐시에 넣지 않기 위함
+    private long generation = 0;
+
+    // 이 감독관이 이 시험에 배정 요청(감독) 중인지
+    public boolean isAssigned(Long examNo, String directorId) {
+        String key = key(examNo, directorId);
+        long now = System.currentTimeMillis();
+        long loadGeneration;
+        synchronized (cache) {
+            CachedAccess cached = cache.get(key);
+            if (cached != null && cached.expiresAt > now) {
+                return cached.assigned;
+            }
+            loadGeneration = generation;
+        }
+
+        boolean assigned = examDirectorRepository.existsByExamNoAndDirectorId(examNo, directorId);
+
+        synchronized (cache) {
+            if (loadGeneration == generation) {
+                cache.put(key, new CachedAccess(assigned, now + TTL_MILLIS));
+            }
+        }
+        return assigned;
+    }
+
+    // 배정 요청이 추가/변경된 경우
+    public void evict(Long examNo, String directorId) {
+        String key = key(examNo, directorId);
+        runNowAndAfterCommit(() -> cache.remove(key));
+    }
+
+    // 시험 단위로 배정이 변경된 경우 (승인/거절, 시험 삭제)
+    public void evictExam(Long examNo) {
+        String prefix = examNo + ":";
+        runNowAndAfterCommit(() -> cache.keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+
+    public void evictAll() {
+        runNowAndAfterCommit(cache::clear);
+    }
+
+    // 트랜잭션 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록 커밋 후에도 한 번 더 지운다
+    private void runNowAndAfterCommit(Runnable eviction) {
+        evictLocked(eviction);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictLocked(eviction);
+                }
+            });
+        }
+    }
+
+    private void evictLocked(Runnable eviction) {
+        synchronized (cache) {
+            generation++;
+            eviction.run();
+        }
+    }
+
+    private static String key(Long examNo, String directorId) {
+        return examNo + ":" + directorId;
+    }
+
+    private static class CachedAccess {
+        private final boolean assigned;
+        private final long expiresAt;
+
+        private CachedAccess(boolean assigned, long expiresAt) {
+            this.assigned = assigned;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package multicampussa.laams.director.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.director.dto.director.ExamStatusCountDto;
+import multicampussa.laams.director.dto.director.ExamStatusDto;
+import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.domain.examinee.ExamExaminee;
+import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 시험별 응시자 현황 카운터 (응시자, 정시 출석, 지각, 서류 제출, 보상 대상).
+ * 처음 조회할 때 집계 쿼리 한 번으로 채우고, 이후에는 출석/서류/보상 쓰기 경로에서 커밋 후 증감한다.
+ * 시험 번호 기준으로 락을 나눠(lock striping) 서로 다른 시험의 갱신이 경합하지 않게 한다.
+ * 놓친 변경은 reconcile()이 주기적으로 DB 값으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExamStatusCounter {
+
+    private static final int STRIPES = 64;
+
+    // 이 시간 동안 조회되지 않은 시험은 카운터에서 제거
+    private static final long IDLE_MILLIS = TimeUnit.HOURS.toMillis(3);
+
+    private final ExamRepository examRepository;
+    private final ExamExamineeRepository examExamineeRepository;
+    private final ExamDirectorRepository examDirectorRepository;
+
+    private final Object[] locks = createLocks();
+    private final Map<Long, Counts> counters = new ConcurrentHashMap<>();
+
+    // 시험 현황 조회 (카운터가 없으면 DB에서 한 번 채움)
+    public ExamStatusDto getStatus(Long examNo, String directorId) {
+        Counts counts = counters.get(examNo);
+        if (counts == null) {
+            counts = seed(examNo);
+        }
+        synchronized (lockFor(examNo)) {
+            counts.lastAccess = System.currentTimeMillis();
+            return new ExamStatusDto(counts.examinee, counts.onTime, counts.late, counts.document, counts.compensation,
+                    counts.attendedDirectorIds.contains(directorId));
+        }
+    }
+
+    // 응시자 상태 변경 반영 (before: 변경 전, after: 변경 후, 신규 등록이면 before = null)
+    public void record(Long examNo, Snapshot before, Snapshot after) {
+        afterCommit(() -> {
+            Counts counts = counters.get(examNo);
+            if (counts == null) {
+                return;
+            }
+            synchronized (lockFor(examNo)) {
+                counts.apply(before, -1);
+                counts.apply(after, 1);
+            }
+        });
+    }
+
+    // 감독관 도착 인증 반영
+    public void recordDirectorAttendance(Long examNo, String directorId) {
+        afterCommit(() -> {
+            Counts counts = counters.get(examNo);
+            if (counts == null) {
+                return;
+            }
+            synchronized (lockFor(examNo)) {
+                counts.attendedDirectorIds.add(directorId);
+            }
+        });
+    }
+
+    // 시험 시간 변경, 삭제 등으로 카운터를 다시 계산해야 하는 경우
+    public void evict(Long examNo) {
+        afterCommit(() -> counters.remove(examNo));
+    }
+
+    // 증감 누락(롤백 경합, 관리자 수정 등)을 DB 기준으로 보정
+    @Scheduled(fixedDelay = 60_000)
+    public void reconcile() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, Counts> entry : counters.entrySet()) {
+            Long examNo = entry.getKey();
+            if (now - entry.getValue().lastAccess > IDLE_MILLIS) {
+                counters.remove(examNo);
+                continue;
+            }
+            Counts fresh = load(examNo);
+            if (fresh == null) {
+                counters.remove(examNo);
+                continue;
+            }
+            synchronized (lockFor(examNo)) {
+                Counts counts = entry.getValue();
+                if (!counts.sameAs(fresh)) {
+                    log.info("시험 {} 현황 카운터 보정", examNo);
+                    counts.copyFrom(fresh);
+                }
+            }
+        }
+    }
+
+    private Counts seed(Long examNo) {
+        Counts loaded = load(examNo);
+        if (loaded == null) {
+            throw new IllegalArgumentException("해당 시험은 없습니다.");
+        }
+        Counts existing = counters.putIfAbsent(examNo, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private Counts load(Long examNo) {
+        if (!examRepository.existsById(examNo)) {
+            return null;
+        }
+        ExamStatusCountDto countDto = examExamineeRepository.countExamStatus(examNo);
+        Counts counts = new Counts();
+        counts.examinee = countDto.getExamineeCnt();
+        counts.onTime = countDto.getOnTimeCnt();
+        counts.late = countDto.getAttendanceCnt() - countDto.getOnTimeCnt();
+        counts.document = countDto.getDocumentCnt();
+        counts.compensation = countDto.getCompensationCnt();
+        counts.attendedDirectorIds.addAll(examDirectorRepository.findAttendedDirectorIds(examNo));
+        return counts;
+    }
+
+    private Object lockFor(Long examNo) {
+        return locks[(Long.hashCode(examNo) & 0x7fffffff) % STRIPES];
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    // 롤백된 변경이 카운터에 반영되지 않도록 커밋 후에 실행
+    private static void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+    // 카운터에 영향을 주는 응시자 상태
+    public static class Snapshot {
+        private final boolean onTime;
+        private final boolean late;
+        private final boolean document;
+        private final boolean compensation;
+        private final boolean pendingCompensation;
+
+        private Snapshot(boolean onTime, boolean late, boolean document, boolean compensation, boolean pendingCompensation) {
+            this.onTime = onTime;
+            this.late = late;
+            this.document = document;
+            this.compensation = compensation;
+            this.pendingCompensation = pendingCompensation;
+        }
+
+        public static Snapshot of(ExamExaminee examExaminee, LocalDateTime examDate) {
+            boolean attended = Boolean.TRUE.equals(examExaminee.getAttendance());
+            LocalDateTime attendanceTime = examExaminee.getAttendanceTime();
+            boolean onTime = attended && attendanceTime != null && attendanceTime.isBefore(examDate);
+            boolean compensation = Boolean.TRUE.equals(examExaminee.getCompensation());
+            return new Snapshot(
+                    onTime,
+                    attended && !onTime,
+                    examExaminee.getDocument() == ExamExaminee.DocumentStatus.서류_제출_완료,
+                    compensation,
+                    compensation && examExaminee.getCompensationStatus() == ExamExaminee.CompensationValue.보상_대기);
+        }
+
+        // 운영자 대시보드의 보상 대기 (보상 대상이면서 아직 승인/거절 전)
+        public boolean isPendingCompensation() {
+            return pendingCompensation;
+        }
+    }
+
+    private static class Counts {
+        private int examinee;
+        private int onTime;
+        private int late;
+        private int document;
+        private int compensation;
+        private final Set<String> attendedDirectorIds = new HashSet<>();
+        private long lastAccess = System.currentTimeMillis();
+
+        private void apply(Snapshot snapshot, int sign) {
+            if (snapshot == null) {
+                return;
+            }
+            examinee += sign;
+            onTime += snapshot.onTime ? sign : 0;
+            late += snapshot.late ? sign : 0;
+            document += snapshot.document ? sign : 0;
+            compensation += snapshot.compensation ? sign : 0;
+        }
+
+        private boolean sameAs(Counts other) {
+            return examinee == other.examinee && onTime == other.onTime && late == other.late
+                    && document == other.document && compensation == other.compensation
+                    && attendedDirectorIds.equals(other.attendedDirectorIds);
+        }
+
+        private void copyFrom(Counts other) {
+            examinee = other.examinee;
+            onTime = other.onTime;
+            late = other.late;
+            document = other.document;
+            compensation = other.compensation;
+            attendedDirectorIds.clear();
+            attendedDirectorIds.addAll(other.attendedDirectorIds);
+        }
+    }
+}
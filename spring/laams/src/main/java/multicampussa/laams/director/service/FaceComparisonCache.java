@@ -0,0 +1,156 @@
+package multicampussa.laams.director.service;
+
+import multicampussa.laams.global.CustomExceptions;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 얼굴 비교 결과 캐시.
+ * 두 사진의 내용 해시(SHA-256)를 키로 최근 결과를 LRU + TTL로 보관해서, 같은 사진으로 다시 요청하면 비교 서버를 호출하지 않는다.
+ * 같은 사진으로 동시에 들어온 요청은 하나만 비교 서버로 보내고 나머지는 그 결과를 같이 받는다.
+ */
+@Component
+public class FaceComparisonCache {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int BUFFER_SIZE = 8192;
+
+    // 접근 순서 LinkedHashMap (가장 오래 안 쓴 결과부터 제거)
+    private final Map<String, CachedResult> results = new LinkedHashMap<String, CachedResult>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // 비교 서버로 보낸 요청 (같은 키의 동시 요청은 이 결과를 기다림)
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    // 캐시에 있으면 바로 반환, 없으면 호출한 스레드에서 loader 실행
+    public String get(MultipartFile existingPhoto, MultipartFile newPhoto, Supplier<String> loader) {
+        CompletableFuture<String> future = getAsync(existingPhoto, newPhoto, () -> {
+            try {
+                return CompletableFuture.completedFuture(loader.get());
+            } catch (RuntimeException e) {
+                CompletableFuture<String> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+        });
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // 캐시에 있으면 완료된 결과, 없으면 loader가 돌려준 비동기 결과 (실패한 결과는 캐시하지 않음)
+    public CompletableFuture<String> getAsync(MultipartFile existingPhoto, MultipartFile newPhoto, Supplier<CompletableFuture<String>> loader) {
+        String key = hash(existingPhoto) + ":" + hash(newPhoto);
+
+        String cached = lookup(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return running;
+        }
+
+        // 앞선 요청이 방금 끝나서 캐시에 들어갔을 수 있음
+        cached = lookup(key);
+        if (cached != null) {
+            inFlight.remove(key, flight);
+            flight.complete(cached);
+            return flight;
+        }
+
+        CompletableFuture<String> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            return flight;
+        }
+        loaded.whenComplete((result, ex) -> {
+            if (ex == null) {
+                put(key, result);
+            }
+            inFlight.remove(key, flight);
+            if (ex != null) {
+                flight.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            } else {
+                flight.complete(result);
+            }
+        });
+        return flight;
+    }
+
+    private String lookup(String key) {
+        synchronized (results) {
+            CachedResult entry = results.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt < System.currentTimeMillis()) {
+                results.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+    }
+
+    private void put(String key, String result) {
+        synchronized (results) {
+            results.put(key, new CachedResult(result, System.currentTimeMillis() + TTL_MILLIS));
+        }
+    }
+
+    // 업로드 파일 내용을 메모리에 모으지 않고 읽으면서 해시 계산
+    private static String hash(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new CustomExceptions.FaceCompareException("이미지를 읽을 수 없습니다.");
+        }
+    }
+
+    private static class CachedResult {
+        private final String result;
+        private final long expiresAt;
+
+        private CachedResult(String result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
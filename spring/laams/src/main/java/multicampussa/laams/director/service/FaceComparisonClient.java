@@ -0,0 +1,244 @@
+package multicampussa.laams.director.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.global.CustomExceptions;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 얼굴 비교(장고 /opencv/api/v1/comparison) API 클라이언트.
+ * 커넥션 풀과 연결/응답 타임아웃을 둔 RestTemplate 하나를 재사용하고, 동시에 보내는 요청 수를 제한한다.
+ * 사진은 byte[]로 복사하지 않고 업로드 임시 파일에서 바로 스트리밍한다.
+ * 비동기 메서드는 전용 스레드 풀에서 실행되어 비교 서버가 느려도 톰캣 스레드를 붙잡지 않는다.
+ * 톰캣은 요청이 끝나면(DeferredResult 타임아웃 포함) 업로드 임시 파일을 지우므로, 비동기 메서드는 사진을 이 클라이언트 전용 임시 파일로 먼저 복사하고
+ * 작업이 끝나면(실패, 대기열 거절 포함) 지운다.
+ */
+@Slf4j
+@Component
+public class FaceComparisonClient {
+
+    private static final double NORMAL_CRITERIA = 0.6;
+    private static final double STRICT_CRITERIA = 0.5;
+
+    private final String comparisonUrl;
+    private final long acquireTimeoutMillis;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final Semaphore permits;
+    private final ThreadPoolTaskExecutor executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public FaceComparisonClient(
+            @Value("${face.comparison.url:[서버주소]/opencv/api/v1/comparison}") String comparisonUrl,
+            @Value("${face.comparison.max-concurrency:16}") int maxConcurrency,
+            @Value("${face.comparison.connect-timeout-millis:3000}") int connectTimeoutMillis,
+            @Value("${face.comparison.read-timeout-millis:10000}") int readTimeoutMillis,
+            @Value("${face.comparison.acquire-timeout-millis:2000}") long acquireTimeoutMillis,
+            @Value("${face.comparison.queue-capacity:100}") int queueCapacity) {
+        this.comparisonUrl = comparisonUrl;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.permits = new Semaphore(maxConcurrency);
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConcurrency);
+        connectionManager.setDefaultMaxPerRoute(maxConcurrency);
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setConnectionRequestTimeout(connectTimeoutMillis)
+                        .setSocketTimeout(readTimeoutMillis)
+                        .build())
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        // 요청 본문을 메모리에 모으지 않고 바로 전송
+        requestFactory.setBufferRequestBody(false);
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("face-compare-");
+        executor.initialize();
+    }
+
+    // 얼굴 일치 비교 (호출한 스레드에서 실행)
+    public String compare(MultipartFile existingPhoto, MultipartFile newPhoto, String applicantName, String applicantNo) {
+        return compare(new HttpEntity<>(existingPhoto.getResource(), getMultipartHeaders(existingPhoto)),
+                new HttpEntity<>(newPhoto.getResource(), getMultipartHeaders(newPhoto)), applicantName, applicantNo);
+    }
+
+    // 얼굴 일치 비교 (전용 스레드 풀에서 실행, 대기열이 꽉 차면 바로 실패)
+    public CompletableFuture<String> compareAsync(MultipartFile existingPhoto, MultipartFile newPhoto, String applicantName, String applicantNo) {
+        // 요청 스레드에서 복사 (작업 스레드는 업로드 임시 파일을 건드리지 않음)
+        Path existingCopy = null;
+        Path newCopy = null;
+        HttpEntity<Resource> existingPart;
+        HttpEntity<Resource> newPart;
+        try {
+            existingCopy = copy(existingPhoto);
+            newCopy = copy(newPhoto);
+            existingPart = new HttpEntity<>(new FileSystemResource(existingCopy), getMultipartHeaders(existingPhoto));
+            newPart = new HttpEntity<>(new FileSystemResource(newCopy), getMultipartHeaders(newPhoto));
+        } catch (IOException e) {
+            delete(existingCopy);
+            delete(newCopy);
+            return failed(new CustomExceptions.FaceCompareException("이미지를 읽을 수 없습니다."));
+        }
+
+        Path existingFile = existingCopy;
+        Path newFile = newCopy;
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return compare(existingPart, newPart, applicantName, applicantNo);
+                } finally {
+                    delete(existingFile);
+                    delete(newFile);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            delete(existingFile);
+            delete(newFile);
+            return failed(new CustomExceptions.FaceCompareException("얼굴 비교 요청이 많습니다. 잠시 후 다시 시도해 주세요."));
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        executor.shutdown();
+        httpClient.close();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new CustomExceptions.FaceCompareException("얼굴 비교 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomExceptions.FaceCompareException("얼굴 비교 요청이 취소되었습니다.");
+        }
+    }
+
+    private String compare(HttpEntity<Resource> existingPart, HttpEntity<Resource> newPart, String applicantName, String applicantNo) {
+        acquire();
+        try {
+            return parse(send(existingPart, newPart, applicantName, applicantNo));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private String send(HttpEntity<Resource> existingPart, HttpEntity<Resource> newPart, String applicantName, String applicantNo) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        // 파일은 임시 파일의 Resource로 넣어 스트리밍
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("existingPhoto", existingPart);
+        body.add("newPhoto", newPart);
+        body.add("applicantName", applicantName);
+        body.add("applicantNo", applicantNo);
+
+        try {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    comparisonUrl,
+                    HttpMethod.POST,
+                    new HttpEntity<>(body, headers),
+                    String.class
+            );
+            return response.getBody();
+        } catch (RestClientException e) {
+            log.warn("얼굴 비교 API 호출 실패: {}", e.getMessage());
+            throw new CustomExceptions.FaceCompareException("이미지와 요청 쿼리를 확인하세요.");
+        }
+    }
+
+    private String parse(String data) {
+        try {
+            JsonNode jsonNode = objectMapper.readTree(data);
+
+            // 데이터 파싱 부분
+            int percentage = (int) jsonNode.get(0).asDouble();
+            double distance = jsonNode.get(1).asDouble();
+            String normalResult = distance < NORMAL_CRITERIA ? "통과" : "미통과";
+            String strictResult = distance < STRICT_CRITERIA ? "통과" : "미통과";
+
+            return String.format("일치율: %d%%, 정상적 기준: %s, 엄격한 기준: %s", percentage, normalResult, strictResult);
+        } catch (Exception e) {
+            throw new CustomExceptions.FaceCompareException("이미지와 요청 쿼리를 확인하세요.");
+        }
+    }
+
+    // 업로드 파일을 이 클라이언트 전용 임시 파일로 복사
+    private static Path copy(MultipartFile file) throws IOException {
+        Path copy = Files.createTempFile("face-compare-", ".upload");
+        try (InputStream inputStream = file.getInputStream()) {
+            Files.copy(inputStream, copy, StandardCopyOption.REPLACE_EXISTING);
+            return copy;
+        } catch (IOException e) {
+            delete(copy);
+            throw e;
+        }
+    }
+
+    private static void delete(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("얼굴 비교 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static CompletableFuture<String> failed(RuntimeException e) {
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(e);
+        return failed;
+    }
+
+    // 파일 헤더 설정을 위한 메서드
+    private HttpHeaders getMultipartHeaders(MultipartFile file) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(file.getContentType() != null ? MediaType.valueOf(file.getContentType()) : MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDispositionFormData(file.getName(), file.getOriginalFilename());
+        return headers;
+    }
+}
@@ -0,0 +1,161 @@
+package multicampussa.laams.director.service;
+
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.global.storage.ObjectStorage;
+import multicampussa.laams.global.storage.StoredObject;
+import multicampussa.laams.manager.domain.examinee.ImageRepository;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응시자 증빙 이미지의 썸네일, 표시용 축소 이미지 생성.
+ * 업로드가 끝난 원본을 작업 스레드 풀에서 읽어서 원본 키 옆에 _thumb.jpg, _display.jpg로 저장하고 Image에 주소를 기록한다.
+ * 업로드 요청은 축소 작업을 기다리지 않으며, 대기열이 꽉 차면 해당 이미지는 원본만 사용한다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final int THUMBNAIL_MAX_SIZE = 240;
+    private static final int DISPLAY_MAX_SIZE = 1280;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private static final int WORKERS = 2;
+    private static final int QUEUE_CAPACITY = 200;
+
+    private final ObjectStorage objectStorage;
+    private final ImageRepository imageRepository;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeService(ObjectStorage objectStorage, ImageRepository imageRepository) {
+        this.objectStorage = objectStorage;
+        this.imageRepository = imageRepository;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // 축소 이미지 생성 예약 (업로드 요청 스레드는 바로 반환)
+    public void submit(Long imageNo, String key) {
+        try {
+            executor.execute(() -> createDerivatives(imageNo, key));
+        } catch (RejectedExecutionException e) {
+            log.warn("축소 이미지 대기열이 꽉 차서 건너뜀: {}", key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void createDerivatives(Long imageNo, String key) {
+        try {
+            BufferedImage original;
+            try (StoredObject storedObject = objectStorage.get(key);
+                 InputStream inputStream = storedObject.getInputStream()) {
+                original = ImageIO.read(inputStream);
+            }
+            if (original == null) {
+                // 이미지가 아닌 파일 (pdf 등)
+                return;
+            }
+
+            String thumbnailKey = derivativeKey(key, "thumb");
+            String displayKey = derivativeKey(key, "display");
+            putJpeg(thumbnailKey, resize(original, THUMBNAIL_MAX_SIZE));
+            putJpeg(displayKey, resize(original, DISPLAY_MAX_SIZE));
+
+            imageRepository.updateDerivativeUrls(imageNo,
+                    objectStorage.getUrl(thumbnailKey),
+                    objectStorage.getUrl(displayKey));
+        } catch (Exception e) {
+            log.warn("축소 이미지 생성 실패: {}", key, e);
+        }
+    }
+
+    // 긴 변이 maxSize가 되도록 비율 유지 축소 (원본이 더 작으면 크기 유지, JPEG용으로 RGB 변환)
+    private static BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춤
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // 투명 배경은 흰색으로
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void putJpeg(String key, BufferedImage image) throws IOException {
+        byte[] jpeg = encodeJpeg(image);
+        objectStorage.put(key, new ByteArrayInputStream(jpeg), jpeg.length, "image/jpeg");
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    // images/202310011000/A001/photo.png -> images/202310011000/A001/photo_thumb.jpg
+    private static String derivativeKey(String key, String suffix) {
+        int slash = key.lastIndexOf('/');
+        int dot = key.lastIndexOf('.');
+        String base = dot > slash ? key.substring(0, dot) : key;
+        return base + "_" + suffix + ".jpg";
+    }
+}
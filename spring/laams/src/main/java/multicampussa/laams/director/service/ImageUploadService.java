@@ -1,71 +1,107 @@
 package multicampussa.laams.director.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.director.dto.director.ImageUploadResultDto;
+import multicampussa.laams.global.storage.ObjectStorage;
 import multicampussa.laams.manager.domain.examinee.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
-import java.time.LocalDateTime;
+import java.io.IOException;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ImageUploadService {
 
-    private AmazonS3Client s3Client;
+    private ObjectStorage objectStorage;
     private ImageRepository imageRepository;
     private ExamExamineeRepository examExamineeRepository;
+    private ImageDerivativeService imageDerivativeService;
 
     @Autowired
-    public ImageUploadService(AmazonS3Client s3Client, ImageRepository imageRepository, ExamExamineeRepository examExamineeRepository) {
-        this.s3Client = s3Client;
+    public ImageUploadService(ObjectStorage objectStorage, ImageRepository imageRepository, ExamExamineeRepository examExamineeRepository,
+                              ImageDerivativeService imageDerivativeService) {
+        this.objectStorage = objectStorage;
         this.imageRepository = imageRepository;
         this.examExamineeRepository = examExamineeRepository;
+        this.imageDerivativeService = imageDerivativeService;
     }
 
-    public String uploadImageToS3(MultipartFile file, byte[] imageBytes, String imageName, Long examNo, Long examineeNo, String imageReason) {
+    // 여러 이미지 업로드
+    // 시험_응시자는 한 번만 조회하고, 파일은 임시 파일 스트림 그대로 병렬로 올린 뒤 Image는 한 번에 저장
+    public List<ImageUploadResultDto> uploadImages(List<MultipartFile> files, Long examNo, Long examineeNo, String imageReason) {
         // 시험_응시자 객체 불러오기
         ExamExaminee examInfo = examExamineeRepository.findByExamNoAndExamineeNo(examNo, examineeNo);
+        if (examInfo == null) {
+            throw new IllegalArgumentException("해당 시험의 응시자가 없습니다.");
+        }
 
-        // 응시자 수험 번호
-        String examineeCode = examInfo.getExamineeCode();
-
-        // 시험 날짜
-        LocalDateTime examDate = examInfo.getExam().getExamDate();
-
-        // S3에 저장할 경로 생성
+        // 저장소에 저장할 경로 (images/시험날짜/수험번호/)
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmm"); // 원하는 형식으로 포맷
-        String formattedExamDate = examDate.format(formatter); // 형식에 따라 시험 날짜를 문자열로 변환
-
-        String bucketName = "laams";
-        String key = "images/" + formattedExamDate + "/" + examineeCode + "/" + imageName; // 경로 설정
-
-        // 메타 데이터 설정(설정해주지 않으면 url 접속 시 바로 다운로드됨)
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(file.getContentType());
-
-        PutObjectRequest putObjectRequest =
-                new PutObjectRequest(bucketName, key, new ByteArrayInputStream(imageBytes), metadata);
-        putObjectRequest.withCannedAcl(CannedAccessControlList.PublicRead);
-
-        s3Client.putObject(putObjectRequest);
-
-        String imageUrl = s3Client.getResourceUrl(bucketName, key);
-
-        Image image = new Image();
-        image.uploadImage(examInfo, imageUrl, imageReason);
-
-        imageRepository.save(image);
+        String formattedExamDate = examInfo.getExam().getExamDate().format(formatter); // 형식에 따라 시험 날짜를 문자열로 변환
+        String keyPrefix = "images/" + formattedExamDate + "/" + examInfo.getExamineeCode() + "/";
+
+        // 업로드 시작 (S3 저장소는 TransferManager가 스레드 수를 제한하고 큰 파일은 멀티파트로 나눠서 올림)
+        List<PendingUpload> pendingUploads = new ArrayList<>();
+        List<ImageUploadResultDto> results = new ArrayList<>();
+        for (MultipartFile file : files) {
+            String imageName = file.getOriginalFilename();
+            String key = keyPrefix + imageName;
+            try {
+                ObjectStorage.PendingUpload upload = objectStorage.startUpload(key, file);
+                pendingUploads.add(new PendingUpload(imageName, key, results.size(), upload));
+                results.add(null);
+            } catch (IOException | RuntimeException e) {
+                log.warn("이미지 업로드 시작 실패: {}", imageName, e);
+                results.add(ImageUploadResultDto.fail(imageName, "이미지 업로드 실패: " + e.getMessage()));
+            }
+        }
+
+        // 업로드 완료 대기 후 성공한 파일만 Image로 저장
+        // 한 파일이 어떤 예외로 실패해도 나머지 업로드를 모두 기다려야 임시 파일 스트림과 업로드 버퍼 예산이 반환됨
+        List<Image> images = new ArrayList<>();
+        List<String> imageKeys = new ArrayList<>();
+        for (PendingUpload pendingUpload : pendingUploads) {
+            try {
+                pendingUpload.upload.waitForCompletion();
+                String imageUrl = objectStorage.getUrl(pendingUpload.key);
+
+                Image image = new Image();
+                image.uploadImage(examInfo, imageUrl, imageReason);
+                images.add(image);
+                imageKeys.add(pendingUpload.key);
+                results.set(pendingUpload.index, ImageUploadResultDto.success(pendingUpload.imageName, imageUrl));
+            } catch (IOException | RuntimeException e) {
+                log.warn("이미지 업로드 실패: {}", pendingUpload.imageName, e);
+                results.set(pendingUpload.index, ImageUploadResultDto.fail(pendingUpload.imageName, "이미지 업로드 실패: " + e.getMessage()));
+            }
+        }
+
+        imageRepository.saveAll(images);
+
+        // 썸네일, 표시용 이미지는 별도 작업 스레드에서 생성 (업로드 응답은 기다리지 않음)
+        for (int i = 0; i < images.size(); i++) {
+            imageDerivativeService.submit(images.get(i).getNo(), imageKeys.get(i));
+        }
+        return results;
+    }
 
-        return imageUrl;
+    // 진행 중인 업로드 (결과 목록에서의 위치와 키)
+    private static class PendingUpload {
+        private final String imageName;
+        private final String key;
+        private final int index;
+        private final ObjectStorage.PendingUpload upload;
+
+        private PendingUpload(String imageName, String key, int index, ObjectStorage.PendingUpload upload) {
+            this.imageName = imageName;
+            this.key = key;
+            this.index = index;
+            this.upload = upload;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,12 @@
 package multicampussa.laams.examinee.service;
 
 import lombok.RequiredArgsConstructor;
+import multicampussa.laams.director.service.ExamArrivalHistogram;
+import multicampussa.laams.director.service.ExamStatusCounter;
 import multicampussa.laams.examinee.dto.request.EnrollExamRequest;
 import multicampussa.laams.examinee.dto.response.CenterExamsResponse;
 import multicampussa.laams.global.CustomExceptions;
+import multicampussa.laams.home.dashboard.service.CenterMonthStatsCache;
 import multicampussa.laams.manager.domain.center.Center;
 import multicampussa.laams.manager.domain.center.CenterRepository;
 import multicampussa.laams.manager.domain.exam.Exam;
@@ -30,6 +33,9 @@ public class ExamineeService {
     private final ExamExamineeRepository examExamineeRepository;
     private final ExamineeRepository examineeRepository;
     private final CenterRepository centerRepository;
+    private final ExamStatusCounter examStatusCounter;
+    private final ExamArrivalHistogram examArrivalHistogram;
+    private final CenterMonthStatsCache centerMonthStatsCache;
 
     public List<CenterExamsResponse> getCenterExams(Long centerNo) {
         // 센터가 존재하는지 확인
@@ -78,17 +84,26 @@ public class ExamineeService {
         String examineeCode = generateUniqueExamineeCode();
 
         // 수험자 등록
-        examExamineeRepository.save(new ExamExaminee(examinee, exam, examineeCode));
+        ExamExaminee examExaminee = examExamineeRepository.save(new ExamExaminee(examinee, exam, examineeCode));
+        examStatusCounter.record(exam.getNo(), null, ExamStatusCounter.Snapshot.of(examExaminee, exam.getExamDate()));
+        centerMonthStatsCache.evictExaminee(exam.getExamDate());
     }
 
     public void updateExamineeAttendance(String authority, String examineeCode) {
         if(authority.equals("ROLE_EXAMINEE")){
             ExamExaminee examExaminee = examExamineeRepository.findByExamineeCode(examineeCode).orElse(null);
             if(examExaminee != null) {
+                Exam exam = examExaminee.getExam();
+                ExamStatusCounter.Snapshot before = ExamStatusCounter.Snapshot.of(examExaminee, exam.getExamDate());
+                boolean attendedBefore = Boolean.TRUE.equals(examExaminee.getAttendance());
                 boolean attendacne = true;
                 LocalDateTime attendanceTime = LocalDateTime.now();
                 examExaminee.setAttendance(attendacne, attendanceTime);
                 examExamineeRepository.save(examExaminee);
+                examStatusCounter.record(exam.getNo(), before, ExamStatusCounter.Snapshot.of(examExaminee, exam.getExamDate()));
+                if (!attendedBefore) {
+                    examArrivalHistogram.recordArrival(exam.getNo(), examExaminee.getNo(), attendanceTime, !attendanceTime.isBefore(exam.getExamDate()));
+                }
             } else {
                 throw new IllegalArgumentException("없는 응시자 코드입니다.");
             }
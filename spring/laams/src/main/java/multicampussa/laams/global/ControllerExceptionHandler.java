@@ -71,6 +71,14 @@ public class ControllerExceptionHandler {
         return new ResponseEntity<>(new ApiResponse<>("error", HttpStatus.UNAUTHORIZED.value(), errorResponse), HttpStatus.UNAUTHORIZED);
     }
 
+    // 시험 감독관 정원 초과
+    @ExceptionHandler(CustomExceptions.ExamDirectorFullException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<ErrorResponse>> ExamDirectorFullException(CustomExceptions.ExamDirectorFullException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("ExamDirectorFullException", ex.getMessage());
+        return new ResponseEntity<>(new ApiResponse<>("error", HttpStatus.CONFLICT.value(), errorResponse), HttpStatus.CONFLICT);
+    }
+
     // 얼굴 비교 오류
     @ExceptionHandler(CustomExceptions.FaceCompareException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
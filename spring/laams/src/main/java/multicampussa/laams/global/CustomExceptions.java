@@ -44,6 +44,11 @@ public class CustomExceptions {
         public ExamExamineeNotFoundException(String message) {super(message);}
     }
 
+    // 시험 감독관 정원 초과
+    public static class ExamDirectorFullException extends RuntimeException {
+        public ExamDirectorFullException(String message) {super(message);}
+    }
+
     // 얼굴 비교 오류
     public static class FaceCompareException extends RuntimeException {
         public FaceCompareException(String message) {super(message);}
@@ -0,0 +1,431 @@
+package multicampussa.laams.global.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * S3 저장소 앞에 두는 읽기 캐시 (시험 당일 같은 첨부파일, 응시자 이미지를 반복해서 내려받는 경우).
+ * 처음 읽을 때 원본을 서버 디스크에 받아 두고 이후에는 디스크에서 FileChannel.transferTo로 보낸다.
+ * 캐시 파일은 내용(ETag, 크기) 해시로 이름을 붙여서 같은 내용은 한 번만 저장하고, 전체 크기가 max-bytes를 넘으면 가장 오래 안 쓴 파일부터 지운다.
+ * 같은 키를 동시에 처음 읽으면 한 요청만 S3에서 받고 나머지는 받은 파일을 같이 쓴다.
+ * 이 서버를 거친 업로드, 삭제는 해당 키의 캐시를 바로 지우고, 그때 받는 중이던 내용은 캐시에 올리지 않는다.
+ * 다른 서버에서 바꾸거나 지운 파일은 revalidate-after마다 S3 메타 데이터(ETag, 크기)로 확인해서 반영한다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnExpression("'${storage.type:s3}' == 's3' and ${storage.cache.enabled:true}")
+public class DiskCachedObjectStorage implements ObjectStorage {
+
+    // storage.cache.dir 아래 캐시 전용 폴더, 캐시가 만드는 폴더/파일 이름 (내용 해시 앞 두 글자 폴더, 내용 해시, 받는 중인 임시 파일)
+    private static final String CACHE_DIR_NAME = "laams-storage-cache";
+    private static final Pattern SHARD_NAME = Pattern.compile("[0-9a-f]{2}");
+    private static final Pattern CONTENT_FILE_NAME = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern TEMP_FILE_NAME = Pattern.compile("\\.[0-9a-f-]{36}\\.fill");
+
+    private final S3ObjectStorage delegate;
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final long maxObjectBytes;
+    private final long revalidateNanos;
+
+    // 키 -> 캐시된 파일 정보 (캐시 파일이 지워졌으면 다음 조회 때 정리)
+    private final Map<String, CachedKey> keys = new ConcurrentHashMap<>();
+
+    // 내용 해시 -> 캐시 파일 크기 (접근 순서, 가장 오래 안 쓴 파일이 앞)
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    // 받는 중인 키 (같은 키의 동시 요청은 이 결과를 기다림)
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public DiskCachedObjectStorage(S3ObjectStorage delegate,
+                                   @Value("${storage.cache.dir:${java.io.tmpdir}}") String cacheDir,
+                                   @Value("${storage.cache.max-bytes:1073741824}") long maxBytes,
+                                   @Value("${storage.cache.max-object-bytes:104857600}") long maxObjectBytes,
+                                   @Value("${storage.cache.revalidate-after:30s}") Duration revalidateAfter) throws IOException {
+        this.delegate = delegate;
+        // 설정한 폴더는 다른 파일과 같이 쓸 수 있으므로 캐시는 항상 그 아래 전용 폴더에 만듦
+        this.cacheDir = Paths.get(cacheDir).toAbsolutePath().normalize().resolve(CACHE_DIR_NAME);
+        this.maxBytes = maxBytes;
+        this.maxObjectBytes = Math.min(maxObjectBytes, maxBytes);
+        this.revalidateNanos = revalidateAfter.toNanos();
+
+        Files.createDirectories(this.cacheDir);
+        deletePreviousFiles();
+    }
+
+    // 색인은 메모리에만 있으므로 이전 실행에서 남은 캐시 파일은 비움 (캐시가 만든 이름의 파일, 폴더만 지움)
+    private void deletePreviousFiles() throws IOException {
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(cacheDir)) {
+            for (Path shard : shards) {
+                if (!Files.isDirectory(shard, LinkOption.NOFOLLOW_LINKS) || !SHARD_NAME.matcher(shard.getFileName().toString()).matches()) {
+                    continue;
+                }
+                boolean empty = true;
+                try (DirectoryStream<Path> cachedFiles = Files.newDirectoryStream(shard)) {
+                    for (Path cachedFile : cachedFiles) {
+                        String name = cachedFile.getFileName().toString();
+                        if (Files.isRegularFile(cachedFile, LinkOption.NOFOLLOW_LINKS)
+                                && (CONTENT_FILE_NAME.matcher(name).matches() || TEMP_FILE_NAME.matcher(name).matches())) {
+                            deleteQuietly(cachedFile);
+                        } else {
+                            empty = false;
+                        }
+                    }
+                }
+                if (empty) {
+                    deleteQuietly(shard);
+                }
+            }
+        }
+    }
+
+    @Override
+    public PendingUpload startUpload(String key, MultipartFile file) throws IOException {
+        invalidate(key);
+        PendingUpload upload = delegate.startUpload(key, file);
+        return () -> {
+            try {
+                upload.waitForCompletion();
+            } finally {
+                // 업로드 중에 다른 요청이 이전 내용을 캐시했을 수 있음
+                invalidate(key);
+            }
+        };
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long length, String contentType) throws IOException {
+        invalidate(key);
+        try {
+            delegate.put(key, inputStream, length, contentType);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public StoredObject get(String key) throws IOException {
+        StoredObject cached = openCached(key, 0, Long.MAX_VALUE);
+        if (cached != null) {
+            return cached;
+        }
+
+        Flight flight = new Flight();
+        Flight running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            CachedKey filled = await(running.result);
+            if (filled != null) {
+                cached = openCached(key, 0, Long.MAX_VALUE);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            // 캐시하지 않는 파일이거나 받는 중에 무효화됐거나 그 사이 지워졌으면 직접 읽음
+            return delegate.get(key);
+        }
+
+        try {
+            // 앞선 요청이 방금 채웠을 수 있음
+            cached = openCached(key, 0, Long.MAX_VALUE);
+            if (cached != null) {
+                flight.result.complete(keys.get(key));
+                return cached;
+            }
+
+            StoredObject original = delegate.get(key);
+            if (original.getInfo().getSize() > maxObjectBytes) {
+                // 큰 파일은 캐시를 밀어내지 않도록 그대로 전달
+                flight.result.complete(null);
+                return original;
+            }
+
+            CachedKey filled = fill(key, original, flight);
+            flight.result.complete(filled);
+            cached = filled != null ? openCached(key, 0, Long.MAX_VALUE) : null;
+            // 받는 중에 무효화됐으면 바뀐 내용을 다시 읽음
+            return cached != null ? cached : delegate.get(key);
+        } catch (IOException | RuntimeException e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // 구간 요청은 캐시에 있을 때만 디스크에서 읽고, 없으면 채우지 않고 S3에서 해당 구간만 읽음
+    @Override
+    public StoredObject getRange(String key, long start, long endInclusive) throws IOException {
+        StoredObject cached = openCached(key, start, endInclusive);
+        return cached != null ? cached : delegate.getRange(key, start, endInclusive);
+    }
+
+    @Override
+    public ObjectInfo stat(String key) throws IOException {
+        CachedKey cachedKey = current(key);
+        return cachedKey != null ? cachedKey.info : delegate.stat(key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            delegate.delete(key);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return delegate.getUrl(key);
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        return delegate.keyFromUrl(url);
+    }
+
+    @Override
+    public String getPresignedUrl(String key, Duration ttl, String contentDisposition) {
+        return delegate.getPresignedUrl(key, ttl, contentDisposition);
+    }
+
+    // 키의 캐시 항목과 캐시 파일 삭제 (같은 내용을 쓰던 다른 키는 다음 조회 때 다시 채움)
+    // 받는 중인 요청은 이전 내용을 받고 있을 수 있으므로 색인에 올리지 않게 표시하고, 기다리던 요청은 S3에서 직접 읽게 함
+    public void invalidate(String key) {
+        Flight flight = inFlight.remove(key);
+        if (flight != null) {
+            flight.markStale();
+            flight.result.complete(null);
+        }
+        CachedKey cachedKey = keys.remove(key);
+        if (cachedKey != null) {
+            removeFile(cachedKey.contentId);
+        }
+    }
+
+    private StoredObject openCached(String key, long start, long endInclusive) throws IOException {
+        CachedKey cachedKey = current(key);
+        if (cachedKey == null) {
+            return null;
+        }
+        try {
+            return FileStoredObject.open(pathOf(cachedKey.contentId), cachedKey.info, start, endInclusive);
+        } catch (NoSuchFileException e) {
+            // 방금 밀려난 파일
+            keys.remove(key, cachedKey);
+            return null;
+        }
+    }
+
+    // 키의 캐시 항목 (파일이 밀려났거나 S3에서 바뀌었거나 지워졌으면 항목을 지우고 null)
+    // 확인한 지 revalidate-after가 지난 항목만 S3 메타 데이터를 읽어서 ETag, 크기가 같은지 확인
+    private CachedKey current(String key) throws IOException {
+        CachedKey cachedKey = keys.get(key);
+        if (cachedKey == null) {
+            return null;
+        }
+        if (!isCached(cachedKey.contentId)) {
+            keys.remove(key, cachedKey);
+            return null;
+        }
+        if (System.nanoTime() - cachedKey.verifiedAt < revalidateNanos) {
+            return cachedKey;
+        }
+
+        ObjectInfo info;
+        try {
+            info = delegate.stat(key);
+        } catch (StorageObjectNotFoundException e) {
+            info = null;
+        }
+        if (info == null || !contentId(key, info).equals(cachedKey.contentId)) {
+            if (keys.remove(key, cachedKey)) {
+                removeFile(cachedKey.contentId);
+            }
+            return null;
+        }
+        // 확인하는 사이 무효화되거나 다시 채워졌으면 새 항목을 씀
+        CachedKey verified = new CachedKey(cachedKey.contentId, info);
+        return keys.replace(key, cachedKey, verified) ? verified : current(key);
+    }
+
+    // 원본을 임시 파일로 받은 뒤 내용 해시 이름으로 옮기고 색인에 등록 (받는 중에 무효화됐으면 등록하지 않고 null)
+    private CachedKey fill(String key, StoredObject original, Flight flight) throws IOException {
+        ObjectInfo info = original.getInfo();
+        String contentId = contentId(key, info);
+        Path target = pathOf(contentId);
+
+        boolean created = false;
+        if (!isCached(contentId)) {
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling("." + UUID.randomUUID() + ".fill");
+            try (StoredObject source = original;
+                 InputStream inputStream = source.getInputStream()) {
+                long size = Files.copy(inputStream, temp);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                addFile(contentId, size);
+                created = true;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } else {
+            original.close();
+        }
+
+        CachedKey cachedKey = new CachedKey(contentId, info);
+        if (!flight.publish(key, cachedKey)) {
+            if (created) {
+                removeFile(contentId);
+            }
+            return null;
+        }
+        return cachedKey;
+    }
+
+    private boolean isCached(String contentId) {
+        synchronized (files) {
+            return files.get(contentId) != null;
+        }
+    }
+
+    private void addFile(String contentId, long size) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (files) {
+            Long previous = files.put(contentId, size);
+            totalBytes += size - (previous != null ? previous : 0);
+            Iterator<Map.Entry<String, Long>> iterator = files.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(contentId)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+        for (String evictedId : evicted) {
+            deleteQuietly(pathOf(evictedId));
+        }
+    }
+
+    private void removeFile(String contentId) {
+        Long size;
+        synchronized (files) {
+            size = files.remove(contentId);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        }
+        if (size != null) {
+            deleteQuietly(pathOf(contentId));
+        }
+    }
+
+    // 내용이 같으면(ETag, 크기) 같은 이름, ETag가 없으면 키와 수정 시각으로 구분
+    private static String contentId(String key, ObjectInfo info) {
+        String source = info.getETag() != null
+                ? info.getETag() + ":" + info.getSize()
+                : key + ":" + info.getLastModified() + ":" + info.getSize();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest(source.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 한 폴더에 파일이 너무 많아지지 않게 해시 앞 두 글자로 나눔
+    private Path pathOf(String contentId) {
+        return cacheDir.resolve(contentId.substring(0, 2)).resolve(contentId);
+    }
+
+    private static CachedKey await(CompletableFuture<CachedKey> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static class CachedKey {
+        private final String contentId;
+        private final ObjectInfo info;
+        // S3 내용과 같은지 마지막으로 확인한 시각 (System.nanoTime)
+        private final long verifiedAt;
+
+        private CachedKey(String contentId, ObjectInfo info) {
+            this.contentId = contentId;
+            this.info = info;
+            this.verifiedAt = System.nanoTime();
+        }
+    }
+
+    // 한 키를 S3에서 받는 중인 요청 (invalidate가 stale로 표시하면 받은 내용을 색인에 올리지 않음)
+    private class Flight {
+        private final CompletableFuture<CachedKey> result = new CompletableFuture<>();
+        private boolean stale;
+
+        private synchronized void markStale() {
+            stale = true;
+        }
+
+        // 표시 확인과 등록을 같은 잠금 안에서 해서 invalidate와 엇갈려도 이전 내용이 남지 않음
+        // (invalidate는 표시한 뒤 keys에서 지우므로, 먼저 등록된 항목은 invalidate가 지움)
+        private synchronized boolean publish(String key, CachedKey cachedKey) {
+            if (stale) {
+                return false;
+            }
+            keys.put(key, cachedKey);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package multicampussa.laams.global.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 디스크 파일을 읽기용으로 연 StoredObject (서버 디스크 저장소, 디스크 캐시에서 사용).
+ * transferTo는 FileChannel.transferTo로 커널이 파일에서 대상 채널로 바로 복사한다.
+ */
+class FileStoredObject implements StoredObject {
+    private final FileChannel channel;
+    private final ObjectInfo info;
+    private final long start;
+    private final long length;
+
+    // start ~ endInclusive 구간을 열기 (파일 크기를 넘는 부분은 잘라냄)
+    static FileStoredObject open(Path path, ObjectInfo info, long start, long endInclusive) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            long rangeStart = Math.min(start, size);
+            long rangeLength = Math.max(0, Math.min(endInclusive, size - 1) - rangeStart + 1);
+            return new FileStoredObject(channel, info, rangeStart, rangeLength);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private FileStoredObject(FileChannel channel, ObjectInfo info, long start, long length) {
+        this.channel = channel;
+        this.info = info;
+        this.start = start;
+        this.length = length;
+    }
+
+    @Override
+    public ObjectInfo getInfo() {
+        return info;
+    }
+
+    @Override
+    public long getRangeStart() {
+        return start;
+    }
+
+    @Override
+    public long getRangeLength() {
+        return length;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        channel.position(start);
+        return new FilterInputStream(Channels.newInputStream(channel)) {
+            private long remaining = length;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int b = super.read();
+                if (b != -1) {
+                    remaining--;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int len) throws IOException {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int read = super.read(buffer, offset, (int) Math.min(len, remaining));
+                if (read > 0) {
+                    remaining -= read;
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(Math.min(n, remaining));
+                remaining -= skipped;
+                return skipped;
+            }
+
+            @Override
+            public int available() throws IOException {
+                return (int) Math.min(super.available(), remaining);
+            }
+        };
+    }
+
+    // 커널이 파일에서 대상 채널로 바로 복사 (한 번에 다 못 보내면 이어서 보냄)
+    @Override
+    public long transferTo(WritableByteChannel target) throws IOException {
+        long position = start;
+        long end = start + length;
+        while (position < end) {
+            long sent = channel.transferTo(position, end - position, target);
+            if (sent <= 0 && position >= channel.size()) {
+                break;
+            }
+            position += sent;
+        }
+        return position - start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
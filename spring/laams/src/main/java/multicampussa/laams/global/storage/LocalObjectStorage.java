@@ -0,0 +1,148 @@
+package multicampussa.laams.global.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 서버 디스크 저장소 (storage.type=local).
+ * 쓰기는 스트림을 같은 폴더의 임시 파일에 바로 기록한 뒤 이름을 바꿔서, 읽는 쪽이 쓰다 만 파일을 보지 않게 한다.
+ * 읽기는 FileStoredObject(FileChannel.transferTo)로 힙을 거치지 않고 응답 채널로 보낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final Path rootDir;
+    private final String baseUrl;
+
+    public LocalObjectStorage(@Value("${storage.local.root-dir:./storage}") String rootDir,
+                              @Value("${storage.local.base-url:/files/}") String baseUrl) throws IOException {
+        this.rootDir = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        Files.createDirectories(this.rootDir);
+    }
+
+    public Path getRootDir() {
+        return rootDir;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    // 멀티파트 임시 파일을 저장 위치로 옮김 (같은 디스크면 복사 없이 이름만 바뀜)
+    @Override
+    public PendingUpload startUpload(String key, MultipartFile file) throws IOException {
+        Path target = resolve(key);
+        Path temp = tempFileFor(target);
+        try {
+            file.transferTo(temp);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return () -> { };
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long length, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = tempFileFor(target);
+        try {
+            Files.copy(inputStream, temp);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public StoredObject get(String key) throws IOException {
+        return open(key, 0, Long.MAX_VALUE);
+    }
+
+    @Override
+    public StoredObject getRange(String key, long start, long endInclusive) throws IOException {
+        return open(key, start, endInclusive);
+    }
+
+    @Override
+    public ObjectInfo stat(String key) throws IOException {
+        Path path = resolve(key);
+        try {
+            return toInfo(key, path, Files.readAttributes(path, BasicFileAttributes.class));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl + key;
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        return url.startsWith(baseUrl) ? url.substring(baseUrl.length()) : url;
+    }
+
+    private StoredObject open(String key, long start, long endInclusive) throws IOException {
+        Path path = resolve(key);
+        try {
+            return FileStoredObject.open(path, toInfo(key, path, Files.readAttributes(path, BasicFileAttributes.class)), start, endInclusive);
+        } catch (NoSuchFileException e) {
+            throw new StorageObjectNotFoundException(key);
+        }
+    }
+
+    // 키가 저장소 폴더 밖(../ 등)을 가리키지 못하게 막음
+    private Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir) || path.equals(rootDir)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    private static Path tempFileFor(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        return target.resolveSibling("." + UUID.randomUUID() + ".upload");
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static ObjectInfo toInfo(String key, Path path, BasicFileAttributes attributes) throws IOException {
+        String contentType = Files.probeContentType(path);
+        Instant lastModified = attributes.lastModifiedTime().toInstant();
+        // 파일이 바뀌면 수정 시각이나 크기가 바뀌므로 둘을 합쳐 ETag로 사용
+        String eTag = Long.toHexString(lastModified.toEpochMilli()) + "-" + Long.toHexString(attributes.size());
+        return new ObjectInfo(key, attributes.size(), contentType != null ? contentType : DEFAULT_CONTENT_TYPE, lastModified, eTag);
+    }
+}
@@ -0,0 +1,29 @@
+package multicampussa.laams.global.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 서버 디스크 저장소 파일을 storage.local.base-url 주소로 제공 (Range, Last-Modified는 스프링 정적 리소스 처리가 담당)
+@Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageWebConfig implements WebMvcConfigurer {
+
+    private final LocalObjectStorage localObjectStorage;
+
+    public LocalStorageWebConfig(LocalObjectStorage localObjectStorage) {
+        this.localObjectStorage = localObjectStorage;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String baseUrl = localObjectStorage.getBaseUrl();
+        if (!baseUrl.startsWith("/")) {
+            // 다른 서버(CDN 등)에서 제공하는 주소면 등록하지 않음
+            return;
+        }
+        registry.addResourceHandler(baseUrl + "**")
+                .addResourceLocations(localObjectStorage.getRootDir().toUri().toString());
+    }
+}
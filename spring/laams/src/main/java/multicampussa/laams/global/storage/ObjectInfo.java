@@ -0,0 +1,17 @@
+package multicampussa.laams.global.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 저장된 파일 메타 데이터
+@Getter
+@AllArgsConstructor
+public class ObjectInfo {
+    private final String key;
+    private final long size;
+    private final String contentType;
+    private final Instant lastModified;
+    private final String eTag;
+}
@@ -0,0 +1,53 @@
+package multicampussa.laams.global.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * 첨부파일, 증빙 이미지 저장소.
+ * 서비스는 키(notice/uuid.pdf, images/시험날짜/수험번호/파일명)만 다루고, 실제 저장 위치는 storage.type 설정으로 고른다.
+ * (s3: 오브젝트 스토리지, local: 서버 디스크)
+ */
+public interface ObjectStorage {
+
+    // 업로드 시작 (완료는 반환된 PendingUpload로 대기)
+    PendingUpload startUpload(String key, MultipartFile file) throws IOException;
+
+    // 업로드 (완료될 때까지 대기)
+    default void upload(String key, MultipartFile file) throws IOException {
+        startUpload(key, file).waitForCompletion();
+    }
+
+    // 스트림 저장 (length를 모르면 -1)
+    void put(String key, InputStream inputStream, long length, String contentType) throws IOException;
+
+    // 전체 읽기 (없으면 StorageObjectNotFoundException)
+    StoredObject get(String key) throws IOException;
+
+    // start ~ endInclusive 구간 읽기
+    StoredObject getRange(String key, long start, long endInclusive) throws IOException;
+
+    // 메타 데이터만 조회 (없으면 null)
+    ObjectInfo stat(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    // 브라우저에서 바로 접근하는 주소
+    String getUrl(String key);
+
+    // getUrl로 만든 주소에서 키 추출
+    String keyFromUrl(String url);
+
+    // ttl 동안만 유효한 다운로드 주소 (지원하지 않는 저장소는 null)
+    default String getPresignedUrl(String key, Duration ttl, String contentDisposition) {
+        return null;
+    }
+
+    // 진행 중인 업로드
+    interface PendingUpload {
+        void waitForCompletion() throws IOException;
+    }
+}
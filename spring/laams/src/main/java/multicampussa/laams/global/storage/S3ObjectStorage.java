@@ -0,0 +1,212 @@
+package multicampussa.laams.global.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+import com.amazonaws.services.s3.model.S3Object;
+import multicampussa.laams.config.S3StreamUploader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * S3 호환 오브젝트 스토리지 저장소 (기본값).
+ * 업로드는 S3StreamUploader로 임시 파일 스트림을 그대로 보내고, 올린 파일은 공개 읽기 주소로 제공한다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    private final AmazonS3Client s3Client;
+    private final S3StreamUploader s3StreamUploader;
+    private final String bucket;
+
+    public S3ObjectStorage(AmazonS3Client s3Client, S3StreamUploader s3StreamUploader,
+                           @Value("${cloud.aws.s3.bucket}") String bucket) {
+        this.s3Client = s3Client;
+        this.s3StreamUploader = s3StreamUploader;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public PendingUpload startUpload(String key, MultipartFile file) throws IOException {
+        return s3StreamUploader.startUpload(bucket, key, file);
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long length, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        if (length >= 0) {
+            metadata.setContentLength(length);
+        }
+
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, inputStream, metadata);
+        putObjectRequest.withCannedAcl(CannedAccessControlList.PublicRead);
+        try {
+            s3Client.putObject(putObjectRequest);
+        } catch (AmazonClientException e) {
+            throw new IOException("S3 업로드에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StoredObject get(String key) throws IOException {
+        return open(key, new GetObjectRequest(bucket, key), 0);
+    }
+
+    @Override
+    public StoredObject getRange(String key, long start, long endInclusive) throws IOException {
+        return open(key, new GetObjectRequest(bucket, key).withRange(start, endInclusive), start);
+    }
+
+    @Override
+    public ObjectInfo stat(String key) throws IOException {
+        try {
+            return toInfo(key, s3Client.getObjectMetadata(bucket, key));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw new IOException("S3 조회에 실패했습니다: " + e.getMessage(), e);
+        } catch (AmazonClientException e) {
+            throw new IOException("S3 조회에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(bucket, key);
+        } catch (AmazonClientException e) {
+            throw new IOException("S3 삭제에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return s3Client.getResourceUrl(bucket, key);
+    }
+
+    // https://laams.kr.object.ncloudstorage.com/notice/uuid.pdf -> notice/uuid.pdf
+    @Override
+    public String keyFromUrl(String url) {
+        String prefix = getUrl("");
+        String encodedKey;
+        if (url.startsWith(prefix)) {
+            encodedKey = url.substring(prefix.length());
+        } else {
+            // 엔드포인트가 바뀌기 전에 저장된 주소는 호스트 뒤 경로를 키로 사용
+            int pathStart = url.indexOf('/', url.indexOf("://") + 3);
+            encodedKey = pathStart < 0 ? url : url.substring(pathStart + 1);
+        }
+        return UriUtils.decode(encodedKey, StandardCharsets.UTF_8);
+    }
+
+    // 서명은 로컬에서 계산하므로 S3 호출 없음
+    @Override
+    public String getPresignedUrl(String key, Duration ttl, String contentDisposition) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.GET)
+                .withExpiration(Date.from(Instant.now().plus(ttl)))
+                .withResponseHeaders(new ResponseHeaderOverrides().withContentDisposition(contentDisposition));
+        return s3Client.generatePresignedUrl(request).toString();
+    }
+
+    private StoredObject open(String key, GetObjectRequest request, long start) throws IOException {
+        S3Object s3Object;
+        try {
+            s3Object = s3Client.getObject(request);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new StorageObjectNotFoundException(key);
+            }
+            throw new IOException("S3 다운로드에 실패했습니다: " + e.getMessage(), e);
+        } catch (AmazonClientException e) {
+            throw new IOException("S3 다운로드에 실패했습니다: " + e.getMessage(), e);
+        }
+        return new S3StoredObject(s3Object, toInfo(key, s3Object.getObjectMetadata()), start);
+    }
+
+    private static ObjectInfo toInfo(String key, ObjectMetadata metadata) {
+        // 구간 요청이면 Content-Length는 구간 길이라서 전체 크기는 Content-Range에서 가져옴
+        long size = metadata.getContentRange() != null ? metadata.getInstanceLength() : metadata.getContentLength();
+        Instant lastModified = metadata.getLastModified() != null ? metadata.getLastModified().toInstant() : null;
+        return new ObjectInfo(key, size, metadata.getContentType(), lastModified, metadata.getETag());
+    }
+
+    private static class S3StoredObject implements StoredObject {
+        private final S3Object s3Object;
+        private final ObjectInfo info;
+        private final long start;
+        private final long length;
+
+        private S3StoredObject(S3Object s3Object, ObjectInfo info, long start) {
+            this.s3Object = s3Object;
+            this.info = info;
+            this.start = start;
+            this.length = s3Object.getObjectMetadata().getContentLength();
+        }
+
+        @Override
+        public ObjectInfo getInfo() {
+            return info;
+        }
+
+        @Override
+        public long getRangeStart() {
+            return start;
+        }
+
+        @Override
+        public long getRangeLength() {
+            return length;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return s3Object.getObjectContent();
+        }
+
+        @Override
+        public long transferTo(WritableByteChannel target) throws IOException {
+            ReadableByteChannel source = Channels.newChannel(s3Object.getObjectContent());
+            ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+            long transferred = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return transferred;
+        }
+
+        @Override
+        public void close() throws IOException {
+            s3Object.close();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package multicampussa.laams.global.storage;
+
+import java.io.FileNotFoundException;
+
+// 저장소에 해당 키의 파일이 없음
+public class StorageObjectNotFoundException extends FileNotFoundException {
+    public StorageObjectNotFoundException(String key) {
+        super("파일을 찾을 수 없습니다: " + key);
+    }
+}
@@ -0,0 +1,26 @@
+package multicampussa.laams.global.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 읽기용으로 연 파일 (전체 또는 일부 구간).
+ * 한 번만 읽을 수 있고, 다 쓰면 닫아야 한다.
+ */
+public interface StoredObject extends Closeable {
+
+    ObjectInfo getInfo();
+
+    // 읽는 구간 시작 위치 (전체 읽기면 0)
+    long getRangeStart();
+
+    // 읽는 구간 길이 (전체 읽기면 파일 크기)
+    long getRangeLength();
+
+    InputStream getInputStream() throws IOException;
+
+    // 읽는 구간을 target으로 전송하고 보낸 바이트 수 반환
+    long transferTo(WritableByteChannel target) throws IOException;
+}
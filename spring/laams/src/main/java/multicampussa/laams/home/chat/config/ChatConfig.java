@@ -1,16 +1,28 @@
 package multicampussa.laams.home.chat.config;
 
+import lombok.RequiredArgsConstructor;
+import multicampussa.laams.home.dashboard.service.RealtimeDashboardSubscribers;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class ChatConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final RealtimeDashboardSubscribers realtimeDashboardSubscribers;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws/chat").setAllowedOriginPatterns("*").withSockJS();
@@ -23,4 +35,29 @@ public class ChatConfig implements WebSocketMessageBrokerConfigurer {
 
         registry.setApplicationDestinationPrefixes("/app");
     }
+
+    // 실시간 대시보드 토픽은 REST 조회와 같은 권한이 있는 구독만 받음 (거부하면 클라이언트에 ERROR 프레임)
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor == null) {
+                    return message;
+                }
+                if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+                    RealtimeDashboardSubscribers.rememberAuthorization(accessor);
+                } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())
+                        && RealtimeDashboardSubscribers.TOPIC.equals(accessor.getDestination())) {
+                    String authorization = RealtimeDashboardSubscribers.getAuthorization(accessor);
+                    if (!realtimeDashboardSubscribers.canSubscribe(authorization)) {
+                        throw new AccessDeniedException("대시보드 조회 권한이 없습니다.");
+                    }
+                    realtimeDashboardSubscribers.add(accessor.getSessionId(), String.valueOf(accessor.getSubscriptionId()));
+                }
+                return message;
+            }
+        });
+    }
 }
@@ -4,6 +4,7 @@ import com.mongodb.client.MongoClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 
 @Configuration
 public class MongoConfig {
@@ -12,4 +13,10 @@ public class MongoConfig {
     public MongoTemplate mongoTemplate(MongoClient mongoClient) {
         return new MongoTemplate(mongoClient, "[DBName]");
     }
+
+    // 채팅 내역 스트리밍, 채팅방 조회용 (같은 DB를 비동기 드라이버로 사용)
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(com.mongodb.reactivestreams.client.MongoClient reactiveMongoClient) {
+        return new ReactiveMongoTemplate(reactiveMongoClient, "[DBName]");
+    }
 }
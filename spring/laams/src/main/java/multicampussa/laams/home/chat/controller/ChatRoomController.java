@@ -15,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import springfox.documentation.annotations.ApiIgnore;
 
 import java.util.ArrayList;
@@ -42,25 +43,15 @@ public class ChatRoomController {
     @GetMapping("/rooms")
     @ResponseBody
     @ApiOperation(value = "채팅방 리스트")
-    public List<ChatRoom> room(@RequestParam(required = false) String directorId, @RequestParam(required = false) String centerName, @RequestParam(defaultValue = "false") boolean isNow, @ApiIgnore @RequestHeader String authorization) {
+    public Flux<ChatRoom> room(@RequestParam(required = false) String directorId, @RequestParam(required = false) String centerName, @RequestParam(defaultValue = "false") boolean isNow, @ApiIgnore @RequestHeader String authorization) {
         String token = authorization.replace("Bearer ", "");
         String authority = jwtTokenProvider.getAuthority(token);
         String id = jwtTokenProvider.getId(token);
 
-        List<ChatRoom> result = new ArrayList<>();
         if (authority.equals("ROLE_DIRECTOR")) {
-            String regionByDirector = chatService.findRegionByDirector(id);
-            String centerNameByDirector = chatService.findCenterNameByDirector(id);
-            result.add(chatService.findByPrivateRoomName(id));
-            result.add(chatService.findByRoomName("Notice"));
-            result.add(chatService.findByRoomName(regionByDirector));
-            result.add(chatService.findByRoomName(centerNameByDirector));
-            if (chatService.isTesting(id)) {
-                result.add(chatService.findByRoomName("Now"));
-            }
-            return result;
+            return chatService.findDirectorRooms(id);
         } else if (authority.equals("ROLE_CENTER_MANAGER")) {
-            return result;
+            return Flux.empty();
         }
 
         return chatService.findSearchRoom(directorId, centerName, isNow);
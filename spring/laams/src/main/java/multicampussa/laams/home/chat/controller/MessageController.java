@@ -11,12 +11,14 @@ import multicampussa.laams.home.chat.service.MessageService;
 import multicampussa.laams.home.member.jwt.JwtTokenProvider;
 import multicampussa.laams.manager.service.center.CenterService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Headers;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import springfox.documentation.annotations.ApiIgnore;
 
 import java.util.HashMap;
@@ -198,10 +200,38 @@ public class MessageController {
         return new ResponseEntity<>(resultMap, HttpStatus.OK);
     }
 
-    @GetMapping("/room/{roomId}")
+    @GetMapping("/chat/message/queue")
+    @ApiOperation(value = "채팅 메시지 저장 대기열 상태 조회")
+    public ResponseEntity<Map<String, Object>> messageQueueStats(@ApiIgnore @RequestHeader String authorization) {
+        String token = authorization.replace("Bearer ", "");
+        String authority = jwtTokenProvider.getAuthority(token);
+        Map<String, Object> resultMap = new HashMap<>();
+        if (!authority.equals("ROLE_MANAGER")) {
+            resultMap.put("code", HttpStatus.UNAUTHORIZED.value());
+            resultMap.put("message", "권한이 없습니다.");
+            return new ResponseEntity<>(resultMap, HttpStatus.UNAUTHORIZED);
+        }
+        resultMap.put("data", messageService.getQueueStats());
+        resultMap.put("code", HttpStatus.OK.value());
+        resultMap.put("status", "success");
+        return new ResponseEntity<>(resultMap, HttpStatus.OK);
+    }
+
+    // 커서 없이 조회하면 오늘 메시지, before/after에 메시지 ID를 주면 그 이전/이후 메시지를 size개씩 시간순으로 반환
+    // Accept가 application/x-ndjson이면 메시지를 읽는 대로 한 줄씩 보내고, application/json이면 모아서 배열로 보냄
+    @GetMapping(value = "/room/{roomId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
     @ResponseBody
     @ApiOperation(value = "채팅 내역 조회")
-    public List<SaveMessage> roomInfo(@PathVariable String roomId) {
+    public Flux<SaveMessage> roomInfo(@PathVariable String roomId,
+                                      @RequestParam(required = false) String before,
+                                      @RequestParam(required = false) String after,
+                                      @RequestParam(defaultValue = "50") int size) {
+        if (before != null) {
+            return messageService.getMessagesBefore(roomId, before, size);
+        }
+        if (after != null) {
+            return messageService.getMessagesAfter(roomId, after, size);
+        }
         return messageService.getMessages(roomId);
     }
 }
@@ -0,0 +1,27 @@
+package multicampussa.laams.home.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 채팅 메시지 저장 대기열 상태 (대기 건수, 누적 처리 건수, 저장 소요 시간)
+@Getter
+@AllArgsConstructor
+public class MessageQueueStats {
+
+    // 저장 대기 중인 메시지 수
+    private int queueDepth;
+    private int queueCapacity;
+    // 대기열에 넣은 메시지 수 (대기열이 가득 차서 직접 저장한 메시지 제외)
+    private long enqueuedCnt;
+    // 대기열이 가득 차서 요청 스레드에서 직접 저장한 메시지 수
+    private long directSaveCnt;
+    // 묶음 저장 성공한 메시지 수, 묶음 수
+    private long flushedCnt;
+    private long flushCnt;
+    // 저장하지 못한 메시지 수
+    private long failedCnt;
+    // 묶음 저장 소요 시간 (ms)
+    private long lastFlushMillis;
+    private long maxFlushMillis;
+    private double avgFlushMillis;
+}
@@ -5,9 +5,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import multicampussa.laams.home.chat.domain.ChatMessage;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import javax.persistence.Id;
 import java.time.LocalDateTime;
 
 @Getter
@@ -25,6 +25,10 @@ public class SaveMessage {
         this.dateTime = LocalDateTime.now();
     }
 
+    // 메시지 ID (채팅 내역 페이지 커서로 사용)
+    @Id
+    private String id;
+
     private ChatMessage.MessageType type;
     //채팅방 ID
     private String roomId;
@@ -12,16 +12,22 @@ import multicampussa.laams.home.member.repository.MemberDirectorRepository;
 import multicampussa.laams.home.member.repository.MemberManagerRepository;
 import multicampussa.laams.manager.domain.center.Center;
 import multicampussa.laams.manager.domain.center.CenterRepository;
-import multicampussa.laams.manager.domain.exam.Exam;
-import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.service.exam.OngoingExamIndex;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
 
 @Service
 @Slf4j
@@ -31,7 +37,8 @@ public class ChatService {
     private final ChatRepository chatRepository;
     private final MemberDirectorRepository memberDirectorRepository;
     private final CenterRepository centerRepository;
-    private final ExamRepository examRepository;
+    private final OngoingExamIndex ongoingExamIndex;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
     private final PrivateChatRepository privateChatRepository;
 
     @PostConstruct
@@ -41,34 +48,56 @@ public class ChatService {
     }
 
     //채팅방 불러오기
-    public List<ChatRoom> findSearchRoom(String directorId, String centerName, boolean isNow) {
-        List<ChatRoom> result = new ArrayList<>();
+    // 채팅방은 ReactiveMongoTemplate으로 조회하고, 센터/감독관(JPA) 조회는 boundedElastic 스레드에서 실행
+    public Flux<ChatRoom> findSearchRoom(String directorId, String centerName, boolean isNow) {
+        Flux<ChatRoom> result;
 
         if (centerName != null) {
-            Long centerNo = centerRepository.findByName(centerName).get().getNo();
-            List<Director> directors = memberDirectorRepository.findByCenterNo(centerNo);
-            for (Director director : directors) {
-                result.add(chatRepository.findByRoomName(director.getId()));
-            }
+            result = blocking(() -> centerRepository.findByName(centerName).orElse(null))
+                    .flatMapIterable(center -> memberDirectorRepository.findByCenterNo(center.getNo()))
+                    .flatMapSequential(director -> findRoomByName(director.getId()));
         } else if (directorId != null) {
-            result = chatRepository.findByRoomNameContaining(directorId);
+            result = reactiveMongoTemplate.find(
+                    new Query(Criteria.where("roomName").regex(Pattern.quote(directorId))), ChatRoom.class);
         } else {
-            result = chatRepository.findAll();
-        }
-
-        while (result.remove(null)) {
-
+            result = reactiveMongoTemplate.findAll(ChatRoom.class);
         }
 
         if (isNow) {
-            result = result.stream()
-                    .filter(chatRoom -> isTesting(chatRoom.getRoomName()))
-                    .collect(Collectors.toList());
+            LocalDateTime now = LocalDateTime.now();
+            result = result.filter(chatRoom -> ongoingExamIndex.isOngoingForDirector(chatRoom.getRoomName(), now));
         }
 
-        Collections.reverse(result);
+        // 최근 만든 방이 앞에 오도록 뒤집음
+        return result.collectList().flatMapIterable(rooms -> {
+            Collections.reverse(rooms);
+            return rooms;
+        });
+    }
+
+    // 감독관이 볼 수 있는 채팅방 (개인, 전체 공지, 지역, 센터, 시험 진행 중이면 진행 중 공지)
+    // 각 조회를 동시에 시작하고 순서대로 내보내며, 없는 방은 건너뜀
+    public Flux<ChatRoom> findDirectorRooms(String directorId) {
+        Mono<Center> center = blocking(() -> centerRepository.findByDirectorId(directorId)).cache();
+        return Flux.mergeSequential(
+                reactiveMongoTemplate.findOne(roomNameIs(directorId), PrivateChatRoom.class),
+                findRoomByName("Notice"),
+                center.flatMap(found -> findRoomByName(found.getRegion())),
+                center.flatMap(found -> findRoomByName(found.getName())),
+                isTesting(directorId) ? findRoomByName("Now") : Mono.<ChatRoom>empty());
+    }
 
-        return result;
+    private Mono<ChatRoom> findRoomByName(String roomName) {
+        return reactiveMongoTemplate.findOne(roomNameIs(roomName), ChatRoom.class);
+    }
+
+    private static Query roomNameIs(String roomName) {
+        return new Query(Criteria.where("roomName").is(roomName));
+    }
+
+    // JPA 조회를 요청/브로커 스레드 밖에서 실행 (null이면 빈 결과)
+    private static <T> Mono<T> blocking(Callable<T> callable) {
+        return Mono.fromCallable(callable).subscribeOn(Schedulers.boundedElastic());
     }
 
     //채팅방 하나 불러오기
@@ -183,16 +212,8 @@ public class ChatService {
     }
 
     // 해당 감독관이 감독 진행중인 시험이 있는지
+    // 승인된 시험 전체를 읽지 않고 오늘, 내일 시험 색인에서 확인
     public boolean isTesting(String id) {
-        List<Exam> exams = examRepository.findByDirectorId(id);
-
-        for (Exam exam : exams) {
-            if (exam.getExamDate().isBefore(LocalDateTime.now()) &&
-                    (exam.getExamDate().plusMinutes(exam.getRunningTime())).isAfter(LocalDateTime.now())) {
-                return true;
-            }
-        }
-
-        return false;
+        return ongoingExamIndex.isOngoingForDirector(id, LocalDateTime.now());
     }
 }
@@ -1,39 +1,113 @@
 package multicampussa.laams.home.chat.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import multicampussa.laams.home.chat.domain.ChatMessage;
+import multicampussa.laams.home.chat.dto.MessageQueueStats;
 import multicampussa.laams.home.chat.dto.SaveMessage;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MessageService {
 
+    // 채팅 내역 한 페이지 최대 메시지 수
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final MongoTemplate mongoTemplate;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final MessageWriteBehind messageWriteBehind;
+
+    // 방별 시간순 조회용 복합 인덱스 (roomId, dateTime, _id), 이미 있으면 그대로 둠
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(SaveMessage.class).ensureIndex(new Index()
+                    .on("roomId", Sort.Direction.ASC)
+                    .on("dateTime", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC)
+                    .named("idx_message_room_date_time"));
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 인덱스 생성 실패", e);
+        }
+    }
 
+    // 전송 스레드는 Mongo 저장을 기다리지 않음 (MessageWriteBehind가 묶어서 저장)
     public void saveMessage(ChatMessage chatMessage) {
         SaveMessage saveMessage = new SaveMessage();
         saveMessage.updateMessage(chatMessage);
-        mongoTemplate.save(saveMessage);
+        messageWriteBehind.enqueue(saveMessage);
     }
 
-    public List<SaveMessage> getMessages(String roomId) {
-        Query query = new Query(Criteria.where("roomId").is(roomId));
-        List<SaveMessage> chatMessages = mongoTemplate.find(query, SaveMessage.class);
-        List<SaveMessage> result = new ArrayList<>();
-        for (SaveMessage chatMessage: chatMessages) {
-            if (chatMessage.getDateTime().toLocalDate().equals(LocalDate.now())) {
-                result.add(chatMessage);
-            }
+    public MessageQueueStats getQueueStats() {
+        return messageWriteBehind.getStats();
+    }
+
+    // 채팅 내역은 ReactiveMongoTemplate으로 읽어서 Flux로 반환 (요청 스레드는 Mongo 응답을 기다리지 않음)
+
+    // 오늘 메시지 (시간순, 읽는 대로 내보냄)
+    public Flux<SaveMessage> getMessages(String roomId) {
+        Query query = new Query(Criteria.where("roomId").is(roomId)
+                .and("dateTime").gte(LocalDate.now().atStartOfDay()))
+                .with(Sort.by(Sort.Direction.ASC, "dateTime", "_id"));
+        return reactiveMongoTemplate.find(query, SaveMessage.class);
+    }
+
+    // 커서 메시지보다 이전 메시지 size개 (시간순, 스크롤을 올려서 지난 대화 보기)
+    public Flux<SaveMessage> getMessagesBefore(String roomId, String before, int size) {
+        return findCursor(roomId, before).flatMapMany(cursor -> {
+            Query query = new Query(Criteria.where("roomId").is(roomId).orOperator(
+                    Criteria.where("dateTime").lt(cursor.getDateTime()),
+                    Criteria.where("dateTime").is(cursor.getDateTime()).and("_id").lt(new ObjectId(cursor.getId()))))
+                    .with(Sort.by(Sort.Direction.DESC, "dateTime", "_id"))
+                    .limit(pageSize(size));
+            // 최신순으로 잘라 온 페이지를 시간순으로 뒤집음 (한 페이지 크기까지만 모음)
+            return reactiveMongoTemplate.find(query, SaveMessage.class)
+                    .collectList()
+                    .flatMapIterable(messages -> {
+                        Collections.reverse(messages);
+                        return messages;
+                    });
+        });
+    }
+
+    // 커서 메시지 이후 메시지 size개 (시간순, 재접속 후 놓친 메시지 받기)
+    public Flux<SaveMessage> getMessagesAfter(String roomId, String after, int size) {
+        return findCursor(roomId, after).flatMapMany(cursor -> {
+            Query query = new Query(Criteria.where("roomId").is(roomId).orOperator(
+                    Criteria.where("dateTime").gt(cursor.getDateTime()),
+                    Criteria.where("dateTime").is(cursor.getDateTime()).and("_id").gt(new ObjectId(cursor.getId()))))
+                    .with(Sort.by(Sort.Direction.ASC, "dateTime", "_id"))
+                    .limit(pageSize(size));
+            return reactiveMongoTemplate.find(query, SaveMessage.class);
+        });
+    }
+
+    // 커서로 받은 메시지 ID 조회 (형식이 잘못됐거나 다른 방 메시지면 빈 결과)
+    private Mono<SaveMessage> findCursor(String roomId, String messageId) {
+        if (messageId == null || !ObjectId.isValid(messageId)) {
+            return Mono.empty();
         }
-        return result;
+        return reactiveMongoTemplate.findById(new ObjectId(messageId), SaveMessage.class)
+                .filter(cursor -> roomId.equals(cursor.getRoomId()) && cursor.getDateTime() != null);
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 }
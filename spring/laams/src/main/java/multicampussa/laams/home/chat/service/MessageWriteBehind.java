@@ -0,0 +1,204 @@
+package multicampussa.laams.home.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.home.chat.dto.MessageQueueStats;
+import multicampussa.laams.home.chat.dto.SaveMessage;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채팅 메시지 지연 저장 (write-behind).
+ * 메시지 전송 스레드는 대기열에 넣고 바로 돌아가고, 저장 스레드가 BATCH_SIZE개가 모이거나 첫 메시지가 MAX_DELAY_MILLIS를 기다리면 insertAll 한 번으로 저장한다.
+ * 대기열이 가득 차면 전송 스레드가 OFFER_TIMEOUT_MILLIS까지 기다리고, 그래도 자리가 없으면 직접 저장해서 메모리에 쌓이는 양을 제한한다.
+ * ID는 넣을 때 미리 정하므로 묶음 저장이 실패하면 한 건씩 save(같은 ID면 덮어씀)로 다시 저장한다.
+ * 서버 종료 시 남은 메시지를 모두 저장한 뒤 끝난다.
+ * 대기열에 넣기와 종료 표시는 읽기/쓰기 잠금으로 나눠서, 종료가 시작된 뒤에는 대기열에 새 메시지가 들어가지 않는다 (종료 직전에 넣은 메시지를 놓치지 않음).
+ * 묶음 저장은 한 번에 하나씩만 하므로 저장 스레드가 늦어져 종료 처리가 남은 메시지를 직접 저장할 때도 서로 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageWriteBehind {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final long MAX_DELAY_MILLIS = 200;
+    private static final long OFFER_TIMEOUT_MILLIS = 500;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final BlockingQueue<SaveMessage> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private volatile boolean running;
+    // 대기열에 넣기(읽기)와 종료 표시(쓰기)
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    // 묶음 저장은 한 번에 하나씩
+    private final Object flushLock = new Object();
+    private Thread flusher;
+
+    // 지표
+    private final AtomicLong enqueuedCnt = new AtomicLong();
+    private final AtomicLong directSaveCnt = new AtomicLong();
+    private final AtomicLong flushedCnt = new AtomicLong();
+    private final AtomicLong flushCnt = new AtomicLong();
+    private final AtomicLong failedCnt = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private volatile long lastFlushMillis;
+    private volatile long maxFlushMillis;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "chat-message-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // 저장 예약 (대기열이 가득 차 있으면 잠시 기다리고, 종료 중이거나 끝내 자리가 없으면 직접 저장)
+    public void enqueue(SaveMessage message) {
+        if (message.getId() == null) {
+            message.setId(new ObjectId().toString());
+        }
+        stateLock.readLock().lock();
+        try {
+            if (running) {
+                if (queue.offer(message, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    enqueuedCnt.incrementAndGet();
+                    return;
+                }
+                log.warn("채팅 메시지 저장 대기열이 가득 차서 직접 저장: {}", message.getRoomId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        directSaveCnt.incrementAndGet();
+        saveOne(message);
+    }
+
+    public MessageQueueStats getStats() {
+        long flushes = flushCnt.get();
+        double avgFlushMillis = flushes == 0 ? 0 : totalFlushNanos.get() / 1_000_000.0 / flushes;
+        return new MessageQueueStats(queue.size(), QUEUE_CAPACITY, enqueuedCnt.get(), directSaveCnt.get(),
+                flushedCnt.get(), flushes, failedCnt.get(), lastFlushMillis, maxFlushMillis, avgFlushMillis);
+    }
+
+    // 새 메시지는 받지 않고 남은 메시지를 저장한 뒤 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 대기열에 넣는 중인 메시지가 다 들어간 뒤에 종료 표시 (이후 enqueue는 직접 저장)
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        // 저장 중인 묶음이 끊기지 않도록 interrupt 없이 대기열이 빌 때까지 기다림
+        flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (flusher.isAlive()) {
+            log.warn("채팅 메시지 저장 스레드가 {}ms 안에 끝나지 않아 남은 메시지 {}건을 직접 저장", SHUTDOWN_TIMEOUT_MILLIS, queue.size());
+        }
+        // 저장 스레드가 늦어지거나 중단되어 남은 메시지는 빌 때까지 묶음 단위로 직접 저장
+        List<SaveMessage> remaining = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(remaining, BATCH_SIZE) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+        // 저장 스레드가 이미 꺼내 간 묶음까지 저장되도록 한 번 더 기다림
+        flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (flusher.isAlive()) {
+            log.error("채팅 메시지 저장 스레드가 종료되지 않음");
+        }
+    }
+
+    private void run() {
+        List<SaveMessage> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                SaveMessage first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_DELAY_MILLIS);
+                while (batch.size() < BATCH_SIZE) {
+                    queue.drainTo(batch, BATCH_SIZE - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= BATCH_SIZE || remaining <= 0) {
+                        break;
+                    }
+                    SaveMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // 모은 메시지만 저장하고 종료 (남은 메시지는 shutdown()이 저장)
+                Thread.currentThread().interrupt();
+                running = false;
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                return;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<SaveMessage> batch) {
+        synchronized (flushLock) {
+            doFlush(batch);
+        }
+    }
+
+    private void doFlush(List<SaveMessage> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            mongoTemplate.insertAll(batch);
+            flushedCnt.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 {}건 묶음 저장 실패, 한 건씩 다시 저장", batch.size(), e);
+            for (SaveMessage message : batch) {
+                if (saveOne(message)) {
+                    flushedCnt.incrementAndGet();
+                }
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        flushCnt.incrementAndGet();
+        totalFlushNanos.addAndGet(elapsedNanos);
+        lastFlushMillis = elapsedMillis;
+        if (elapsedMillis > maxFlushMillis) {
+            maxFlushMillis = elapsedMillis;
+        }
+    }
+
+    private boolean saveOne(SaveMessage message) {
+        try {
+            mongoTemplate.save(message);
+            return true;
+        } catch (RuntimeException e) {
+            failedCnt.incrementAndGet();
+            log.error("채팅 메시지 저장 실패: {} {}", message.getRoomId(), message.getId(), e);
+            return false;
+        }
+    }
+}
@@ -4,11 +4,16 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import multicampussa.laams.home.dashboard.dto.RealTimeDashboardDto;
+import multicampussa.laams.home.dashboard.dto.RealTimeDashboardMessage;
 import multicampussa.laams.home.dashboard.dto.RealTimeDashboardResDto;
+import multicampussa.laams.home.dashboard.service.RealtimeDashboardPublisher;
 import multicampussa.laams.home.dashboard.service.RealtimeDashboardService;
+import multicampussa.laams.home.dashboard.service.RealtimeDashboardSubscribers;
 import multicampussa.laams.home.member.jwt.JwtTokenProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,6 +31,8 @@ import java.util.Map;
 public class RealTimeDashboardController {
 
     private final RealtimeDashboardService realtimeDashboardService;
+    private final RealtimeDashboardPublisher realtimeDashboardPublisher;
+    private final RealtimeDashboardSubscribers realtimeDashboardSubscribers;
     private final JwtTokenProvider jwtTokenProvider;
 
     @ApiOperation(value = "실시간 시험 진행 현황 대시보드 조회")
@@ -49,5 +56,15 @@ public class RealTimeDashboardController {
         }
     }
 
+    // 실시간 대시보드 구독 시 전체 스냅샷 (이후 변경분은 /topic/dashboard/realtime으로 수신)
+    // 구독 프레임에 토큰이 없으면 CONNECT 때 세션에 저장해 둔 토큰으로 확인
+    @SubscribeMapping("/dashboard/realtime")
+    public RealTimeDashboardMessage subscribeRealTimeExamStatus(SimpMessageHeaderAccessor headerAccessor) {
+        if (!realtimeDashboardSubscribers.canSubscribe(RealtimeDashboardSubscribers.getAuthorization(headerAccessor))) {
+            return RealTimeDashboardMessage.error("대시보드 조회 권한이 없습니다.");
+        }
+        return realtimeDashboardPublisher.getSnapshot();
+    }
+
 
 }
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import multicampussa.laams.home.notice.domain.Notice;
 import multicampussa.laams.manager.domain.exam.Exam;
 import multicampussa.laams.manager.dto.ExamDTO;
+import multicampussa.laams.manager.dto.OngoingExamStatusDTO;
 
 @Data
 @NoArgsConstructor
@@ -38,5 +39,16 @@ public class RealTimeDashboardDto {
         this.compensation = compensation;
     }
 
+    public void toEntity(OngoingExamStatusDTO exam){
+        this.exam = exam.getExamNo();
+        this.region = exam.getRegion();
+        this.center = exam.getCenter();
+        this.applicants = exam.getApplicants();
+        this.participants = exam.getParticipants();
+        // 접수 인원이 없으면 응시율 0
+        this.attendanceRate = applicants == 0 ? 0.0 : Math.round(participants * 1000.0 / applicants) / 10.0;
+        this.compensation = exam.getCompensation();
+    }
+
 
 }
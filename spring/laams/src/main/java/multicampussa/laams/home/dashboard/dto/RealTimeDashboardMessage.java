@@ -0,0 +1,44 @@
+package multicampussa.laams.home.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+// 실시간 대시보드 STOMP 메시지 (SNAPSHOT: 구독 시 전체, DELTA: 바뀐 시험과 끝난 시험만)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RealTimeDashboardMessage {
+
+    public enum MessageType {
+        SNAPSHOT, DELTA, ERROR
+    }
+
+    private MessageType type;
+
+    // 스냅샷 버전 (DELTA의 version이 받은 마지막 version + 1이 아니면 놓친 변경이 있으므로 다시 구독)
+    private long version;
+
+    // SNAPSHOT이면 진행 중인 전체 시험, DELTA면 새로 시작했거나 값이 바뀐 시험
+    private List<RealTimeDashboardDto> exams;
+
+    // 끝난 시험 번호
+    private List<Long> removedExams;
+
+    private String message;
+
+    public static RealTimeDashboardMessage snapshot(long version, List<RealTimeDashboardDto> exams) {
+        return new RealTimeDashboardMessage(MessageType.SNAPSHOT, version, exams, Collections.emptyList(), null);
+    }
+
+    public static RealTimeDashboardMessage delta(long version, List<RealTimeDashboardDto> exams, List<Long> removedExams) {
+        return new RealTimeDashboardMessage(MessageType.DELTA, version, exams, removedExams, null);
+    }
+
+    public static RealTimeDashboardMessage error(String message) {
+        return new RealTimeDashboardMessage(MessageType.ERROR, 0, Collections.emptyList(), Collections.emptyList(), message);
+    }
+}
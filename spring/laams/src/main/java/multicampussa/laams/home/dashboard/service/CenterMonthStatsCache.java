@@ -0,0 +1,109 @@
+package multicampussa.laams.home.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.home.dashboard.dto.DashboardExamDto;
+import multicampussa.laams.home.dashboard.dto.DashboardExamineeDto;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 센터별 월간 시험 횟수, 응시자 수 캐시 (Redis).
+ * 지난 달은 한 번 계산하면 만료 없이 보관하고, 이번 달과 이후 달은 CURRENT_MONTH_TTL_SECONDS 동안만 보관한다.
+ * 시험 생성/수정/삭제, 응시자 등록은 해당 달 항목을 커밋 후에 지우므로 지난 달 시험을 고쳐도 다음 조회 때 다시 계산된다.
+ * Redis에 연결할 수 없으면 DB에서 바로 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CenterMonthStatsCache {
+
+    private static final String EXAM_KEY_PREFIX = "dashboard:center-exam:";
+    private static final String EXAMINEE_KEY_PREFIX = "dashboard:center-examinee:";
+    private static final long CURRENT_MONTH_TTL_SECONDS = 60;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public List<DashboardExamDto> getExamCounts(int year, int month, Supplier<List<DashboardExamDto>> loader) {
+        return get(EXAM_KEY_PREFIX, YearMonth.of(year, month), DashboardExamDto[].class, loader);
+    }
+
+    public List<DashboardExamineeDto> getExamineeCounts(int year, int month, Supplier<List<DashboardExamineeDto>> loader) {
+        return get(EXAMINEE_KEY_PREFIX, YearMonth.of(year, month), DashboardExamineeDto[].class, loader);
+    }
+
+    // 시험 생성/수정/삭제 (센터, 날짜가 바뀌면 시험 횟수와 응시자 수 모두 달라짐)
+    public void evictExam(LocalDateTime examDate) {
+        evict(examDate, EXAM_KEY_PREFIX, EXAMINEE_KEY_PREFIX);
+    }
+
+    // 응시자 등록
+    public void evictExaminee(LocalDateTime examDate) {
+        evict(examDate, EXAMINEE_KEY_PREFIX);
+    }
+
+    private <T> List<T> get(String prefix, YearMonth yearMonth, Class<T[]> type, Supplier<List<T>> loader) {
+        String key = prefix + yearMonth;
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Arrays.asList(objectMapper.readValue(cached, type));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("대시보드 통계 캐시 조회 실패: {}", key, e);
+        }
+
+        List<T> loaded = loader.get();
+        try {
+            String value = objectMapper.writeValueAsString(loaded);
+            if (yearMonth.isBefore(YearMonth.now())) {
+                stringRedisTemplate.opsForValue().set(key, value);
+            } else {
+                stringRedisTemplate.opsForValue().set(key, value, CURRENT_MONTH_TTL_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("대시보드 통계 캐시 저장 실패: {}", key, e);
+        }
+        return loaded;
+    }
+
+    // 트랜잭션 안이면 커밋 후에 지움 (커밋 전에 지우면 다른 요청이 이전 값으로 다시 채울 수 있음)
+    private void evict(LocalDateTime examDate, String... prefixes) {
+        if (examDate == null) {
+            return;
+        }
+        YearMonth yearMonth = YearMonth.from(examDate);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(yearMonth, prefixes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete(yearMonth, prefixes);
+            }
+        });
+    }
+
+    private void delete(YearMonth yearMonth, String... prefixes) {
+        for (String prefix : prefixes) {
+            try {
+                stringRedisTemplate.delete(prefix + yearMonth);
+            } catch (RuntimeException e) {
+                log.warn("대시보드 통계 캐시 삭제 실패: {}", prefix + yearMonth, e);
+            }
+        }
+    }
+}
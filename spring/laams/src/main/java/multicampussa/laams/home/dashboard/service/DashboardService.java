@@ -29,6 +29,7 @@ public class DashboardService {
     public final ExamExamineeRepository examExamineeRepository;
     public final NoticeRepository noticeRepository;
     public final MemberManagerRepository managerRepository;
+    public final CenterMonthStatsCache centerMonthStatsCache;
 
 
 //    센터별 월별 시험 횟수 조회
@@ -38,7 +39,9 @@ public class DashboardService {
         if (authority.equals("ROLE_DIRECTOR")) {
             throw new IllegalArgumentException("대시보드 조회 권한이 없습니다.");
         }
-        List<DashboardExamDto> theNumberOfExam = examRepository.getCenterExamMonthCount(year, month);
+        // 지난 달은 Redis에 보관된 결과, 이번 달은 짧게 캐시된 결과 사용
+        List<DashboardExamDto> theNumberOfExam = centerMonthStatsCache.getExamCounts(year, month,
+                () -> examRepository.getCenterExamMonthCount(year, month));
 
 //        if (theNumberOfExam == null) {
 //            theNumberOfExam = "0";
@@ -57,7 +60,8 @@ public class DashboardService {
         if (authority.equals("ROLE_DIRECTOR")) {
             throw new IllegalArgumentException("대시보드 조회 권한이 없습니다.");
         }
-        List<DashboardExamineeDto> theNumberOfExaminee = examRepository.getCenterExamineeMonthCount(year, month);
+        List<DashboardExamineeDto> theNumberOfExaminee = centerMonthStatsCache.getExamineeCounts(year, month,
+                () -> examRepository.getCenterExamineeMonthCount(year, month));
 
         centerExamineeMap.put("examineeCount", theNumberOfExaminee);
 
@@ -0,0 +1,89 @@
+package multicampussa.laams.home.dashboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.home.dashboard.dto.RealTimeDashboardDto;
+import multicampussa.laams.home.dashboard.dto.RealTimeDashboardMessage;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 시험 현황 STOMP 발행.
+ * 구독자가 있는 동안만 TICK_MILLIS마다 진행 중인 시험 현황을 한 번 계산하고, 이전 스냅샷과 달라진 시험만 /topic/dashboard/realtime으로 보낸다.
+ * 구독 직후에는 /app/dashboard/realtime 구독 응답으로 마지막 전체 스냅샷을 받는다.
+ * DB 조회 횟수는 보고 있는 운영자 수와 관계없이 tick당 한 번이다.
+ * 구독자 수는 권한 확인을 통과한 구독만 센다 (RealtimeDashboardSubscribers).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RealtimeDashboardPublisher {
+
+    private static final long TICK_MILLIS = 3000;
+
+    private final RealtimeDashboardService realtimeDashboardService;
+    private final SimpMessageSendingOperations sendingOperations;
+    private final RealtimeDashboardSubscribers subscribers;
+
+    // 마지막으로 계산한 스냅샷 (시험 번호 -> 현황)
+    private Map<Long, RealTimeDashboardDto> snapshot = Collections.emptyMap();
+    private long version;
+    private long computedAt;
+
+    // 구독 시 보낼 전체 스냅샷 (계산한 지 TICK_MILLIS가 지났으면 새로 계산해서 구독자에게도 변경분 발행)
+    public synchronized RealTimeDashboardMessage getSnapshot() {
+        if (System.currentTimeMillis() - computedAt >= TICK_MILLIS) {
+            refresh();
+        }
+        return RealTimeDashboardMessage.snapshot(version, new ArrayList<>(snapshot.values()));
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public synchronized void tick() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("실시간 대시보드 갱신 실패", e);
+        }
+    }
+
+    private void refresh() {
+        Map<Long, RealTimeDashboardDto> current = new LinkedHashMap<>();
+        for (RealTimeDashboardDto exam : realtimeDashboardService.loadOngoingExamStatus()) {
+            current.put(exam.getExam(), exam);
+        }
+        computedAt = System.currentTimeMillis();
+
+        List<RealTimeDashboardDto> changed = new ArrayList<>();
+        for (RealTimeDashboardDto exam : current.values()) {
+            if (!exam.equals(snapshot.get(exam.getExam()))) {
+                changed.add(exam);
+            }
+        }
+        List<Long> removed = new ArrayList<>();
+        for (Long examNo : snapshot.keySet()) {
+            if (!current.containsKey(examNo)) {
+                removed.add(examNo);
+            }
+        }
+        snapshot = current;
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        version++;
+        if (!subscribers.isEmpty()) {
+            sendingOperations.convertAndSend(RealtimeDashboardSubscribers.TOPIC, RealTimeDashboardMessage.delta(version, changed, removed));
+        }
+    }
+}
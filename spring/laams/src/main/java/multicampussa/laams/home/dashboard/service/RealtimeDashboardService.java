@@ -7,10 +7,12 @@ import multicampussa.laams.manager.domain.center.CenterRepository;
 import multicampussa.laams.manager.domain.exam.Exam;
 import multicampussa.laams.manager.domain.exam.ExamRepository;
 import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
-import multicampussa.laams.manager.dto.ExamDTO;
+import multicampussa.laams.manager.dto.OngoingExamStatusDTO;
 import multicampussa.laams.manager.dto.dashboard.response.DashboardErrorReport;
+import multicampussa.laams.manager.service.exam.OngoingExamIndex;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -23,31 +25,29 @@ public class RealtimeDashboardService {
     public final CenterRepository centerRepository;
     public final ExamRepository examRepository;
     public final ExamExamineeRepository examExamineeRepository;
+    public final OngoingExamIndex ongoingExamIndex;
 
     public List<RealTimeDashboardDto> getRealTimeExamStatus(String authority) {
         // 응시자는 대시보드 조회할 수 없음(감독관, 센터관리자, 운영자 다 봐도 될 듯)
         if (authority.equals("ROLE_EXAMINEE")) {
             throw new IllegalArgumentException("대시보드 조회 권한이 없습니다.");
         }
-        List<RealTimeDashboardDto> realTimeDashboards = new ArrayList<>();
+        return loadOngoingExamStatus();
+    }
 
-        // 현재 진행중인 시험 리스트 조회
-        List<ExamDTO> exams = examRepository.findOngoingExam();
-        System.out.println("exams.size() = " + exams.size());
-        // exams 순회하면서 쿼리 3번 호출
-        for (ExamDTO exam : exams) {
-            System.out.println("exam = " + exam);
-            // 해당 시험 접수인원 조회
-            int applicants = examExamineeRepository.getTheNumberOfApplicants(exam.getExamNo());
-            // 해당 시험 응시인원 조회
-            int participants = examExamineeRepository.getTheNumberOfParticipants(exam.getExamNo());
-            // 해당 시험 응시율
-            double attendanceRate = Math.round(participants / (applicants * 1.0) * 1000)  / 10.0;
-            // 해당 시험 보상 신청수
-            int compensation = examExamineeRepository.getTheNumberOfCompensation(exam.getExamNo());
+    // 진행 중인 시험 현황 계산 (권한 확인 없음, 실시간 대시보드 발행에서도 사용)
+    public List<RealTimeDashboardDto> loadOngoingExamStatus() {
+        List<RealTimeDashboardDto> realTimeDashboards = new ArrayList<>();
 
+        // 현재 진행중인 시험은 색인에서 찾고, 시험별 접수/응시/보상 인원은 시험 번호로 쿼리 한 번에 조회
+        List<Long> examNos = ongoingExamIndex.findOngoingExamNos(LocalDateTime.now());
+        if (examNos.isEmpty()) {
+            return realTimeDashboards;
+        }
+        List<OngoingExamStatusDTO> exams = examRepository.findExamStatusByExamNos(examNos);
+        for (OngoingExamStatusDTO exam : exams) {
             RealTimeDashboardDto realTimeDashboard = new RealTimeDashboardDto();
-            realTimeDashboard.toEntity(exam, applicants, participants, attendanceRate, compensation);
+            realTimeDashboard.toEntity(exam);
 
             realTimeDashboards.add(realTimeDashboard);
         }
@@ -0,0 +1,93 @@
+package multicampussa.laams.home.dashboard.service;
+
+import lombok.RequiredArgsConstructor;
+import multicampussa.laams.home.member.jwt.JwtTokenProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 대시보드 토픽(/topic/dashboard/realtime) 구독 세션.
+ * 구독 권한 확인을 통과한 구독만 기록하고 (ChatConfig의 구독 인터셉터에서 호출), 구독 해제/연결 종료 시 지운다.
+ * 구독 프레임에 토큰이 없으면 CONNECT 프레임 때 세션에 저장해 둔 토큰으로 확인한다 (인터셉터와 스냅샷 핸들러가 같은 기준).
+ * 메시징 빈에 의존하지 않아서 ChatConfig에 주입해도 순환 참조가 생기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RealtimeDashboardSubscribers {
+
+    public static final String TOPIC = "/topic/dashboard/realtime";
+
+    // STOMP 헤더 이름이자 CONNECT 프레임으로 받은 토큰을 담아 두는 세션 속성 이름
+    private static final String AUTHORIZATION = "Authorization";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    // 세션 ID -> TOPIC 구독 ID
+    private final Map<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
+
+    // REST 조회와 같은 기준 (유효한 토큰이고 응시자가 아니면 허용)
+    public boolean canSubscribe(String authorization) {
+        if (authorization == null) {
+            return false;
+        }
+        try {
+            String token = authorization.replace("Bearer ", "");
+            return !jwtTokenProvider.getAuthority(token).equals("ROLE_EXAMINEE");
+        } catch (RuntimeException e) {
+            // 만료, 위조, 권한 정보가 없는 토큰
+            return false;
+        }
+    }
+
+    // CONNECT 프레임의 토큰을 세션에 저장 (이후 프레임에 토큰이 없을 때 사용)
+    public static void rememberAuthorization(SimpMessageHeaderAccessor accessor) {
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION);
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (authorization != null && sessionAttributes != null) {
+            sessionAttributes.put(AUTHORIZATION, authorization);
+        }
+    }
+
+    // 프레임의 토큰, 없으면 CONNECT 때 세션에 저장해 둔 토큰
+    public static String getAuthorization(SimpMessageHeaderAccessor accessor) {
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION);
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (authorization == null && sessionAttributes != null) {
+            authorization = (String) sessionAttributes.get(AUTHORIZATION);
+        }
+        return authorization;
+    }
+
+    public void add(String sessionId, String subscriptionId) {
+        subscriptions.computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet()).add(subscriptionId);
+    }
+
+    public boolean isEmpty() {
+        return subscriptions.isEmpty();
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null) {
+            return;
+        }
+        subscriptions.computeIfPresent(sessionId, (key, subscriptionIds) -> {
+            subscriptionIds.remove(String.valueOf(accessor.getSubscriptionId()));
+            return subscriptionIds.isEmpty() ? null : subscriptionIds;
+        });
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        subscriptions.remove(event.getSessionId());
+    }
+}
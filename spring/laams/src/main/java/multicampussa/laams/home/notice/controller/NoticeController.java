@@ -160,16 +160,13 @@ public class NoticeController {
 
     @ApiOperation(value = "공지사항 첨부파일 다운로드")
     @GetMapping("/notice/download/{fileName}")
-    public ResponseEntity<?> downloadFile(@PathVariable String fileName) {
+    public ResponseEntity<?> downloadFile(@PathVariable String fileName,
+                                          @ApiIgnore @RequestHeader HttpHeaders requestHeaders,
+                                          @RequestParam(defaultValue = "false") boolean redirect) {
 
         try {
-            // 파일을 스트림으로 전송하고 다운로드 가능하도록 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment", fileName);
-
-            InputStream fileInputStream = noticeService.downloadFile(fileName).getBody().getInputStream();
-            return new ResponseEntity<>(new InputStreamResource(fileInputStream), headers, HttpStatus.OK);
+            // 파일을 스트림으로 전송하고 다운로드 가능하도록 헤더 설정 (Range, ETag 지원, redirect=true면 서명 주소로 이동)
+            return noticeService.downloadFile(fileName, requestHeaders, redirect);
         } catch (IOException e) {
             // 예외 발생 시, 사용자에게 에러 메시지를 반환
             return new ResponseEntity<>("NOT_FOUND_FILE", HttpStatus.NOT_FOUND);
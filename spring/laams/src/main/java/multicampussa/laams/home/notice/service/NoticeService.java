@@ -6,8 +6,7 @@ import multicampussa.laams.home.notice.domain.Notice;
 import multicampussa.laams.home.notice.dto.*;
 import multicampussa.laams.home.notice.repository.NoticeRepository;
 import multicampussa.laams.manager.domain.manager.Manager;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -59,12 +58,8 @@ public class NoticeService {
         if (file != null) {
             attachFileUrl = s3Service.saveFile(file);
 
-            // 문자열을 "com/"을 기준으로 분할
-            String[] parts = attachFileUrl.split("com/");
-
-            // 분할된 문자열 중 두 번째 부분 가져오기 (두 번째 부분은 "com/" 이후의 부분)
-            String parsedString = parts[1];
-            fileName = parsedString;
+            // 저장된 주소에서 저장소 키 추출
+            fileName = s3Service.toFileName(attachFileUrl);
         }
         Optional<Manager> findMangerById = managerRepository.findById(memberNo);
 
@@ -124,12 +119,8 @@ public class NoticeService {
 
             // 새로운 파일을 S3에 추가
             attachFileUrl = s3Service.saveFile(file);
-            // 문자열을 "com/"을 기준으로 분할
-            String[] parts = attachFileUrl.split("com/");
-
-            // 분할된 문자열 중 두 번째 부분 가져오기 (두 번째 부분은 "com/" 이후의 부분)
-            String parsedString = parts[1];
-            fileName = parsedString;
+            // 저장된 주소에서 저장소 키 추출
+            fileName = s3Service.toFileName(attachFileUrl);
 
             notice.setAttachFileUrl(attachFileUrl);
             notice.setFileName(fileName);
@@ -149,12 +140,8 @@ public class NoticeService {
         // 생성 시 사진 없음, 수정 시 사진 첨부
         if  (notice.getAttachFile().isEmpty() && file != null) {
             attachFileUrl = s3Service.saveFile(file);
-            // 문자열을 "com/"을 기준으로 분할
-            String[] parts = attachFileUrl.split("com/");
-
-            // 분할된 문자열 중 두 번째 부분 가져오기 (두 번째 부분은 "com/" 이후의 부분)
-            String parsedString = parts[1];
-            fileName = parsedString;
+            // 저장된 주소에서 저장소 키 추출
+            fileName = s3Service.toFileName(attachFileUrl);
 
             notice.setAttachFileUrl(attachFileUrl);
             notice.setFileName(fileName);
@@ -205,8 +192,8 @@ public class NoticeService {
     }
 
     // 첨부파일 다운 받기
-    public ResponseEntity<UrlResource> downloadFile(String originalFilename) throws IOException{
-        return s3Service.downloadFile(originalFilename);
+    public ResponseEntity<?> downloadFile(String originalFilename, HttpHeaders requestHeaders, boolean redirect) throws IOException{
+        return s3Service.downloadFile(originalFilename, requestHeaders, redirect);
     }
 
 
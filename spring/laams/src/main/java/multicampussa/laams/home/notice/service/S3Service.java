@@ -1,32 +1,42 @@
 package multicampussa.laams.home.notice.service;
 
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.*;
 import lombok.RequiredArgsConstructor;
-import multicampussa.laams.home.notice.repository.NoticeRepository;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import multicampussa.laams.global.storage.ObjectInfo;
+import multicampussa.laams.global.storage.ObjectStorage;
+import multicampussa.laams.global.storage.StorageObjectNotFoundException;
+import multicampussa.laams.global.storage.StoredObject;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class S3Service {
-    private final AmazonS3Client amazonS3Client;
+    // 다운로드용 서명 주소 유효 시간
+    private static final Duration PRESIGNED_URL_TTL = Duration.ofMinutes(5);
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    // storage.type 설정에 따라 S3 또는 서버 디스크
+    private final ObjectStorage objectStorage;
 
 
     // 첨부파일 업로드
@@ -37,23 +47,21 @@ public class S3Service {
             // 파일명 중복 안되게 랜덤으로 이름 붙여줌
             String fileName = "notice/" + createFileName(file.getOriginalFilename());
 
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            metadata.setContentType(file.getContentType());
+            // 임시 파일 스트림을 그대로 저장소에 업로드
+            objectStorage.upload(fileName, file);
 
-            // 업로드할 때 ACL 설정 추가
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, fileName, file.getInputStream(), metadata);
-            putObjectRequest.setCannedAcl(CannedAccessControlList.PublicRead);
-
-            amazonS3Client.putObject(putObjectRequest);
-
-            return amazonS3Client.getUrl(bucket, fileName).toString();
+            return objectStorage.getUrl(fileName);
         } catch (IOException e) {
             e.printStackTrace();
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
         }
     }
 
+    // 첨부파일 주소에서 저장소 키(notice/uuid.확장자) 추출
+    public String toFileName(String attachFileUrl) {
+        return objectStorage.keyFromUrl(attachFileUrl);
+    }
+
     public String createFileName(String fileName) { // 먼저 파일 업로드 시, 파일명을 난수화하기 위해 random으로 돌립니다.
         return UUID.randomUUID().toString().concat(getFileExtension(fileName));
     }
@@ -68,23 +76,144 @@ public class S3Service {
 
 
     // 첨부파일 다운로드
-    public ResponseEntity<UrlResource> downloadFile(String originalFilename) throws IOException {
-        UrlResource urlResource = new UrlResource(amazonS3Client.getUrl(bucket, originalFilename));
+    // redirect면 짧게 유효한 서명 주소로 보내서 저장소가 직접 전송 (지원하지 않는 저장소는 직접 전송)
+    // 직접 전송은 Range(이어받기), If-None-Match/If-Modified-Since(304)를 지원하고 고정 크기 버퍼로 비동기 스트리밍
+    public ResponseEntity<?> downloadFile(String originalFilename, HttpHeaders requestHeaders, boolean redirect) throws IOException {
+        // header에 CONTENT_DISPOSITION 설정을 통해 클릭 시 다운로드 진행
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(originalFilename.substring(originalFilename.lastIndexOf('/') + 1), StandardCharsets.UTF_8)
+                .build();
+
+        if (redirect) {
+            String presignedUrl = objectStorage.getPresignedUrl(originalFilename, PRESIGNED_URL_TTL, contentDisposition.toString());
+            if (presignedUrl != null) {
+                return ResponseEntity.status(HttpStatus.FOUND)
+                        .location(URI.create(presignedUrl))
+                        .cacheControl(CacheControl.noStore())
+                        .build();
+            }
+        }
 
-        String contentDisposition = "attachment; filename=\"" +  originalFilename + "\"";
+        ObjectInfo info = objectStorage.stat(originalFilename);
+        if (info == null) {
+            throw new StorageObjectNotFoundException(originalFilename);
+        }
+        String eTag = info.getETag() != null ? "\"" + info.getETag() + "\"" : null;
 
-        // header에 CONTENT_DISPOSITION 설정을 통해 클릭 시 다운로드 진행
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .body(urlResource);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+        if (info.getLastModified() != null) {
+            headers.setLastModified(info.getLastModified());
+        }
+
+        if (isNotModified(requestHeaders, eTag, info.getLastModified())) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
 
+        headers.setContentDisposition(contentDisposition);
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        long size = info.getSize();
+        HttpRange range = requestedRange(requestHeaders, eTag, info.getLastModified());
+        StoredObject storedObject;
+        HttpStatus status;
+        if (range == null) {
+            storedObject = objectStorage.get(originalFilename);
+            status = HttpStatus.OK;
+        } else {
+            long start;
+            long end;
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                start = size;
+                end = size - 1;
+            }
+            // 파일 크기를 벗어난 구간 (HttpRange는 끝 위치만 파일 크기로 자르고 시작 위치는 확인하지 않음)
+            if (start >= size || start > end) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return new ResponseEntity<>(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            }
+            storedObject = objectStorage.getRange(originalFilename, start, end);
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            status = HttpStatus.PARTIAL_CONTENT;
+        }
+        headers.setContentLength(storedObject.getRangeLength());
+
+        // 응답은 MVC 비동기 스레드에서 쓰므로 요청 스레드는 바로 반환됨
+        StreamingResponseBody body = outputStream -> {
+            try (StoredObject source = storedObject) {
+                source.transferTo(Channels.newChannel(outputStream));
+            }
+        };
+        return new ResponseEntity<>(body, headers, status);
+    }
+
+    // If-None-Match가 있으면 ETag로만 비교, 없으면 If-Modified-Since로 비교 (HTTP 날짜는 초 단위)
+    private static boolean isNotModified(HttpHeaders requestHeaders, String eTag, Instant lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            return eTag != null && ifNoneMatch.stream()
+                    .anyMatch(candidate -> candidate.equals("*") || weakEtag(candidate).equals(eTag));
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince >= 0 && lastModified != null
+                && lastModified.truncatedTo(ChronoUnit.SECONDS).toEpochMilli() <= ifModifiedSince;
+    }
+
+    // 구간 하나만 요청한 경우만 구간 응답 (여러 구간, 잘못된 형식, If-Range 불일치는 전체 응답)
+    private static HttpRange requestedRange(HttpHeaders requestHeaders, String eTag, Instant lastModified) {
+        List<HttpRange> ranges;
+        try {
+            ranges = requestHeaders.getRange();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1) {
+            return null;
+        }
+
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                if (!ifRange.equals(eTag)) {
+                    return null;
+                }
+            } else {
+                long ifRangeDate;
+                try {
+                    ifRangeDate = requestHeaders.getFirstDate(HttpHeaders.IF_RANGE);
+                } catch (IllegalArgumentException e) {
+                    // 날짜 형식이 아니면 조건 불일치로 보고 전체 응답
+                    return null;
+                }
+                if (lastModified == null || lastModified.truncatedTo(ChronoUnit.SECONDS).toEpochMilli() != ifRangeDate) {
+                    return null;
+                }
+            }
+        }
+        return ranges.get(0);
+    }
+
+    private static String weakEtag(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
     }
 
 
 
     // 첨부파일 삭제
     public void deleteFile(String originalFilename)  {
-        amazonS3Client.deleteObject(bucket, originalFilename);
+        try {
+            objectStorage.delete(originalFilename);
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 삭제에 실패했습니다.");
+        }
     }
 
 
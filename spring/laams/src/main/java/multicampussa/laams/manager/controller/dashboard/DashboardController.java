@@ -8,6 +8,7 @@ import multicampussa.laams.centerManager.dto.ConfirmDirectorRequest;
 import multicampussa.laams.global.ApiResponse;
 import multicampussa.laams.global.CustomExceptions;
 import multicampussa.laams.home.member.jwt.JwtTokenProvider;
+import multicampussa.laams.manager.dto.dashboard.response.DashboardDailySummary;
 import multicampussa.laams.manager.dto.dashboard.response.DashboardResponse;
 import multicampussa.laams.manager.service.dashboard.ManagerDashboardService;
 import org.springframework.http.HttpStatus;
@@ -54,4 +55,30 @@ public class DashboardController {
         }
     }
 
+    // 운영자 대시보드 일별 건수 요약 조회
+    @ApiOperation(value = "운영자 대시보드 일별 건수 요약 조회")
+    @GetMapping("/api/v1/manager/dashboard/summary")
+    @ApiResponses(value = {
+            @io.swagger.annotations.ApiResponse(code = 200, message = "대쉬보드 요약 조회에 성공했습니다.", response = DashboardDailySummary.class),
+            @io.swagger.annotations.ApiResponse(code = 400, message = "잘못된 요청"),
+    })
+    public ResponseEntity<ApiResponse<List<DashboardDailySummary>>> getDashboardSummary(
+            @ApiIgnore @RequestHeader String authorization,
+            @RequestParam int year, @RequestParam int month
+    ) {
+        String token = authorization.replace("Bearer", "");
+        String authority = jwtTokenProvider.getAuthority(token);
+        if (authority.equals("ROLE_MANAGER")) {
+            return new ResponseEntity<>(
+                    new ApiResponse<>(
+                            "success",
+                            HttpStatus.OK.value(),
+                            managerDashboardService.generateMonthlySummary(year, month)
+                    ),
+                    HttpStatus.OK);
+        } else {
+            throw new CustomExceptions.UnauthorizedException("접근 권한이 없습니다.");
+        }
+    }
+
 }
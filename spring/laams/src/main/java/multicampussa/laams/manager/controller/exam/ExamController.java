@@ -8,6 +8,7 @@ import multicampussa.laams.global.CustomExceptions;
 import multicampussa.laams.home.member.jwt.JwtTokenProvider;
 import multicampussa.laams.manager.dto.exam.request.ExamCreateRequest;
 import multicampussa.laams.manager.dto.exam.request.ExamUpdateRequest;
+import multicampussa.laams.manager.dto.exam.response.ExamArrivalResponse;
 import multicampussa.laams.manager.dto.exam.response.ExamDetailResponse;
 import multicampussa.laams.manager.dto.exam.response.ExamResponse;
 import multicampussa.laams.manager.service.exam.ExamService;
@@ -91,6 +92,26 @@ public class ExamController {
         }
     }
 
+    // 시험 시작 전후 분 단위 응시자 도착 분포 조회
+    @ApiOperation("시험 응시자 도착 분포 조회")
+    @GetMapping("/api/v1/manager/exam/{no}/arrivals")
+    public ResponseEntity<ApiResponse<ExamArrivalResponse>> getExamArrivals(
+            @ApiIgnore @RequestHeader String authorization,
+            @PathVariable Long no) {
+
+        String token = authorization.replace("Bearer", "");
+        String authority = jwtTokenProvider.getAuthority(token);
+
+        if (authority.equals("ROLE_MANAGER")) {
+            return new ResponseEntity<>(new ApiResponse<>(
+                    "success",
+                    HttpStatus.OK.value(),
+                    examService.getExamArrivals(no)), HttpStatus.OK);
+        } else {
+            throw new CustomExceptions.UnauthorizedException("접근 권한이 없습니다.");
+        }
+    }
+
     // 월별 시험 목록 조회
     @ApiOperation("월별 시험 목록 조회")
     @GetMapping("/api/v1/manager/exam/monthly")
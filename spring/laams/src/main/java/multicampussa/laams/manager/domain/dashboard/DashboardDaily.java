@@ -0,0 +1,26 @@
+package multicampussa.laams.manager.domain.dashboard;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+// 운영자 대시보드 일별 집계 (에러 리포트 수, 보상 대기 수, 감독관 미배정 시험 수)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "dashboard_daily")
+public class DashboardDaily {
+
+    @Id
+    private LocalDate dashboardDate;
+
+    private int errorReportCnt;
+
+    private int pendingCompensationCnt;
+
+    private int unassignedExamCnt;
+}
@@ -0,0 +1,57 @@
+package multicampussa.laams.manager.domain.dashboard;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DashboardDailyRepository extends JpaRepository<DashboardDaily, LocalDate> {
+
+    // 원본 테이블(에러 리포트, 보상 대기 응시자, 감독관 미배정 시험)의 날짜별 집계
+    String AGGREGATE_FROM_SOURCE = "select t.dashboard_date, sum(t.error_report_cnt), sum(t.pending_compensation_cnt), sum(t.unassigned_exam_cnt) from (" +
+            "select date(er.created_at) as dashboard_date, 1 as error_report_cnt, 0 as pending_compensation_cnt, 0 as unassigned_exam_cnt " +
+            "from error_report er where er.created_at is not null " +
+            "union all " +
+            "select date(e.exam_date), 0, 1, 0 from exam_examinee ee join exam e on e.no = ee.exam_no " +
+            "where ee.compensation = true and ee.compensation_status = '보상_대기' " +
+            "union all " +
+            "select date(e.exam_date), 0, 0, 1 from exam e " +
+            "where e.exam_date is not null and not exists (select 1 from exam_director ed where ed.exam_no = e.no and ed.confirm = '승인')" +
+            ") t group by t.dashboard_date";
+
+    // 기간 조회 (월 대시보드)
+    List<DashboardDaily> findByDashboardDateBetweenOrderByDashboardDate(LocalDate start, LocalDate end);
+
+    // 일별 집계 증감 (해당 날짜 행이 없으면 생성)
+    @Modifying
+    @Query(value = "insert into dashboard_daily (dashboard_date, error_report_cnt, pending_compensation_cnt, unassigned_exam_cnt) " +
+            "values (:dashboardDate, :errorReportDelta, :pendingCompensationDelta, :unassignedExamDelta) " +
+            "on duplicate key update error_report_cnt = error_report_cnt + values(error_report_cnt), " +
+            "pending_compensation_cnt = pending_compensation_cnt + values(pending_compensation_cnt), " +
+            "unassigned_exam_cnt = unassigned_exam_cnt + values(unassigned_exam_cnt)", nativeQuery = true)
+    int addCounts(@Param("dashboardDate") LocalDate dashboardDate,
+                  @Param("errorReportDelta") int errorReportDelta,
+                  @Param("pendingCompensationDelta") int pendingCompensationDelta,
+                  @Param("unassignedExamDelta") int unassignedExamDelta);
+
+    @Modifying
+    @Query(value = "delete from dashboard_daily", nativeQuery = true)
+    int deleteAllRows();
+
+    // 원본 테이블에서 전체 다시 집계 (deleteAllRows 후)
+    @Modifying
+    @Query(value = "insert into dashboard_daily (dashboard_date, error_report_cnt, pending_compensation_cnt, unassigned_exam_cnt) " +
+            AGGREGATE_FROM_SOURCE, nativeQuery = true)
+    int rebuildAll();
+
+    // 빈 테이블 채우기 (이미 있는 날짜는 건너뜀)
+    @Modifying
+    @Query(value = "insert ignore into dashboard_daily (dashboard_date, error_report_cnt, pending_compensation_cnt, unassigned_exam_cnt) " +
+            AGGREGATE_FROM_SOURCE, nativeQuery = true)
+    int fillAll();
+}
@@ -13,6 +13,8 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
+// columnList는 필드 이름으로 씀 (Hibernate가 논리 이름으로 찾고, DB에는 exam_date로 만들어짐)
+@Table(indexes = @Index(name = "idx_exam_exam_date", columnList = "examDate"))
 public class Exam extends BaseTimeEntity {
 
     @Id
@@ -40,6 +42,10 @@ public class Exam extends BaseTimeEntity {
 
     private int maxDirector = 2;
 
+    // 승인된 감독관 수 (정원 확인용, 조건부 update 쿼리로만 증감)
+    // 컬럼이 추가되기 전에 만든 시험은 null이고, 감독관을 승인/거절할 때 그 시험만 exam_director 기준으로 채움
+    private Integer confirmedDirectorCnt = 0;
+
     public Exam(Center center, LocalDateTime examDate, Manager manager, int runningTime, String examType, String examLanguage, int maxDirector) {
         this.center = center;
         this.examDate = examDate;
@@ -58,4 +64,20 @@ public class Exam extends BaseTimeEntity {
         this.examType = examType;
         this.maxDirector = maxDirector;
     }
+
+    // 아직 채워지지 않은 시험은 승인된 감독관을 직접 셈
+    public int getConfirmedDirectorCnt() {
+        if (confirmedDirectorCnt != null) {
+            return confirmedDirectorCnt;
+        }
+        int cnt = 0;
+        if (examDirector != null) {
+            for (ExamDirector director : examDirector) {
+                if (director.getConfirm() == ExamDirector.Confirm.승인) {
+                    cnt++;
+                }
+            }
+        }
+        return cnt;
+    }
 }
\ No newline at end of file
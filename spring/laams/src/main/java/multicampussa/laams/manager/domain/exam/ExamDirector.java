@@ -11,6 +11,7 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_exam_director_exam_no_director_no", columnNames = {"exam_no", "director_no"}))
 public class ExamDirector extends BaseTimeEntity {
 
     @Id
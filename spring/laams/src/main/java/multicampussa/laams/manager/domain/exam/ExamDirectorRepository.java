@@ -1,10 +1,13 @@
 package multicampussa.laams.manager.domain.exam;
 
+import multicampussa.laams.director.dto.director.DirectorScheduleDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ExamDirectorRepository extends JpaRepository<ExamDirector, Long> {
@@ -39,10 +42,47 @@ public interface ExamDirectorRepository extends JpaRepository<ExamDirector, Long
     @Query("select case when count(*) > 0 then false else true end from ExamDirector ed where ed.exam.no = :examNo and ed.director.id = :directorId")
     boolean findByDirectorIdAndExam(Long examNo, String directorId);
 
+    // 감독 권한 확인용 - 이 시험에 이 감독관의 배정 요청 로우가 있는지
+    @Query("select case when count(ed) > 0 then true else false end from ExamDirector ed where ed.exam.no = :examNo and ed.director.id = :directorId")
+    boolean existsByExamNoAndDirectorId(@Param("examNo") Long examNo, @Param("directorId") String directorId);
+
+    // 승인 상태가 아닐 때만 승인으로 변경 (동시에 승인해도 한 번만 반영, 1이면 변경됨)
+    @Modifying
+    @Query("update ExamDirector ed set ed.confirm = '승인', ed.updatedAt = :now where ed.no = :no and ed.confirm <> '승인'")
+    int confirmIfNotConfirmed(@Param("no") Long no, @Param("now") LocalDateTime now);
+
+    // 거절로 변경하고, 변경 전에 승인 상태였으면 1 반환 (승인된 감독관 수 감소용)
+    @Modifying
+    @Query("update ExamDirector ed set ed.confirm = '거절', ed.updatedAt = :now where ed.no = :no and ed.confirm = '승인'")
+    int denyIfConfirmed(@Param("no") Long no, @Param("now") LocalDateTime now);
+
     // 배정 요청했을 때의 시험 감독관 찾기
     @Query("select ed from ExamDirector ed where ed.director.id = :directorId and ed.exam.no = :examNo")
     ExamDirector findByDirectorAndExam(String directorId, Long examNo);
 
+    // 기간 내 전체 감독관의 시험 일정 (시험 시작 시간 순)
+    @Query("select new multicampussa.laams.director.dto.director.DirectorScheduleDto(d.id, e.no, e.examDate, c.no, c.latitude, c.longitude) " +
+            "from ExamDirector ed join ed.director d join ed.exam e left join e.center c " +
+            "where e.examDate >= :start and e.examDate < :end order by e.examDate asc")
+    List<DirectorScheduleDto> findSchedulesBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 기간 내 승인된 감독관의 시험 일정 (진행 중인 시험 색인용)
+    @Query("select new multicampussa.laams.director.dto.director.DirectorScheduleDto(d.id, e.no, e.examDate, c.no, c.latitude, c.longitude) " +
+            "from ExamDirector ed join ed.director d join ed.exam e left join e.center c " +
+            "where ed.confirm = '승인' and e.examDate >= :start and e.examDate < :end")
+    List<DirectorScheduleDto> findConfirmedSchedulesBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 기간 내 감독관 한 명의 시험 일정 (시험 시작 시간 순)
+    @Query("select new multicampussa.laams.director.dto.director.DirectorScheduleDto(d.id, e.no, e.examDate, c.no, c.latitude, c.longitude) " +
+            "from ExamDirector ed join ed.director d join ed.exam e left join e.center c " +
+            "where d.id = :directorId and e.examDate >= :start and e.examDate < :end order by e.examDate asc")
+    List<DirectorScheduleDto> findSchedulesByDirectorIdBetween(@Param("directorId") String directorId,
+                                                               @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 시험에 도착 인증한 감독관 아이디 목록
+    @Query("select ed.director.id from ExamDirector ed where ed.exam.no = :examNo and ed.directorAttendance = true")
+    List<String> findAttendedDirectorIds(@Param("examNo") Long examNo);
+
     // 감독관의 시험 출석 여부 조회 (출석했으면 1 안했으면0)
     @Query("select case when count(*) > 0 then true else false end from ExamDirector ed where ed.director.id = :directorId and ed.exam.no = :examNo and ed.directorAttendance = true")
     boolean findByDirectorIdAndExamNo(String directorId, Long examNo);
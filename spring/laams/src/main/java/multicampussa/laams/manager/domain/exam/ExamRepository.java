@@ -1,9 +1,12 @@
 package multicampussa.laams.manager.domain.exam;
 
+import multicampussa.laams.director.dto.director.ExamApplyStatusDto;
 import multicampussa.laams.home.dashboard.dto.DashboardExamDto;
 import multicampussa.laams.home.dashboard.dto.DashboardExamineeDto;
-import multicampussa.laams.manager.dto.ExamDTO;
+import multicampussa.laams.manager.dto.ExamIntervalDTO;
+import multicampussa.laams.manager.dto.OngoingExamStatusDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,9 +28,39 @@ public interface ExamRepository extends JpaRepository<Exam, Long> {
     @Query("SELECT e FROM Exam e WHERE DATE(e.examDate) = :targetDate")
     List<Exam> findExamByExamDate(java.sql.Date targetDate);
 
+    // 시험 날짜 기간으로 승인된 감독관이 한 명도 없는 시험 조회 (대시보드 월 단위, 센터와 센터 담당자, 시험 담당자 함께 조회)
+    @Query("SELECT e FROM Exam e JOIN FETCH e.center c LEFT JOIN FETCH c.centerManager LEFT JOIN FETCH e.manager " +
+            "WHERE e.examDate >= :start AND e.examDate < :end " +
+            "AND NOT EXISTS (SELECT ed FROM ExamDirector ed WHERE ed.exam = e AND ed.confirm = '승인') ORDER BY e.no")
+    List<Exam> findUnassignedExamBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     // 센터 번호로 시험 리스트 만들기
     List<Exam> findByCenterNo(Long centerNo);
 
+    // 센터 번호와 시험 번호로 조회
+    Exam findByNoAndCenterNo(Long no, Long centerNo);
+
+    // 정원이 남아 있을 때만 승인된 감독관 수 증가 (1이면 성공, 0이면 정원 초과)
+    @Modifying
+    @Query("update Exam e set e.confirmedDirectorCnt = e.confirmedDirectorCnt + 1 where e.no = :examNo and e.confirmedDirectorCnt < e.maxDirector")
+    int increaseConfirmedDirectorCnt(@Param("examNo") Long examNo);
+
+    // 승인 취소 시 승인된 감독관 수 감소
+    @Modifying
+    @Query("update Exam e set e.confirmedDirectorCnt = e.confirmedDirectorCnt - 1 where e.no = :examNo and e.confirmedDirectorCnt > 0")
+    int decreaseConfirmedDirectorCnt(@Param("examNo") Long examNo);
+
+    // 승인된 감독관 수 (같은 트랜잭션의 증감 결과를 DB에서 바로 읽음)
+    @Query("select e.confirmedDirectorCnt from Exam e where e.no = :examNo")
+    int findConfirmedDirectorCnt(@Param("examNo") Long examNo);
+
+    // 승인된 감독관 수가 아직 없는(컬럼 추가 전에 만든) 시험만 exam_director 기준으로 채움 (이미 있으면 0건)
+    @Modifying
+    @Query(value = "update exam e set e.confirmed_director_cnt = " +
+            "(select count(*) from exam_director ed where ed.exam_no = e.no and ed.confirm = '승인') " +
+            "where e.no = :examNo and e.confirmed_director_cnt is null", nativeQuery = true)
+    int fillConfirmedDirectorCnt(@Param("examNo") Long examNo);
+
     // 특정 년도, 특정 월의 시험 조회
     @Query("SELECT COUNT(e) FROM Exam e WHERE YEAR(e.examDate) = :year AND MONTH(e.examDate) = :month")
     int countExamsByYearAndMonth(@Param("year") int year, @Param("month") int month);
@@ -74,6 +107,21 @@ public interface ExamRepository extends JpaRepository<Exam, Long> {
             "order by e.examDate asc")
     List<Exam> findByCenterNoContainingDate(Long centerNo, int year, int month, int day);
 
+    // 센터의 기간 내 시험별 승인된 감독관 수와 이 감독관의 배정 요청 상태를 한 번에 집계
+    @Query("select new multicampussa.laams.director.dto.director.ExamApplyStatusDto(" +
+            "e.no, e.examDate, e.runningTime, e.examType, e.examLanguage, e.maxDirector, " +
+            "sum(case when ed.confirm = '승인' then 1 else 0 end), " +
+            "sum(case when d.id = :directorId and ed.confirm = '대기' then 1 else 0 end), " +
+            "sum(case when d.id = :directorId and ed.confirm = '승인' then 1 else 0 end), " +
+            "sum(case when d.id = :directorId and ed.confirm = '거절' then 1 else 0 end)) " +
+            "from Exam e left join e.examDirector ed left join ed.director d " +
+            "where e.center.no = :centerNo " +
+            "and year(e.examDate) = :year and month(e.examDate) = :month and (day(e.examDate) = :day OR :day = 0) " +
+            "group by e.no, e.examDate, e.runningTime, e.examType, e.examLanguage, e.maxDirector " +
+            "order by e.examDate asc")
+    List<ExamApplyStatusDto> findApplyStatusByCenterNoContainingDate(@Param("centerNo") Long centerNo, @Param("directorId") String directorId,
+                                                                    @Param("year") int year, @Param("month") int month, @Param("day") int day);
+
     // 감독관 아이디로 현재 감독하는 시험들 찾기
     @Query("select ed.exam from ExamDirector ed where ed.director.id = :directorId and ed.confirm = '승인'")
     List<Exam> findByDirectorId(@Param("directorId") String directorId);
@@ -82,10 +130,21 @@ public interface ExamRepository extends JpaRepository<Exam, Long> {
     @Query("select e from Exam e where e.examDate >= :startOfToday AND e.examDate < :endOfToday and e.no in (select ed.exam.no from ExamDirector ed where ed.director.id = :directorId)")
     List<Exam> findByDirectorIdToday(String directorId, LocalDateTime startOfToday, LocalDateTime endOfToday);
 
-    // 현재 DB 시간 기준으로 진행중인 시험 리스트 조회
-    @Query(value="SELECT c.name as `center`, c.region, e.exam_date as `date`, e.running_time as `runningTime`, e.no as `examNo`\n" +
+    // 기간 내 시험의 진행 구간과 센터 (진행 중인 시험 색인용)
+    @Query("select new multicampussa.laams.manager.dto.ExamIntervalDTO(e.no, c.no, e.examDate, e.runningTime) " +
+            "from Exam e left join e.center c " +
+            "where e.examDate >= :start and e.examDate < :end")
+    List<ExamIntervalDTO> findExamIntervalsBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 시험 번호 목록의 시험 정보와 시험별 접수/응시/보상 인원을 한 번에 조회 (응시자가 없는 시험도 0으로 포함)
+    @Query(value="SELECT c.name as `center`, c.region, e.exam_date as `date`, e.running_time as `runningTime`, e.no as `examNo`,\n" +
+            "count(ee.no) as `applicants`,\n" +
+            "coalesce(sum(case when ee.attendance = true then 1 else 0 end), 0) as `participants`,\n" +
+            "coalesce(sum(case when ee.compensation = true then 1 else 0 end), 0) as `compensation`\n" +
             "from exam e\n" +
             "left join center c on e.center_no = c.no\n" +
-            "where DATE_ADD(e.exam_date, INTERVAL e.running_time MINUTE) > DATE_ADD(NOW(), INTERVAL 9 HOUR) and DATE_ADD(NOW(), INTERVAL 9 HOUR) > e.exam_date", nativeQuery = true)
-    List<ExamDTO> findOngoingExam();
+            "left join exam_examinee ee on ee.exam_no = e.no\n" +
+            "where e.no in (:examNos)\n" +
+            "group by e.no, c.name, c.region, e.exam_date, e.running_time", nativeQuery = true)
+    List<OngoingExamStatusDTO> findExamStatusByExamNos(@Param("examNos") List<Long> examNos);
 }
@@ -1,5 +1,6 @@
 package multicampussa.laams.manager.domain.examinee;
 
+import multicampussa.laams.director.dto.director.ExamStatusCountDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +35,14 @@ public interface ExamExamineeRepository extends JpaRepository<ExamExaminee, Long
     // 시험 응시자 상세 조회
     ExamExaminee findByExamNoAndExamineeNo(Long examNo, Long examineeNo);
 
+    // 일괄 출석용 - 시험 번호와 응시자 번호 목록으로 한 번에 조회
+    @Query("SELECT ee FROM ExamExaminee ee JOIN FETCH ee.examinee e WHERE ee.exam.no = :examNo AND e.no IN :examineeNos")
+    List<ExamExaminee> findByExamNoAndExamineeNoIn(@Param("examNo") Long examNo, @Param("examineeNos") Collection<Long> examineeNos);
+
+    // 일괄 출석용 - 시험 번호와 수험 번호 목록으로 한 번에 조회
+    @Query("SELECT ee FROM ExamExaminee ee JOIN FETCH ee.examinee e WHERE ee.exam.no = :examNo AND ee.examineeCode IN :examineeCodes")
+    List<ExamExaminee> findByExamNoAndExamineeCodeIn(@Param("examNo") Long examNo, @Param("examineeCodes") Collection<String> examineeCodes);
+
     // 응시자 번호로 조회
     ExamExaminee findByExamineeNo(Long examineeNo);
 
@@ -43,6 +54,16 @@ public interface ExamExamineeRepository extends JpaRepository<ExamExaminee, Long
     @Query(value = "SELECT count(ee) FROM ExamExaminee ee WHERE ee.exam.no = :examNo AND ee.attendance = true And ee.attendanceTime < ee.exam.examDate")
     int countByAttendance(Long examNo);
 
+    // 시험 현황 카운터 초기값 - 응시자 수, 출석, 정시 출석, 서류 제출, 보상 대상을 한 번에 집계
+    @Query(value = "SELECT new multicampussa.laams.director.dto.director.ExamStatusCountDto(" +
+            "count(ee), " +
+            "sum(case when ee.attendance = true then 1 else 0 end), " +
+            "sum(case when ee.attendance = true and ee.attendanceTime < e.examDate then 1 else 0 end), " +
+            "sum(case when ee.document = '서류_제출_완료' then 1 else 0 end), " +
+            "sum(case when ee.compensation = true then 1 else 0 end)) " +
+            "FROM ExamExaminee ee JOIN ee.exam e WHERE e.no = :examNo")
+    ExamStatusCountDto countExamStatus(@Param("examNo") Long examNo);
+
     // 시험 서류 지참 카운트
     @Query(value = "SELECT count(ee) FROM ExamExaminee ee WHERE ee.exam.no = :examNo AND ee.document = '서류_제출_완료'")
     int countByDocument(Long examNo);
@@ -51,15 +72,17 @@ public interface ExamExamineeRepository extends JpaRepository<ExamExaminee, Long
     @Query("SELECT ee FROM ExamExaminee ee WHERE DATE(ee.exam.examDate) = :targetDate AND ee.compensation = true AND ee.compensationStatus = '보상_대기'")
     List<ExamExaminee> findUncompensatedByDate(@Param("targetDate") java.sql.Date targetDate);
 
-    Optional<ExamExaminee> findByExamineeCode(String examineeCode);
-
-    @Query(value = "select count(*) from ExamExaminee ee where ee.exam.no = :examNo")
-    int getTheNumberOfApplicants(Long examNo);
+    // 시험 날짜 기간으로 보상 대기 조회 (대시보드 월 단위, 시험과 응시자, 시험의 즉시 로딩 연관(센터, 담당자) 함께 조회)
+    @Query("SELECT ee FROM ExamExaminee ee JOIN FETCH ee.exam e LEFT JOIN FETCH e.center c LEFT JOIN FETCH c.centerManager " +
+            "LEFT JOIN FETCH e.manager JOIN FETCH ee.examinee " +
+            "WHERE e.examDate >= :start AND e.examDate < :end " +
+            "AND ee.compensation = true AND ee.compensationStatus = '보상_대기' ORDER BY ee.no")
+    List<ExamExaminee> findUncompensatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    @Query(value = "select count(*) from ExamExaminee ee where ee.exam.no = :examNo and ee.attendance=true")
-    int getTheNumberOfParticipants(Long examNo);
+    // 시험의 보상 대기 인원
+    @Query("SELECT COUNT(ee) FROM ExamExaminee ee WHERE ee.exam.no = :examNo AND ee.compensation = true AND ee.compensationStatus = '보상_대기'")
+    int countUncompensatedByExamNo(@Param("examNo") Long examNo);
 
-    @Query(value = "select count(*) from ExamExaminee ee where ee.exam.no = :examNo and ee.compensation=true")
-    int getTheNumberOfCompensation(Long examNo);
+    Optional<ExamExaminee> findByExamineeCode(String examineeCode);
 }
 
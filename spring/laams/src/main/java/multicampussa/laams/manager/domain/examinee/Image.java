@@ -23,6 +23,11 @@ public class Image extends BaseTimeEntity {
 
     private String imageReason;
 
+    // 목록용 썸네일, 화면 표시용 축소 이미지 (업로드 후 비동기로 생성)
+    private String thumbnailUrl;
+
+    private String displayUrl;
+
     public void uploadImage(ExamExaminee examExaminee, String imageUrl, String imageReason) {
         this.examExaminee = examExaminee;
         this.imageUrl = imageUrl;
@@ -1,8 +1,23 @@
 package multicampussa.laams.manager.domain.examinee;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
+
+    // 시험_응시자의 증빙 이미지 (올린 순서)
+    List<Image> findByExamExamineeNoOrderByNoAsc(Long examExamineeNo);
+
+    // 썸네일, 표시용 이미지 주소 저장 (비동기 작업 스레드에서 호출)
+    @Transactional
+    @Modifying
+    @Query("update Image i set i.thumbnailUrl = :thumbnailUrl, i.displayUrl = :displayUrl where i.no = :no")
+    int updateDerivativeUrls(@Param("no") Long no, @Param("thumbnailUrl") String thumbnailUrl, @Param("displayUrl") String displayUrl);
 }
@@ -0,0 +1,24 @@
+package multicampussa.laams.manager.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 시험 진행 구간 [examDate, examDate + runningTime) 과 센터 번호 (진행 중인 시험 색인용)
+@Getter
+@NoArgsConstructor
+public class ExamIntervalDTO {
+
+    private Long examNo;
+    private Long centerNo;
+    private LocalDateTime examDate;
+    private LocalDateTime endDate;
+
+    public ExamIntervalDTO(Long examNo, Long centerNo, LocalDateTime examDate, int runningTime) {
+        this.examNo = examNo;
+        this.centerNo = centerNo;
+        this.examDate = examDate;
+        this.endDate = examDate.plusMinutes(runningTime);
+    }
+}
@@ -0,0 +1,23 @@
+package multicampussa.laams.manager.dto;
+
+import java.time.LocalDateTime;
+
+// 진행 중인 시험과 응시자 집계 (접수, 응시, 보상 대상 인원)
+public interface OngoingExamStatusDTO {
+
+    String getCenter();
+
+    String getRegion();
+
+    LocalDateTime getDate();
+
+    int getRunningTime();
+
+    long getExamNo();
+
+    int getApplicants();
+
+    int getParticipants();
+
+    int getCompensation();
+}
@@ -0,0 +1,22 @@
+package multicampussa.laams.manager.dto.dashboard.response;
+
+import lombok.Getter;
+import multicampussa.laams.manager.domain.dashboard.DashboardDaily;
+
+@Getter
+public class DashboardDailySummary {
+
+    private int day;
+    private int errorReportCnt;
+    private int unprocessedCompensationCnt;
+    private int unassignedExamCnt;
+
+    public DashboardDailySummary(int day, DashboardDaily dashboardDaily) {
+        this.day = day;
+        if (dashboardDaily != null) {
+            this.errorReportCnt = dashboardDaily.getErrorReportCnt();
+            this.unprocessedCompensationCnt = dashboardDaily.getPendingCompensationCnt();
+            this.unassignedExamCnt = dashboardDaily.getUnassignedExamCnt();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package multicampussa.laams.manager.dto.exam.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 시험 시작 전후 분 단위 응시자 도착 분포 (정시 출석, 지각, 서류 제출)
+@Getter
+public class ExamArrivalResponse {
+
+    private Long examNo;
+    private LocalDateTime examDate;  // 시험 시작 시간
+    private int runningTime;
+    private List<Bucket> buckets;  // 시험 시작 60분 전부터 종료까지 1분 간격
+
+    public ExamArrivalResponse(Long examNo, LocalDateTime examDate, int runningTime, List<Bucket> buckets) {
+        this.examNo = examNo;
+        this.examDate = examDate;
+        this.runningTime = runningTime;
+        this.buckets = buckets;
+    }
+
+    @Getter
+    public static class Bucket {
+        private int minute;  // 시험 시작 기준 분 (-60 ~ runningTime - 1, 처음/마지막 구간은 범위 밖 도착 포함)
+        private LocalDateTime time;
+        private int onTime;
+        private int late;
+        private int document;
+
+        public Bucket(int minute, LocalDateTime time, int onTime, int late, int document) {
+            this.minute = minute;
+            this.time = time;
+            this.onTime = onTime;
+            this.late = late;
+            this.document = document;
+        }
+    }
+}
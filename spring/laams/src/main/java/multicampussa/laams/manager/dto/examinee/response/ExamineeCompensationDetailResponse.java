@@ -4,6 +4,7 @@ import lombok.Getter;
 import multicampussa.laams.manager.domain.examinee.ExamExaminee;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 public class ExamineeCompensationDetailResponse {
@@ -16,8 +17,10 @@ public class ExamineeCompensationDetailResponse {
     private LocalDateTime examDate;
     private String examType;
     private LocalDateTime createdAt;
+    // 증빙 이미지
+    private List<ExamineeImageResponse> images;
 
-    public ExamineeCompensationDetailResponse(ExamExaminee examExaminee) {
+    public ExamineeCompensationDetailResponse(ExamExaminee examExaminee, List<ExamineeImageResponse> images) {
         this.examineeNo = examExaminee.getExaminee().getNo();
         this.examineeName = examExaminee.getExaminee().getName();
         this.compensationReason = examExaminee.getCompensationReason();
@@ -26,6 +29,7 @@ public class ExamineeCompensationDetailResponse {
         this.examDate = examExaminee.getExam().getExamDate();
         this.examType = examExaminee.getExam().getExamType();
         this.createdAt = examExaminee.getCreatedAt();
+        this.images = images;
     }
 
 }
@@ -0,0 +1,23 @@
+package multicampussa.laams.manager.dto.examinee.response;
+
+import lombok.Getter;
+import multicampussa.laams.manager.domain.examinee.Image;
+
+@Getter
+public class ExamineeImageResponse {
+
+    private Long imageNo;
+    private String imageReason;
+    private String imageUrl;
+    // 축소 이미지는 업로드 후 비동기로 만들어지므로 아직 없으면 null (화면에서는 imageUrl 사용)
+    private String thumbnailUrl;
+    private String displayUrl;
+
+    public ExamineeImageResponse(Image image) {
+        this.imageNo = image.getNo();
+        this.imageReason = image.getImageReason();
+        this.imageUrl = image.getImageUrl();
+        this.thumbnailUrl = image.getThumbnailUrl();
+        this.displayUrl = image.getDisplayUrl();
+    }
+}
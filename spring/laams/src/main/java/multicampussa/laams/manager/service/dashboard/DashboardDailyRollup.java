@@ -0,0 +1,136 @@
+package multicampussa.laams.manager.service.dashboard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.director.service.ExamStatusCounter;
+import multicampussa.laams.manager.domain.dashboard.DashboardDailyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 운영자 대시보드 일별 집계(dashboard_daily) 갱신.
+ * 에러 리포트 작성, 보상 신청/승인/거절, 감독관 승인/거절, 시험 생성/수정/삭제 경로에서 증감을 기록한다.
+ * 한 트랜잭션의 증감은 날짜별로 모아서 커밋 직전에 한 번씩 반영하므로, 롤백되면 집계에도 남지 않는다.
+ * 놓친 변경(다른 경로의 수정, 직접 수정한 데이터)은 rebuild()가 매일 새벽 원본 테이블 기준으로 다시 맞춘다.
+ * 서버 시작 시에는 테이블이 비어 있을 때만 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardDailyRollup {
+
+    private static final int ERROR_REPORT = 0;
+    private static final int PENDING_COMPENSATION = 1;
+    private static final int UNASSIGNED_EXAM = 2;
+
+    private final DashboardDailyRepository dashboardDailyRepository;
+
+    // 에러 리포트 작성
+    public void recordErrorReport(LocalDateTime createdAt) {
+        add(createdAt, ERROR_REPORT, 1);
+    }
+
+    // 응시자 보상 상태 변경 (보상 대기 여부가 바뀐 경우만 반영, 신규 등록이면 before = null)
+    public void recordCompensation(LocalDateTime examDate, ExamStatusCounter.Snapshot before, ExamStatusCounter.Snapshot after) {
+        boolean pendingBefore = before != null && before.isPendingCompensation();
+        boolean pendingAfter = after != null && after.isPendingCompensation();
+        if (pendingBefore != pendingAfter) {
+            add(examDate, PENDING_COMPENSATION, pendingAfter ? 1 : -1);
+        }
+    }
+
+    // 보상 대기 인원이 다른 날짜로 옮겨지거나 사라짐 (시험 날짜 변경, 시험 삭제)
+    public void movePendingCompensations(LocalDateTime from, LocalDateTime to, int count) {
+        if (count == 0) {
+            return;
+        }
+        add(from, PENDING_COMPENSATION, -count);
+        add(to, PENDING_COMPENSATION, count);
+    }
+
+    // 감독관 미배정 시험 증감 (시험 생성 +1, 첫 감독관 승인 -1, 마지막 감독관 승인 취소 +1, 시험 삭제 -1)
+    public void recordUnassignedExam(LocalDateTime examDate, int delta) {
+        add(examDate, UNASSIGNED_EXAM, delta);
+    }
+
+    // 집계 테이블이 비어 있을 때만 원본 테이블 기준으로 채움 (처음 배포한 경우, 이미 채워져 있으면 건수 조회 한 번)
+    // 여러 서버가 동시에 채워도 먼저 들어간 날짜는 건너뜀
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void fillIfEmpty() {
+        if (dashboardDailyRepository.count() > 0) {
+            return;
+        }
+        int days = dashboardDailyRepository.fillAll();
+        log.info("대시보드 일별 집계 초기 생성: {}일", days);
+    }
+
+    // 원본 테이블 기준으로 전체 다시 집계 (매일 새벽)
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        dashboardDailyRepository.deleteAllRows();
+        int days = dashboardDailyRepository.rebuildAll();
+        log.info("대시보드 일별 집계 재생성: {}일, {}ms", days, System.currentTimeMillis() - startedAt);
+    }
+
+    private void add(LocalDateTime dateTime, int column, int delta) {
+        if (dateTime == null || delta == 0) {
+            return;
+        }
+        LocalDate date = dateTime.toLocalDate();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(date, deltaOf(column, delta));
+            return;
+        }
+
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.deltas.computeIfAbsent(date, key -> new int[3])[column] += delta;
+    }
+
+    private void apply(LocalDate date, int[] delta) {
+        if (delta[ERROR_REPORT] == 0 && delta[PENDING_COMPENSATION] == 0 && delta[UNASSIGNED_EXAM] == 0) {
+            return;
+        }
+        dashboardDailyRepository.addCounts(date, delta[ERROR_REPORT], delta[PENDING_COMPENSATION], delta[UNASSIGNED_EXAM]);
+    }
+
+    private static int[] deltaOf(int column, int delta) {
+        int[] deltas = new int[3];
+        deltas[column] = delta;
+        return deltas;
+    }
+
+    // 트랜잭션 하나에서 모은 날짜별 증감 (날짜 순으로 반영해서 행 락 순서를 맞춤)
+    private class PendingDeltas implements TransactionSynchronization {
+        private final Map<LocalDate, int[]> deltas = new TreeMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            for (Map.Entry<LocalDate, int[]> entry : deltas.entrySet()) {
+                apply(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DashboardDailyRollup.this);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package multicampussa.laams.manager.service.exam;
 
+import multicampussa.laams.director.service.DirectorDailySchedule;
+import multicampussa.laams.director.service.ExamArrivalHistogram;
+import multicampussa.laams.director.service.ExamDirectorAccessIndex;
+import multicampussa.laams.director.service.ExamStatusCounter;
+import multicampussa.laams.home.dashboard.service.CenterMonthStatsCache;
 import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
 import multicampussa.laams.manager.domain.examinee.ExamExaminee;
 import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
@@ -12,14 +17,18 @@ import multicampussa.laams.manager.domain.manager.ManagerRepository;
 import multicampussa.laams.manager.dto.director.response.DirectorListResponse;
 import multicampussa.laams.manager.dto.exam.request.ExamCreateRequest;
 import multicampussa.laams.manager.dto.exam.request.ExamUpdateRequest;
+import multicampussa.laams.manager.dto.exam.response.ExamArrivalResponse;
 import multicampussa.laams.manager.dto.exam.response.ExamDetailResponse;
 import multicampussa.laams.manager.dto.exam.response.ExamResponse;
+import multicampussa.laams.manager.service.dashboard.DashboardDailyRollup;
 import multicampussa.laams.global.CustomExceptions;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,13 +39,30 @@ public class ExamService {
     private final ManagerRepository managerRepository;
     private final ExamExamineeRepository examExamineeRepository;
     private final ExamDirectorRepository examDirectorRepository;
-
-    public ExamService(ExamRepository examRepository, CenterRepository centerRepository, ManagerRepository managerRepository, ExamExamineeRepository examExamineeRepository, ExamDirectorRepository examDirectorRepository) {
+    private final ExamDirectorAccessIndex examDirectorAccessIndex;
+    private final ExamStatusCounter examStatusCounter;
+    private final DirectorDailySchedule directorDailySchedule;
+    private final DashboardDailyRollup dashboardDailyRollup;
+    private final CenterMonthStatsCache centerMonthStatsCache;
+    private final OngoingExamIndex ongoingExamIndex;
+    private final ExamArrivalHistogram examArrivalHistogram;
+
+    public ExamService(ExamRepository examRepository, CenterRepository centerRepository, ManagerRepository managerRepository, ExamExamineeRepository examExamineeRepository, ExamDirectorRepository examDirectorRepository,
+                       ExamDirectorAccessIndex examDirectorAccessIndex, ExamStatusCounter examStatusCounter, DirectorDailySchedule directorDailySchedule,
+                       DashboardDailyRollup dashboardDailyRollup, CenterMonthStatsCache centerMonthStatsCache,
+                       OngoingExamIndex ongoingExamIndex, ExamArrivalHistogram examArrivalHistogram) {
         this.examRepository = examRepository;
         this.centerRepository = centerRepository;
         this.managerRepository = managerRepository;
         this.examExamineeRepository = examExamineeRepository;
         this.examDirectorRepository = examDirectorRepository;
+        this.examDirectorAccessIndex = examDirectorAccessIndex;
+        this.examStatusCounter = examStatusCounter;
+        this.directorDailySchedule = directorDailySchedule;
+        this.dashboardDailyRollup = dashboardDailyRollup;
+        this.centerMonthStatsCache = centerMonthStatsCache;
+        this.ongoingExamIndex = ongoingExamIndex;
+        this.examArrivalHistogram = examArrivalHistogram;
     }
 
     // 시험 생성
@@ -50,6 +76,10 @@ public class ExamService {
                 .orElseThrow(() -> new CustomExceptions.ManagerNotFoundException(request.getManagerNo() + "번 매니저는 존재하지 않습니다."));
         examRepository.save(new Exam(existingCenter, request.getExamDate(), responsibleManager,
                 request.getRunningTime(), request.getExamType(), request.getExamLanguage(), request.getMaxDirector()));
+        // 새 시험은 배정된 감독관이 없음
+        dashboardDailyRollup.recordUnassignedExam(request.getExamDate(), 1);
+        centerMonthStatsCache.evictExam(request.getExamDate());
+        ongoingExamIndex.invalidate();
 
         return ResponseEntity.ok("시험이 성공적으로 생성되었습니다");
     }
@@ -126,6 +156,11 @@ public class ExamService {
                 .collect(Collectors.toList());
     }
 
+    // 시험 시작 전후 분 단위 응시자 도착 분포 조회
+    public ExamArrivalResponse getExamArrivals(Long no) {
+        return examArrivalHistogram.getHistogram(no);
+    }
+
     // 시험 수정
     @Transactional
     public void updateExam(Long examNo, ExamUpdateRequest request) {
@@ -136,8 +171,26 @@ public class ExamService {
         Manager manager = managerRepository.findById(request.getNewManagerNo())
                 .orElseThrow(() -> new CustomExceptions.ManagerNotFoundException(request.getNewManagerNo() + "번 매니저는 존재하지 않습니다."));
 
+        LocalDateTime previousExamDate = existingExam.getExamDate();
         existingExam.updateExamInfo(existingCenter, request.getNewExamDate(), manager, request.getNewRunningTime(),
                 request.getNewExamType(), request.getNewMaxDirector());
+        // 시험 날짜가 바뀌면 대시보드 집계도 새 날짜로 옮김
+        if (!Objects.equals(previousExamDate, existingExam.getExamDate())) {
+            if (existingExam.getConfirmedDirectorCnt() == 0) {
+                dashboardDailyRollup.recordUnassignedExam(previousExamDate, -1);
+                dashboardDailyRollup.recordUnassignedExam(existingExam.getExamDate(), 1);
+            }
+            dashboardDailyRollup.movePendingCompensations(previousExamDate, existingExam.getExamDate(),
+                    examExamineeRepository.countUncompensatedByExamNo(examNo));
+        }
+        // 센터별 월간 통계는 이전 달과 새 달 모두 다시 계산
+        centerMonthStatsCache.evictExam(previousExamDate);
+        centerMonthStatsCache.evictExam(existingExam.getExamDate());
+        // 시험 시작 시간이 바뀌면 정시/지각 구분이 달라지므로 현황 카운터를 다시 계산
+        examStatusCounter.evict(examNo);
+        examArrivalHistogram.evict(examNo);
+        directorDailySchedule.invalidate();
+        ongoingExamIndex.invalidate();
     }
 
     // 시험 삭제
@@ -145,7 +198,17 @@ public class ExamService {
     public void deleteExam(Long no) {
         Exam exam = examRepository.findById(no)
                 .orElseThrow(() -> new CustomExceptions.ExamNotFoundException(no + "번 시험은 존재하지 않습니다."));
+        if (exam.getConfirmedDirectorCnt() == 0) {
+            dashboardDailyRollup.recordUnassignedExam(exam.getExamDate(), -1);
+        }
+        dashboardDailyRollup.movePendingCompensations(exam.getExamDate(), null, examExamineeRepository.countUncompensatedByExamNo(no));
         examRepository.delete(exam);
+        centerMonthStatsCache.evictExam(exam.getExamDate());
+        examDirectorAccessIndex.evictExam(no);
+        examStatusCounter.evict(no);
+        examArrivalHistogram.evict(no);
+        directorDailySchedule.invalidate();
+        ongoingExamIndex.invalidate();
     }
 
 }
@@ -0,0 +1,228 @@
+package multicampussa.laams.manager.service.exam;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import multicampussa.laams.director.dto.director.DirectorScheduleDto;
+import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.dto.ExamIntervalDTO;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 오늘, 내일 시험의 진행 구간 [examDate, examDate + runningTime) 색인.
+ * 전날 시작해서 자정을 넘기는 시험도 포함하도록 어제부터 읽는다.
+ * 구간 경계 시각을 정렬해 두고 경계 사이마다 진행 중인 시험 목록을 미리 만들어서, 특정 시각의 진행 중인 시험은 이분 탐색 한 번으로 찾는다.
+ * 전체, 승인된 감독관별, 센터별로 따로 만들어 두며 시험 생성/수정/삭제, 감독관 승인/거절 커밋 후와 자정에 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OngoingExamIndex {
+
+    private final ExamRepository examRepository;
+    private final ExamDirectorRepository examDirectorRepository;
+
+    private volatile Index index;
+    // invalidate 될 때마다 증가, 색인을 읽는 도중 커밋된 변경이 있으면 읽은 색인을 저장하지 않기 위함
+    private long generation = 0;
+    private final Object loadLock = new Object();
+
+    // now에 진행 중인 시험
+    public List<ExamIntervalDTO> findOngoing(LocalDateTime now) {
+        return currentIndex().all.at(now);
+    }
+
+    // now에 진행 중인 시험 번호
+    public List<Long> findOngoingExamNos(LocalDateTime now) {
+        List<Long> examNos = new ArrayList<>();
+        for (ExamIntervalDTO exam : findOngoing(now)) {
+            examNos.add(exam.getExamNo());
+        }
+        return examNos;
+    }
+
+    // 감독관이 승인받은 시험 중 now에 진행 중인 시험
+    public List<ExamIntervalDTO> findOngoingByDirector(String directorId, LocalDateTime now) {
+        Timeline timeline = currentIndex().byDirector.get(directorId);
+        return timeline == null ? Collections.emptyList() : timeline.at(now);
+    }
+
+    public boolean isOngoingForDirector(String directorId, LocalDateTime now) {
+        return !findOngoingByDirector(directorId, now).isEmpty();
+    }
+
+    // 센터에서 now에 진행 중인 시험
+    public List<ExamIntervalDTO> findOngoingByCenter(Long centerNo, LocalDateTime now) {
+        Timeline timeline = currentIndex().byCenter.get(centerNo);
+        return timeline == null ? Collections.emptyList() : timeline.at(now);
+    }
+
+    // 시험 시간, 센터 변경이나 감독관 승인처럼 색인에 영향을 주는 변경 (커밋 후 다음 조회 때 다시 만듦)
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    // 자정마다 새 날짜 기준으로 미리 만들어 둠
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollOver() {
+        synchronized (loadLock) {
+            long loadGeneration = currentGeneration();
+            publish(load(LocalDate.now()), loadGeneration);
+        }
+    }
+
+    private Index currentIndex() {
+        Index current = index;
+        LocalDate date = LocalDate.now();
+        if (current != null && current.date.equals(date)) {
+            return current;
+        }
+        // 색인 생성은 한 번에 하나만 (동시에 들어온 조회는 먼저 만든 색인을 같이 씀)
+        synchronized (loadLock) {
+            current = index;
+            if (current == null || !current.date.equals(date)) {
+                long loadGeneration = currentGeneration();
+                current = load(date);
+                publish(current, loadGeneration);
+            }
+            return current;
+        }
+    }
+
+    private synchronized void clear() {
+        generation++;
+        index = null;
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    // 읽는 도중 invalidate 되었으면 이번 조회에만 쓰고 저장하지 않음 (다음 조회 때 다시 만듦)
+    private synchronized void publish(Index loaded, long loadGeneration) {
+        if (loadGeneration == generation) {
+            index = loaded;
+        }
+    }
+
+    private Index load(LocalDate date) {
+        LocalDateTime start = date.minusDays(1).atStartOfDay();
+        LocalDateTime end = date.plusDays(2).atStartOfDay();
+
+        List<ExamIntervalDTO> exams = examRepository.findExamIntervalsBetween(start, end);
+        Map<Long, ExamIntervalDTO> byExamNo = new HashMap<>();
+        Map<Long, List<ExamIntervalDTO>> examsByCenter = new HashMap<>();
+        for (ExamIntervalDTO exam : exams) {
+            byExamNo.put(exam.getExamNo(), exam);
+            if (exam.getCenterNo() != null) {
+                examsByCenter.computeIfAbsent(exam.getCenterNo(), key -> new ArrayList<>()).add(exam);
+            }
+        }
+
+        Map<String, List<ExamIntervalDTO>> examsByDirector = new HashMap<>();
+        for (DirectorScheduleDto schedule : examDirectorRepository.findConfirmedSchedulesBetween(start, end)) {
+            ExamIntervalDTO exam = byExamNo.get(schedule.getExamNo());
+            if (exam != null) {
+                examsByDirector.computeIfAbsent(schedule.getDirectorId(), key -> new ArrayList<>()).add(exam);
+            }
+        }
+
+        Map<String, Timeline> byDirector = new HashMap<>();
+        examsByDirector.forEach((directorId, list) -> byDirector.put(directorId, new Timeline(list)));
+        Map<Long, Timeline> byCenter = new HashMap<>();
+        examsByCenter.forEach((centerNo, list) -> byCenter.put(centerNo, new Timeline(list)));
+
+        log.info("{} 진행 시험 색인 {}건 생성 (감독관 {}명, 센터 {}곳)", date, exams.size(), byDirector.size(), byCenter.size());
+        return new Index(date, new Timeline(exams), byDirector, byCenter);
+    }
+
+    private static class Index {
+        private final LocalDate date;
+        private final Timeline all;
+        private final Map<String, Timeline> byDirector;
+        private final Map<Long, Timeline> byCenter;
+
+        private Index(LocalDate date, Timeline all, Map<String, Timeline> byDirector, Map<Long, Timeline> byCenter) {
+            this.date = date;
+            this.all = all;
+            this.byDirector = byDirector;
+            this.byCenter = byCenter;
+        }
+    }
+
+    // 경계 시각 사이 구간별 진행 중인 시험 (segments[i]는 [boundaries[i], boundaries[i + 1]) 동안 진행 중)
+    private static class Timeline {
+        private final LocalDateTime[] boundaries;
+        private final List<List<ExamIntervalDTO>> segments;
+
+        private Timeline(List<ExamIntervalDTO> exams) {
+            Set<LocalDateTime> points = new TreeSet<>();
+            List<ExamIntervalDTO> byStart = new ArrayList<>();
+            for (ExamIntervalDTO exam : exams) {
+                // 진행 시간이 0분 이하인 시험은 진행 중인 시각이 없음
+                if (exam.getEndDate().isAfter(exam.getExamDate())) {
+                    points.add(exam.getExamDate());
+                    points.add(exam.getEndDate());
+                    byStart.add(exam);
+                }
+            }
+            List<ExamIntervalDTO> byEnd = new ArrayList<>(byStart);
+            byStart.sort(Comparator.comparing(ExamIntervalDTO::getExamDate));
+            byEnd.sort(Comparator.comparing(ExamIntervalDTO::getEndDate));
+
+            boundaries = points.toArray(new LocalDateTime[0]);
+            segments = new ArrayList<>(boundaries.length);
+
+            // 경계마다 끝난 시험은 빼고 시작한 시험은 넣은 뒤 그 시점의 목록을 저장
+            Set<ExamIntervalDTO> active = new LinkedHashSet<>();
+            int started = 0;
+            int ended = 0;
+            for (LocalDateTime boundary : boundaries) {
+                while (ended < byEnd.size() && !byEnd.get(ended).getEndDate().isAfter(boundary)) {
+                    active.remove(byEnd.get(ended++));
+                }
+                while (started < byStart.size() && !byStart.get(started).getExamDate().isAfter(boundary)) {
+                    active.add(byStart.get(started++));
+                }
+                segments.add(active.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(active)));
+            }
+        }
+
+        private List<ExamIntervalDTO> at(LocalDateTime time) {
+            // time 이하인 마지막 경계 (마지막 경계 이후는 모든 시험이 끝난 구간)
+            int position = Arrays.binarySearch(boundaries, time);
+            if (position < 0) {
+                position = -position - 2;
+            }
+            if (position < 0) {
+                return Collections.emptyList();
+            }
+            return segments.get(position);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package multicampussa.laams.manager.service.examinee;
 
+import multicampussa.laams.director.service.ExamStatusCounter;
 import multicampussa.laams.global.CustomExceptions;
 import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
 import multicampussa.laams.manager.domain.examinee.ExamExaminee;
 import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
 import multicampussa.laams.manager.domain.examinee.Examinee;
+import multicampussa.laams.manager.domain.examinee.ImageRepository;
 import multicampussa.laams.manager.domain.examinee.ExamineeRepository;
 import multicampussa.laams.manager.dto.examinee.request.ExamineeCompensationConfirmRequest;
 import multicampussa.laams.manager.dto.examinee.request.ExamineeCompensationDenyRequest;
@@ -12,13 +14,16 @@ import multicampussa.laams.manager.dto.examinee.request.ExamineeCreateRequest;
 import multicampussa.laams.manager.dto.examinee.request.ExamineeUpdateRequest;
 import multicampussa.laams.manager.dto.examinee.response.ExamineeCompensationDetailResponse;
 import multicampussa.laams.manager.dto.examinee.response.ExamineeCompensationListResponse;
+import multicampussa.laams.manager.dto.examinee.response.ExamineeImageResponse;
 import multicampussa.laams.manager.dto.examinee.response.ExamineeResponse;
+import multicampussa.laams.manager.service.dashboard.DashboardDailyRollup;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,11 +34,16 @@ public class ManagerExamineeService {
     private final ExamineeRepository examineeRepository;
     private final ExamExamineeRepository examExamineeRepository;
     private final ExamDirectorRepository examDirectorRepository;
+    private final DashboardDailyRollup dashboardDailyRollup;
+    private final ImageRepository imageRepository;
 
-    public ManagerExamineeService(ExamineeRepository examineeRepository, ExamExamineeRepository examExamineeRepository, ExamDirectorRepository examDirectorRepository) {
+    public ManagerExamineeService(ExamineeRepository examineeRepository, ExamExamineeRepository examExamineeRepository, ExamDirectorRepository examDirectorRepository,
+                                  DashboardDailyRollup dashboardDailyRollup, ImageRepository imageRepository) {
         this.examineeRepository = examineeRepository;
         this.examExamineeRepository = examExamineeRepository;
         this.examDirectorRepository = examDirectorRepository;
+        this.dashboardDailyRollup = dashboardDailyRollup;
+        this.imageRepository = imageRepository;
     }
 
     // 응시자 생성
@@ -50,7 +60,10 @@ public class ManagerExamineeService {
         if (examExaminee == null) {
             throw new CustomExceptions.ExamExamineeNotFoundException("해당 시험에 등록된 응시자가 존재하지 않습니다.");
         }
+        LocalDateTime examDate = examExaminee.getExam().getExamDate();
+        ExamStatusCounter.Snapshot before = ExamStatusCounter.Snapshot.of(examExaminee, examDate);
         examExaminee.confirmCompensation();
+        dashboardDailyRollup.recordCompensation(examDate, before, ExamStatusCounter.Snapshot.of(examExaminee, examDate));
     }
 
     // 응시자 보상 거절
@@ -61,7 +74,10 @@ public class ManagerExamineeService {
         if (examExaminee == null) {
             throw new CustomExceptions.ExamExamineeNotFoundException("해당 시험에 등록된 응시자가 존재하지 않습니다.");
         }
+        LocalDateTime examDate = examExaminee.getExam().getExamDate();
+        ExamStatusCounter.Snapshot before = ExamStatusCounter.Snapshot.of(examExaminee, examDate);
         examExaminee.denyCompensation();
+        dashboardDailyRollup.recordCompensation(examDate, before, ExamStatusCounter.Snapshot.of(examExaminee, examDate));
     }
 
     // 응시자 목록 조회
@@ -120,7 +136,11 @@ public class ManagerExamineeService {
     @Transactional
     public ExamineeCompensationDetailResponse getCompensationDetail(Long examineeNo) {
         ExamExaminee examExaminee = examExamineeRepository.findByExamineeNo(examineeNo);
-        ExamineeCompensationDetailResponse examineeCompensationDetailResponse = new ExamineeCompensationDetailResponse(examExaminee);
+        // 증빙 이미지 (썸네일, 표시용 축소 이미지 주소 포함)
+        List<ExamineeImageResponse> images = imageRepository.findByExamExamineeNoOrderByNoAsc(examExaminee.getNo()).stream()
+                .map(ExamineeImageResponse::new)
+                .collect(Collectors.toList());
+        ExamineeCompensationDetailResponse examineeCompensationDetailResponse = new ExamineeCompensationDetailResponse(examExaminee, images);
         return examineeCompensationDetailResponse;
     }
 
@@ -0,0 +1,173 @@
+package multicampussa.laams.centerManager.service;
+
+import multicampussa.laams.centerManager.dto.ConfirmDirectorRequest;
+import multicampussa.laams.director.service.ExamDirectorAccessIndex;
+import multicampussa.laams.global.CustomExceptions;
+import multicampussa.laams.manager.domain.exam.Exam;
+import multicampussa.laams.manager.domain.exam.ExamDirector;
+import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.service.dashboard.DashboardDailyRollup;
+import multicampussa.laams.manager.service.exam.OngoingExamIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 감독관 승인/거절의 정원 증감 (조건부 update 결과를 흉내 낸 저장소로 확인)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CenterManagerServiceTest {
+
+    private static final Long EXAM_NO = 10L;
+    private static final int MAX_DIRECTOR = 2;
+
+    @Mock private ExamDirectorRepository examDirectorRepository;
+    @Mock private ExamRepository examRepository;
+    @Mock private ExamDirectorAccessIndex examDirectorAccessIndex;
+    @Mock private DashboardDailyRollup dashboardDailyRollup;
+    @Mock private OngoingExamIndex ongoingExamIndex;
+
+    @InjectMocks
+    private CenterManagerService centerManagerService;
+
+    private Exam exam;
+    // 감독관 배정 요청 번호 -> 승인 상태, 시험의 승인된 감독관 수
+    private final Map<Long, ExamDirector.Confirm> confirms = new HashMap<>();
+    private int confirmedDirectorCnt;
+
+    @BeforeEach
+    void setUp() {
+        exam = new Exam(null, LocalDateTime.of(2026, 10, 20, 9, 0), null, 60, "TOEIC", "KOR", MAX_DIRECTOR);
+        ReflectionTestUtils.setField(exam, "no", EXAM_NO);
+
+        when(examDirectorRepository.confirmIfNotConfirmed(anyLong(), any())).thenAnswer(invocation -> {
+            Long no = invocation.getArgument(0);
+            return confirms.put(no, ExamDirector.Confirm.승인) == ExamDirector.Confirm.승인 ? 0 : 1;
+        });
+        when(examDirectorRepository.denyIfConfirmed(anyLong(), any())).thenAnswer(invocation -> {
+            Long no = invocation.getArgument(0);
+            if (confirms.get(no) != ExamDirector.Confirm.승인) {
+                return 0;
+            }
+            confirms.put(no, ExamDirector.Confirm.거절);
+            return 1;
+        });
+        when(examRepository.increaseConfirmedDirectorCnt(EXAM_NO)).thenAnswer(invocation -> {
+            if (confirmedDirectorCnt >= MAX_DIRECTOR) {
+                return 0;
+            }
+            confirmedDirectorCnt++;
+            return 1;
+        });
+        when(examRepository.decreaseConfirmedDirectorCnt(EXAM_NO)).thenAnswer(invocation -> {
+            if (confirmedDirectorCnt <= 0) {
+                return 0;
+            }
+            confirmedDirectorCnt--;
+            return 1;
+        });
+        when(examRepository.findConfirmedDirectorCnt(EXAM_NO)).thenAnswer(invocation -> confirmedDirectorCnt);
+    }
+
+    @Test
+    void 첫_감독관_승인만_미배정_시험을_줄인다() {
+        centerManagerService.confirmDirector(request(1L));
+        centerManagerService.confirmDirector(request(2L));
+
+        assertThat(confirmedDirectorCnt).isEqualTo(2);
+        verify(dashboardDailyRollup, times(1)).recordUnassignedExam(exam.getExamDate(), -1);
+    }
+
+    @Test
+    void 이미_승인된_감독관을_다시_승인해도_정원을_차지하지_않는다() {
+        centerManagerService.confirmDirector(request(1L));
+        centerManagerService.confirmDirector(request(1L));
+
+        assertThat(confirmedDirectorCnt).isEqualTo(1);
+        verify(examRepository, times(1)).increaseConfirmedDirectorCnt(EXAM_NO);
+        verify(dashboardDailyRollup, times(1)).recordUnassignedExam(any(), anyInt());
+    }
+
+    @Test
+    void 정원이_차면_승인을_거절한다() {
+        centerManagerService.confirmDirector(request(1L));
+        centerManagerService.confirmDirector(request(2L));
+
+        assertThatThrownBy(() -> centerManagerService.confirmDirector(request(3L)))
+                .isInstanceOf(CustomExceptions.ExamDirectorFullException.class);
+        assertThat(confirmedDirectorCnt).isEqualTo(MAX_DIRECTOR);
+    }
+
+    @Test
+    void 승인된_감독관을_거절하면_정원을_돌려주고_마지막이면_미배정으로_센다() {
+        centerManagerService.confirmDirector(request(1L));
+        centerManagerService.denyDirector(request(1L));
+
+        assertThat(confirmedDirectorCnt).isZero();
+        verify(dashboardDailyRollup).recordUnassignedExam(exam.getExamDate(), 1);
+    }
+
+    @Test
+    void 승인되지_않은_감독관을_거절하면_정원은_그대로다() {
+        ExamDirector examDirector = givenExamDirector(1L);
+
+        centerManagerService.denyDirector(request(1L));
+
+        assertThat(examDirector.getConfirm()).isEqualTo(ExamDirector.Confirm.거절);
+        verify(examRepository, never()).decreaseConfirmedDirectorCnt(EXAM_NO);
+        verify(dashboardDailyRollup, never()).recordUnassignedExam(any(), anyInt());
+    }
+
+    @Test
+    void 승인된_감독관_수가_비어_있으면_승인_전에_채운다() {
+        centerManagerService.confirmDirector(request(1L));
+
+        InOrder order = inOrder(examRepository, examDirectorRepository);
+        order.verify(examRepository).fillConfirmedDirectorCnt(EXAM_NO);
+        order.verify(examDirectorRepository).confirmIfNotConfirmed(eq(1L), any());
+        order.verify(examRepository).increaseConfirmedDirectorCnt(EXAM_NO);
+    }
+
+    // 배정 요청 번호와 감독관 번호를 같게 둠
+    private ConfirmDirectorRequest request(Long directorNo) {
+        if (!confirms.containsKey(directorNo)) {
+            givenExamDirector(directorNo);
+        }
+        ConfirmDirectorRequest request = new ConfirmDirectorRequest();
+        ReflectionTestUtils.setField(request, "examNo", EXAM_NO);
+        ReflectionTestUtils.setField(request, "directorNo", directorNo);
+        return request;
+    }
+
+    private ExamDirector givenExamDirector(Long directorNo) {
+        ExamDirector examDirector = new ExamDirector();
+        ReflectionTestUtils.setField(examDirector, "no", directorNo);
+        examDirector.setExam(exam, null);
+        confirms.put(directorNo, ExamDirector.Confirm.대기);
+        when(examDirectorRepository.findByExamNoAndDirectorNo(EXAM_NO, directorNo)).thenReturn(examDirector);
+        return examDirector;
+    }
+}
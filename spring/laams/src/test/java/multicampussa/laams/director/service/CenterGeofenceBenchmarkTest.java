@@ -0,0 +1,117 @@
+package multicampussa.laams.director.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도착 인증 반경(500m) 검사 벤치마크.
+ * 이전 LocationDistance(구면 코사인 법칙, 마일 환산), 호출마다 센터 좌표를 새로 계산하는 방식, 범위 선검사 없이 하버사인만 쓰는 방식,
+ * 센터 좌표와 반경 범위를 미리 계산해 둔 현재 방식을 센터 근처 지점과 전국에 흩어진 지점으로 나누어 비교한다.
+ * 기본 테스트에서는 빠지고 ./gradlew test -Pbenchmark --tests '*CenterGeofenceBenchmarkTest'로 실행한다.
+ */
+@Tag("benchmark")
+class CenterGeofenceBenchmarkTest {
+
+    private static final double RADIUS_METERS = 500;
+    private static final int CENTERS = 40;
+    private static final int POINTS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    private final double[] centerLatitudes = new double[CENTERS];
+    private final double[] centerLongitudes = new double[CENTERS];
+    private final CenterGeofence.GeoPoint[] centerPoints = new CenterGeofence.GeoPoint[CENTERS];
+
+    @Test
+    void 반경_검사_방식별_시간() {
+        Random random = new Random(7);
+        for (int i = 0; i < CENTERS; i++) {
+            centerLatitudes[i] = 34 + random.nextDouble() * 4;
+            centerLongitudes[i] = 126 + random.nextDouble() * 3;
+            centerPoints[i] = CenterGeofence.point(centerLatitudes[i], centerLongitudes[i]);
+        }
+        // 도착 인증을 하러 센터 근처(2km 이내)에 온 감독관
+        double[][] near = new double[2][POINTS];
+        // 전국 어디서나 (대부분 위도 범위에서 바로 탈락)
+        double[][] far = new double[2][POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            int center = i % CENTERS;
+            near[0][i] = centerLatitudes[center] + (random.nextDouble() - 0.5) * 0.036;
+            near[1][i] = centerLongitudes[center] + (random.nextDouble() - 0.5) * 0.045;
+            far[0][i] = 33 + random.nextDouble() * 5.5;
+            far[1][i] = 125 + random.nextDouble() * 5;
+        }
+
+        for (double[][] points : new double[][][]{near, far}) {
+            String label = points == near ? "near" : "far ";
+            int prefiltered = measure(label, "prefilter", points, this::prefiltered);
+            int haversine = measure(label, "haversine", points, this::haversineOnly);
+            int perCall = measure(label, "per call ", points, this::perCallPoint);
+            int legacy = measure(label, "legacy   ", points, this::legacy);
+            System.out.printf("[geofence benchmark] %s within %d / %d (legacy %d)%n", label, prefiltered, POINTS, legacy);
+
+            // 선검사와 미리 계산해 둔 값은 판정을 바꾸지 않음
+            assertThat(prefiltered).isEqualTo(haversine).isEqualTo(perCall);
+        }
+    }
+
+    private int measure(String label, String name, double[][] points, Check check) {
+        int within = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            within = run(points, check);
+        }
+        long totalNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            within = run(points, check);
+            totalNanos += System.nanoTime() - startedAt;
+        }
+        System.out.printf("[geofence benchmark] %s %s : %6.1f ns/op%n", label, name, (double) totalNanos / ROUNDS / POINTS);
+        return within;
+    }
+
+    private int run(double[][] points, Check check) {
+        int within = 0;
+        for (int i = 0; i < POINTS; i++) {
+            if (check.isWithin(i % CENTERS, points[0][i], points[1][i])) {
+                within++;
+            }
+        }
+        return within;
+    }
+
+    // 현재 방식 (일정에 담아 둔 센터 좌표, 반경 범위 선검사)
+    private boolean prefiltered(int center, double latitude, double longitude) {
+        return centerPoints[center].isWithin(latitude, longitude, RADIUS_METERS);
+    }
+
+    // 선검사 없이 하버사인 거리만
+    private boolean haversineOnly(int center, double latitude, double longitude) {
+        return centerPoints[center].distanceMeters(latitude, longitude) <= RADIUS_METERS;
+    }
+
+    // 호출마다 센터 좌표와 반경 범위를 새로 계산 (이전 정적 isWithin)
+    private boolean perCallPoint(int center, double latitude, double longitude) {
+        return CenterGeofence.point(centerLatitudes[center], centerLongitudes[center]).isWithin(latitude, longitude, RADIUS_METERS);
+    }
+
+    // 이전 LocationDistance.distance(..., "meter") 그대로
+    private boolean legacy(int center, double latitude, double longitude) {
+        double lat1 = centerLatitudes[center];
+        double theta = centerLongitudes[center] - longitude;
+        double dist = Math.sin(lat1 * Math.PI / 180.0) * Math.sin(latitude * Math.PI / 180.0)
+                + Math.cos(lat1 * Math.PI / 180.0) * Math.cos(latitude * Math.PI / 180.0) * Math.cos(theta * Math.PI / 180.0);
+        dist = Math.acos(dist);
+        dist = dist * 180 / Math.PI;
+        dist = dist * 60 * 1.1515 * 1609.344;
+        return dist <= RADIUS_METERS;
+    }
+
+    private interface Check {
+        boolean isWithin(int center, double latitude, double longitude);
+    }
+}
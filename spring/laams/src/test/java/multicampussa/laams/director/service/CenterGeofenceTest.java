@@ -0,0 +1,146 @@
+package multicampussa.laams.director.service;
+
+import multicampussa.laams.manager.domain.center.Center;
+import multicampussa.laams.manager.domain.center.CenterRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 하버사인 거리와 위도/경도 범위(bounding box) 선검사
+class CenterGeofenceTest {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    @Test
+    void 적도에서_경도_1도는_반지름의_180분의_파이() {
+        assertThat(CenterGeofence.distanceMeters(0, 0, 0, 1))
+                .isCloseTo(EARTH_RADIUS_METERS * Math.PI / 180, within(1e-6));
+    }
+
+    @Test
+    void 극에서_극까지는_반원() {
+        assertThat(CenterGeofence.distanceMeters(90, 0, -90, 0))
+                .isCloseTo(EARTH_RADIUS_METERS * Math.PI, within(1e-3));
+    }
+
+    @Test
+    void 날짜_변경선을_넘는_거리는_짧은_쪽으로_잰다() {
+        assertThat(CenterGeofence.distanceMeters(0, 179.9995, 0, -179.9995))
+                .isCloseTo(EARTH_RADIUS_METERS * Math.toRadians(0.001), within(1e-6));
+        assertThat(CenterGeofence.point(0, 179.9995).isWithin(0, -179.9995, 200)).isTrue();
+    }
+
+    @Test
+    void 서울_부산_거리() {
+        // 서울시청 - 부산시청 약 325km
+        assertThat(CenterGeofence.distanceMeters(37.5665, 126.9780, 35.1796, 129.0756))
+                .isCloseTo(325_000, within(3_000.0));
+    }
+
+    // 범위 선검사가 반경 안의 지점을 떨어뜨리지 않는지 하버사인 거리와 비교 (고위도, 큰 반경 포함)
+    @Test
+    void 범위_선검사는_하버사인_판정과_같다() {
+        Random random = new Random(7);
+        double[] latitudes = {0, 37.5665, -45, 70, 85, 89.9};
+        double[] radii = {50, 500, 5_000, 200_000, 1_500_000};
+        for (double centerLat : latitudes) {
+            for (double radius : radii) {
+                double centerLon = random.nextDouble() * 360 - 180;
+                for (int i = 0; i < 2_000; i++) {
+                    // 중심에서 반경의 0 ~ 1.5배 거리, 임의 방향
+                    double[] point = destination(centerLat, centerLon, random.nextDouble() * 2 * Math.PI, random.nextDouble() * 1.5 * radius);
+                    double distance = CenterGeofence.distanceMeters(centerLat, centerLon, point[0], point[1]);
+                    assertThat(CenterGeofence.point(centerLat, centerLon).isWithin(point[0], point[1], radius))
+                            .as("center=(%s,%s) point=(%s,%s) radius=%s distance=%s", centerLat, centerLon, point[0], point[1], radius, distance)
+                            .isEqualTo(distance <= radius);
+                }
+            }
+        }
+    }
+
+    // 경도 범위가 가장 넓은 지점 (센터 위도보다 극 쪽, 정동/정서 방향 근처) 바로 안쪽
+    @Test
+    void 경도_범위_끝에_걸친_지점도_반경_안으로_본다() {
+        double centerLat = 60;
+        double radius = 300_000;
+        double angle = radius / EARTH_RADIUS_METERS;
+        double latRad = Math.toRadians(centerLat);
+        // 경도 차이가 최대가 되는 지점의 위도와 경도 차이
+        double tangentLat = Math.toDegrees(Math.asin(Math.sin(latRad) / Math.cos(angle)));
+        double lonDelta = Math.toDegrees(Math.asin(Math.sin(angle) / Math.cos(latRad)));
+
+        assertThat(CenterGeofence.point(centerLat, 10).isWithin(tangentLat, 10 + lonDelta * 0.999999, radius)).isTrue();
+        assertThat(CenterGeofence.point(centerLat, 10).isWithin(tangentLat, 10 + lonDelta * 1.0001, radius)).isFalse();
+    }
+
+    @Test
+    void 반경이_극을_포함하면_모든_경도를_본다() {
+        assertThat(CenterGeofence.point(89.99, 0).isWithin(89.995, 180, 2_000)).isTrue();
+    }
+
+    @Test
+    void 주어진_센터들_중_반경_안의_센터를_가까운_순으로_돌려준다() {
+        CenterRepository centerRepository = mock(CenterRepository.class);
+        when(centerRepository.findByNo(1L)).thenReturn(center(1L, 37.5665, 126.9780));
+        when(centerRepository.findByNo(2L)).thenReturn(center(2L, 37.5700, 126.9780));
+        when(centerRepository.findByNo(3L)).thenReturn(center(3L, 35.1796, 129.0756));
+        when(centerRepository.findByNo(4L)).thenReturn(center(4L, null, null));
+        CenterGeofence geofence = new CenterGeofence(centerRepository);
+
+        List<CenterGeofence.CenterDistance> result = geofence.centersWithin(Arrays.asList(1L, 2L, 3L, 4L), 37.5690, 126.9780, 1_000);
+
+        assertThat(result).extracting(CenterGeofence.CenterDistance::getCenterNo).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 가장_가까운_센터는_전체를_비교한_결과와_같다() {
+        Random random = new Random(11);
+        Center[] centers = new Center[500];
+        for (int i = 0; i < centers.length; i++) {
+            centers[i] = center((long) i + 1, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5);
+        }
+        CenterRepository centerRepository = mock(CenterRepository.class);
+        when(centerRepository.findAll()).thenReturn(Arrays.asList(centers));
+        CenterGeofence geofence = new CenterGeofence(centerRepository);
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = 32 + random.nextDouble() * 7;
+            double longitude = 124 + random.nextDouble() * 7;
+            Center expected = centers[0];
+            for (Center center : centers) {
+                if (CenterGeofence.distanceMeters(latitude, longitude, center.getLatitude(), center.getLongitude())
+                        < CenterGeofence.distanceMeters(latitude, longitude, expected.getLatitude(), expected.getLongitude())) {
+                    expected = center;
+                }
+            }
+            assertThat(geofence.nearestCenter(latitude, longitude).getCenterNo()).isEqualTo(expected.getNo());
+        }
+    }
+
+    // 시작점에서 방위각(라디안) 방향으로 거리(m)만큼 간 지점
+    private static double[] destination(double latitude, double longitude, double bearing, double distanceMeters) {
+        double angle = distanceMeters / EARTH_RADIUS_METERS;
+        double latRad = Math.toRadians(latitude);
+        double lonRad = Math.toRadians(longitude);
+        double lat2 = Math.asin(Math.sin(latRad) * Math.cos(angle) + Math.cos(latRad) * Math.sin(angle) * Math.cos(bearing));
+        double lon2 = lonRad + Math.atan2(Math.sin(bearing) * Math.sin(angle) * Math.cos(latRad), Math.cos(angle) - Math.sin(latRad) * Math.sin(lat2));
+        return new double[]{Math.toDegrees(lat2), Math.toDegrees(Math.IEEEremainder(lon2, 2 * Math.PI))};
+    }
+
+    private static Center center(Long no, Double latitude, Double longitude) {
+        Center center = BeanUtils.instantiateClass(Center.class);
+        ReflectionTestUtils.setField(center, "no", no);
+        ReflectionTestUtils.setField(center, "latitude", latitude);
+        ReflectionTestUtils.setField(center, "longitude", longitude);
+        return center;
+    }
+}
@@ -0,0 +1,161 @@
+package multicampussa.laams.director.service;
+
+import multicampussa.laams.director.dto.director.BulkAttendanceRequestDto;
+import multicampussa.laams.director.dto.director.BulkAttendanceResultDto;
+import multicampussa.laams.manager.domain.exam.Exam;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.domain.examinee.ExamExaminee;
+import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
+import multicampussa.laams.manager.domain.examinee.Examinee;
+import multicampussa.laams.manager.service.dashboard.DashboardDailyRollup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 일괄 출석 확인의 응시자별 결과 (성공, 중복, 이미 출석, 시험 응시자 아님, 지각)
+@ExtendWith(MockitoExtension.class)
+class DirectorServiceBulkAttendanceTest {
+
+    private static final Long EXAM_NO = 10L;
+    private static final String DIRECTOR_ID = "director";
+
+    @Mock private ExamRepository examRepository;
+    @Mock private ExamExamineeRepository examExamineeRepository;
+    @Mock private ExamDirectorAccessIndex examDirectorAccessIndex;
+    @Mock private ExamStatusCounter examStatusCounter;
+    @Mock private ExamArrivalHistogram examArrivalHistogram;
+    @Mock private DashboardDailyRollup dashboardDailyRollup;
+
+    @InjectMocks
+    private DirectorService directorService;
+
+    private Exam exam;
+
+    @BeforeEach
+    void setUp() {
+        exam = exam(LocalDateTime.now().plusHours(1));
+    }
+
+    @Test
+    void 응시자별로_결과를_돌려주고_성공한_응시자만_저장한다() {
+        ExamExaminee first = examExaminee(100L, 1L, "C-1");
+        ExamExaminee attended = examExaminee(200L, 2L, "C-2");
+        attended.setAttendance(true, LocalDateTime.now().minusMinutes(5));
+        ExamExaminee byCode = examExaminee(300L, 3L, "C-3");
+        givenAssigned();
+        when(examExamineeRepository.findByExamNoAndExamineeNoIn(eq(EXAM_NO), anyCollection())).thenReturn(Arrays.asList(first, attended));
+        when(examExamineeRepository.findByExamNoAndExamineeCodeIn(eq(EXAM_NO), anyCollection())).thenReturn(Collections.singletonList(byCode));
+
+        List<BulkAttendanceResultDto> results = directorService.checkAttendanceBulk(EXAM_NO,
+                new BulkAttendanceRequestDto(Arrays.asList(1L, 1L, 2L, 99L), Collections.singletonList("C-3")), "ROLE_DIRECTOR", DIRECTOR_ID);
+
+        assertThat(results).extracting(BulkAttendanceResultDto::getSuccess).containsExactly(true, false, false, false, true);
+        assertThat(results).extracting(BulkAttendanceResultDto::getMessage).containsExactly(
+                "응시자의 출석이 확인되었습니다.",
+                "요청에 중복된 응시자입니다.",
+                "이미 출석이 확인된 응시자입니다.",
+                "해당 시험의 응시자가 아닙니다.",
+                "응시자의 출석이 확인되었습니다.");
+        assertThat(results.get(3).getExamineeNo()).isEqualTo(99L);
+        assertThat(results.get(4).getExamineeNo()).isEqualTo(3L);
+        assertThat(results.get(4).getExamineeCode()).isEqualTo("C-3");
+
+        // 요청 안에서는 같은 출석 시간을 씀
+        assertThat(results.get(0).getAttendanceTime()).isEqualTo(results.get(4).getAttendanceTime());
+        assertThat(results.get(0).getCompensation()).isFalse();
+
+        ArgumentCaptor<List<ExamExaminee>> saved = savedCaptor();
+        verify(examExamineeRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(first, byCode);
+        assertThat(first.getAttendance()).isTrue();
+        assertThat(byCode.getAttendance()).isTrue();
+    }
+
+    @Test
+    void 시험_시작_후_출석은_지각으로_보상_대상이다() {
+        exam = exam(LocalDateTime.now().minusMinutes(10));
+        ExamExaminee late = examExaminee(100L, 1L, "C-1");
+        givenAssigned();
+        when(examExamineeRepository.findByExamNoAndExamineeNoIn(eq(EXAM_NO), anyCollection())).thenReturn(Collections.singletonList(late));
+
+        List<BulkAttendanceResultDto> results = directorService.checkAttendanceBulk(EXAM_NO,
+                new BulkAttendanceRequestDto(Collections.singletonList(1L), null), "ROLE_DIRECTOR", DIRECTOR_ID);
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getSuccess()).isTrue();
+        assertThat(results.get(0).getCompensation()).isTrue();
+        assertThat(results.get(0).getCompensationType()).isEqualTo("지각");
+        assertThat(late.getCompensation()).isTrue();
+        verify(examArrivalHistogram).recordArrival(eq(EXAM_NO), eq(100L), any(LocalDateTime.class), eq(true));
+    }
+
+    @Test
+    void 감독_배정이_없으면_거절한다() {
+        when(examRepository.findById(EXAM_NO)).thenReturn(Optional.of(exam));
+        when(examDirectorAccessIndex.isAssigned(EXAM_NO, DIRECTOR_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> directorService.checkAttendanceBulk(EXAM_NO,
+                new BulkAttendanceRequestDto(Collections.singletonList(1L), null), "ROLE_DIRECTOR", DIRECTOR_ID))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("감독 권한이 없는 사람입니다.");
+        verify(examExamineeRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void 최대_인원을_넘으면_조회하지_않고_거절한다() {
+        givenAssigned();
+        List<Long> examineeNos = LongStream.rangeClosed(1, 201).boxed().collect(Collectors.toList());
+
+        assertThatThrownBy(() -> directorService.checkAttendanceBulk(EXAM_NO,
+                new BulkAttendanceRequestDto(examineeNos, null), "ROLE_DIRECTOR", DIRECTOR_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(examExamineeRepository, never()).findByExamNoAndExamineeNoIn(any(), anyCollection());
+    }
+
+    private void givenAssigned() {
+        when(examRepository.findById(EXAM_NO)).thenReturn(Optional.of(exam));
+        when(examDirectorAccessIndex.isAssigned(EXAM_NO, DIRECTOR_ID)).thenReturn(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<ExamExaminee>> savedCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static Exam exam(LocalDateTime examDate) {
+        Exam exam = new Exam(null, examDate, null, 60, "TOEIC", "KOR", 2);
+        ReflectionTestUtils.setField(exam, "no", EXAM_NO);
+        return exam;
+    }
+
+    private ExamExaminee examExaminee(Long no, Long examineeNo, String examineeCode) {
+        Examinee examinee = BeanUtils.instantiateClass(Examinee.class);
+        ReflectionTestUtils.setField(examinee, "no", examineeNo);
+        ExamExaminee examExaminee = new ExamExaminee(examinee, exam, examineeCode);
+        ReflectionTestUtils.setField(examExaminee, "no", no);
+        return examExaminee;
+    }
+}
@@ -0,0 +1,274 @@
+package multicampussa.laams.director.service;
+
+import multicampussa.laams.global.CustomExceptions;
+import multicampussa.laams.manager.domain.exam.Exam;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.domain.examinee.ExamExaminee;
+import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
+import multicampussa.laams.manager.dto.exam.response.ExamArrivalResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 시험별 도착 분포 (구간 계산, 범위 밖 시각 처음/마지막 구간, 응시자별 한 번만 세기, 커밋 후 반영)
+@ExtendWith(MockitoExtension.class)
+class ExamArrivalHistogramTest {
+
+    private static final long EXAM_NO = 7L;
+    private static final LocalDateTime EXAM_DATE = LocalDateTime.of(2026, 3, 3, 10, 0);
+    private static final int RUNNING_TIME = 90;
+
+    @Mock
+    private ExamRepository examRepository;
+
+    @Mock
+    private ExamExamineeRepository examExamineeRepository;
+
+    @InjectMocks
+    private ExamArrivalHistogram examArrivalHistogram;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 시작_60분_전부터_종료까지_1분_구간() {
+        givenExam(EXAM_NO, EXAM_DATE, RUNNING_TIME, Collections.emptyList());
+
+        ExamArrivalResponse response = examArrivalHistogram.getHistogram(EXAM_NO);
+
+        List<ExamArrivalResponse.Bucket> buckets = response.getBuckets();
+        assertThat(buckets).hasSize(60 + RUNNING_TIME);
+        assertThat(buckets.get(0).getMinute()).isEqualTo(-60);
+        assertThat(buckets.get(0).getTime()).isEqualTo(EXAM_DATE.minusMinutes(60));
+        assertThat(buckets.get(60).getTime()).isEqualTo(EXAM_DATE);
+        assertThat(buckets.get(buckets.size() - 1).getMinute()).isEqualTo(RUNNING_TIME - 1);
+        assertThat(total(response)).containsExactly(0, 0, 0);
+    }
+
+    @Test
+    void 진행_시간이_0분이어도_시작_구간은_있음() {
+        givenExam(EXAM_NO, EXAM_DATE, 0, Collections.emptyList());
+
+        assertThat(examArrivalHistogram.getHistogram(EXAM_NO).getBuckets()).hasSize(61);
+    }
+
+    @Test
+    void 처음_조회할_때_출석_기록으로_채움() {
+        givenExam(EXAM_NO, EXAM_DATE, RUNNING_TIME, Arrays.asList(
+                examinee(1L, EXAM_DATE.minusMinutes(30).plusSeconds(59), false),
+                examinee(2L, EXAM_DATE.minusMinutes(30), true),
+                examinee(3L, EXAM_DATE.plusMinutes(5), false),
+                // 출석하지 않았거나 출석 시간이 없는 응시자는 제외
+                absent(4L),
+                examinee(5L, null, true)));
+
+        ExamArrivalResponse response = examArrivalHistogram.getHistogram(EXAM_NO);
+
+        ExamArrivalResponse.Bucket thirtyBefore = bucket(response, -30);
+        assertThat(thirtyBefore.getOnTime()).isEqualTo(2);
+        assertThat(thirtyBefore.getDocument()).isEqualTo(1);
+        assertThat(bucket(response, 5).getLate()).isEqualTo(1);
+        assertThat(total(response)).containsExactly(2, 1, 1);
+    }
+
+    @Test
+    void 범위_밖_시각은_처음_마지막_구간에_넣음() {
+        givenExam(EXAM_NO, EXAM_DATE, RUNNING_TIME, Arrays.asList(
+                examinee(1L, EXAM_DATE.minusHours(3), false),
+                examinee(2L, EXAM_DATE.minusDays(1), false),
+                examinee(3L, EXAM_DATE.plusMinutes(RUNNING_TIME), false),
+                examinee(4L, EXAM_DATE.plusDays(2), false)));
+
+        ExamArrivalResponse response = examArrivalHistogram.getHistogram(EXAM_NO);
+
+        assertThat(bucket(response, -60).getOnTime()).isEqualTo(2);
+        assertThat(bucket(response, RUNNING_TIME - 1).getLate()).isEqualTo(2);
+        assertThat(total(response)).containsExactly(2, 2, 0);
+    }
+
+    @Test
+    void 이미_센_응시자는_다시_세지_않음() {
+        givenExam(EXAM_NO, EXAM_DATE, RUNNING_TIME, Collections.singletonList(
+                examinee(1L, EXAM_DATE.minusMinutes(10), true)));
+        examArrivalHistogram.getHistogram(EXAM_NO);
+
+        // 채울 때 센 응시자의 출석, 서류 확인이 다시 들어와도 그대로
+        examArrivalHistogram.recordArrival(EXAM_NO, 1L, EXAM_DATE.minusMinutes(10), false);
+        examArrivalHistogram.recordDocument(EXAM_NO, 1L, EXAM_DATE.minusMinutes(5));
+        // 새 응시자는 출석과 서류 제출을 한 번씩만
+        examArrivalHistogram.recordArrival(EXAM_NO, 2L, EXAM_DATE.plusMinutes(3), true);
+        examArrivalHistogram.recordArrival(EXAM_NO, 2L, EXAM_DATE.plusMinutes(4), true);
+        examArrivalHistogram.recordDocument(EXAM_NO, 2L, EXAM_DATE.plusMinutes(6));
+        examArrivalHistogram.recordDocument(EXAM_NO, 2L, EXAM_DATE.plusMinutes(7));
+
+        ExamArrivalResponse response = examArrivalHistogram.getHistogram(EXAM_NO);
+        assertThat(total(response)).containsExactly(1, 1, 2);
+        assertThat(bucket(response, 3).getLate()).isEqualTo(1);
+        assertThat(bucket(response, 6).getDocument()).isEqualTo(1);
+        verify(examExamineeRepository, times(1)).findByExamNo(EXAM_NO);
+    }
+
+    @Test
+    void 조회된_적_없는_시험의_기록은_처음_조회할_때_DB에서_채움() {
+        examArrivalHistogram.recordArrival(EXAM_NO, 1L, EXAM_DATE, true);
+        givenExam(EXAM_NO, EXAM_DATE, RUNNING_TIME, Collections.singletonList(
+                examinee(1L, EXAM_DATE, false)));
+
+        ExamArrivalResponse response = examArrivalHistogram.getHistogram(EXAM_NO);
+
+        assertThat(total(response)).containsExactly(0, 1, 0);
+    }
+
+    @Test
+    void 트랜잭션_안_기록은_커밋_후에만_반영() {
+        givenExam(EXAM_NO, EXAM_DATE, RUNNING_TIME, Collections.emptyList());
+        examArrivalHistogram.getHistogram(EXAM_NO);
+
+        TransactionSynchronizationManager.initSynchronization();
+        examArrivalHistogram.recordArrival(EXAM_NO, 1L, EXAM_DATE.minusMinutes(1), false);
+        examArrivalHistogram.recordArrival(EXAM_NO, 2L, EXAM_DATE.minusMinutes(2), false);
+        assertThat(total(examArrivalHistogram.getHistogram(EXAM_NO))).containsExactly(0, 0, 0);
+        complete(true);
+        assertThat(total(examArrivalHistogram.getHistogram(EXAM_NO))).containsExactly(2, 0, 0);
+
+        // 롤백된 기록은 버리고, 같은 스레드의 다음 트랜잭션은 새로 모음
+        TransactionSynchronizationManager.initSynchronization();
+        examArrivalHistogram.recordArrival(EXAM_NO, 3L, EXAM_DATE.plusMinutes(1), true);
+        complete(false);
+        TransactionSynchronizationManager.initSynchronization();
+        examArrivalHistogram.recordArrival(EXAM_NO, 4L, EXAM_DATE.plusMinutes(2), true);
+        complete(true);
+
+        ExamArrivalResponse response = examArrivalHistogram.getHistogram(EXAM_NO);
+        assertThat(total(response)).containsExactly(2, 1, 0);
+        assertThat(bucket(response, 2).getLate()).isEqualTo(1);
+    }
+
+    @Test
+    void 트랜잭션마다_동기화는_한_번만_등록() {
+        givenExam(EXAM_NO, EXAM_DATE, RUNNING_TIME, Collections.emptyList());
+        examArrivalHistogram.getHistogram(EXAM_NO);
+
+        TransactionSynchronizationManager.initSynchronization();
+        for (long examExamineeNo = 1; examExamineeNo <= 40; examExamineeNo++) {
+            examArrivalHistogram.recordArrival(EXAM_NO, examExamineeNo, EXAM_DATE.minusMinutes(examExamineeNo), false);
+        }
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        complete(true);
+
+        assertThat(total(examArrivalHistogram.getHistogram(EXAM_NO))).containsExactly(40, 0, 0);
+    }
+
+    @Test
+    void 시험_시간이_바뀌면_다음_조회_때_다시_채움() {
+        givenExam(EXAM_NO, EXAM_DATE, RUNNING_TIME, Collections.singletonList(
+                examinee(1L, EXAM_DATE.minusMinutes(10), false)));
+        assertThat(bucket(examArrivalHistogram.getHistogram(EXAM_NO), -10).getOnTime()).isEqualTo(1);
+
+        givenExam(EXAM_NO, EXAM_DATE.plusMinutes(30), RUNNING_TIME, Collections.singletonList(
+                examinee(1L, EXAM_DATE.minusMinutes(10), false)));
+        examArrivalHistogram.evict(EXAM_NO);
+
+        ExamArrivalResponse response = examArrivalHistogram.getHistogram(EXAM_NO);
+        assertThat(response.getExamDate()).isEqualTo(EXAM_DATE.plusMinutes(30));
+        assertThat(bucket(response, -40).getOnTime()).isEqualTo(1);
+    }
+
+    @Test
+    void 슬롯이_다_차면_가장_먼저_들어온_시험부터_밀려남() {
+        when(examRepository.findById(anyLong())).thenAnswer(invocation ->
+                Optional.of(new Exam(null, EXAM_DATE, null, RUNNING_TIME, "TOEIC", "KOR", 2)));
+        when(examExamineeRepository.findByExamNo(anyLong())).thenReturn(new ArrayList<>());
+
+        for (long examNo = 1; examNo <= 257; examNo++) {
+            examArrivalHistogram.getHistogram(examNo);
+        }
+        examArrivalHistogram.getHistogram(2L);
+        examArrivalHistogram.getHistogram(1L);
+
+        verify(examRepository, times(1)).findById(2L);
+        verify(examRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 없는_시험() {
+        when(examRepository.findById(EXAM_NO)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> examArrivalHistogram.getHistogram(EXAM_NO))
+                .isInstanceOf(CustomExceptions.ExamNotFoundException.class);
+    }
+
+    private void givenExam(long examNo, LocalDateTime examDate, int runningTime, List<ExamExaminee> examExaminees) {
+        when(examRepository.findById(examNo)).thenReturn(Optional.of(new Exam(null, examDate, null, runningTime, "TOEIC", "KOR", 2)));
+        when(examExamineeRepository.findByExamNo(examNo)).thenReturn(examExaminees);
+    }
+
+    private static void complete(boolean commit) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (commit) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    private static ExamExaminee examinee(long no, LocalDateTime attendanceTime, boolean document) {
+        ExamExaminee examExaminee = BeanUtils.instantiateClass(ExamExaminee.class);
+        ReflectionTestUtils.setField(examExaminee, "no", no);
+        ReflectionTestUtils.setField(examExaminee, "attendance", true);
+        ReflectionTestUtils.setField(examExaminee, "attendanceTime", attendanceTime);
+        ReflectionTestUtils.setField(examExaminee, "document", document
+                ? ExamExaminee.DocumentStatus.서류_제출_완료 : ExamExaminee.DocumentStatus.서류_미제출);
+        return examExaminee;
+    }
+
+    private static ExamExaminee absent(long no) {
+        ExamExaminee examExaminee = examinee(no, EXAM_DATE, true);
+        ReflectionTestUtils.setField(examExaminee, "attendance", false);
+        return examExaminee;
+    }
+
+    private static ExamArrivalResponse.Bucket bucket(ExamArrivalResponse response, int minute) {
+        return response.getBuckets().get(minute + 60);
+    }
+
+    // 전체 [정시 출석, 지각, 서류 제출]
+    private static List<Integer> total(ExamArrivalResponse response) {
+        int onTime = 0;
+        int late = 0;
+        int document = 0;
+        for (ExamArrivalResponse.Bucket bucket : response.getBuckets()) {
+            onTime += bucket.getOnTime();
+            late += bucket.getLate();
+            document += bucket.getDocument();
+        }
+        return Arrays.asList(onTime, late, document);
+    }
+}
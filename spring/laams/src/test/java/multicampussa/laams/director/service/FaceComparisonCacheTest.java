@@ -0,0 +1,116 @@
+package multicampussa.laams.director.service;
+
+import multicampussa.laams.global.CustomExceptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 사진 내용 해시 기준 LRU + TTL 캐시와 동시 요청 합치기
+class FaceComparisonCacheTest {
+
+    private final FaceComparisonCache cache = new FaceComparisonCache();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void 같은_내용의_사진은_파일_이름이_달라도_캐시된_결과를_쓴다() {
+        assertThat(cache.get(photo("a.jpg", "existing"), photo("b.jpg", "new"), () -> load("result"))).isEqualTo("result");
+        assertThat(cache.get(photo("c.jpg", "existing"), photo("d.jpg", "new"), () -> load("other"))).isEqualTo("result");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void 사진_순서가_바뀌면_다른_요청으로_본다() {
+        cache.get(photo("existing"), photo("new"), () -> load("first"));
+        assertThat(cache.get(photo("new"), photo("existing"), () -> load("second"))).isEqualTo("second");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 비교_중인_같은_요청은_한_번만_보내고_결과를_같이_받는다() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = cache.getAsync(photo("existing"), photo("new"), () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = cache.getAsync(photo("existing"), photo("new"), () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("duplicate");
+        });
+
+        assertThat(first).isNotDone();
+        assertThat(second).isSameAs(first);
+        pending.complete("result");
+        assertThat(second.join()).isEqualTo("result");
+        assertThat(loads).hasValue(1);
+        // 끝난 뒤에는 캐시에서 바로 받음
+        assertThat(cache.getAsync(photo("existing"), photo("new"), () -> CompletableFuture.completedFuture("late")).join()).isEqualTo("result");
+    }
+
+    @Test
+    void 실패한_결과는_캐시하지_않는다() {
+        assertThatThrownBy(() -> cache.get(photo("existing"), photo("new"), () -> {
+            loads.incrementAndGet();
+            throw new CustomExceptions.FaceCompareException("이미지와 요청 쿼리를 확인하세요.");
+        })).isInstanceOf(CustomExceptions.FaceCompareException.class);
+
+        assertThat(cache.get(photo("existing"), photo("new"), () -> load("retry"))).isEqualTo("retry");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 만료된_결과는_다시_비교한다() {
+        cache.get(photo("existing"), photo("new"), () -> load("old"));
+        expireAll();
+
+        assertThat(cache.get(photo("existing"), photo("new"), () -> load("fresh"))).isEqualTo("fresh");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 가득_차면_가장_오래_안_쓴_결과부터_버린다() {
+        MultipartFile newPhoto = photo("new");
+        cache.get(photo("existing-0"), newPhoto, () -> load("0"));
+        cache.get(photo("existing-1"), newPhoto, () -> load("1"));
+        for (int i = 2; i < 1000; i++) {
+            String result = String.valueOf(i);
+            cache.get(photo("existing-" + i), newPhoto, () -> load(result));
+        }
+        // 0번을 최근에 사용해서 1번이 가장 오래 안 쓴 결과가 됨
+        cache.get(photo("existing-0"), newPhoto, () -> load("reloaded"));
+        cache.get(photo("existing-1000"), newPhoto, () -> load("1000"));
+        assertThat(loads).hasValue(1001);
+
+        assertThat(cache.get(photo("existing-0"), newPhoto, () -> load("reloaded"))).isEqualTo("0");
+        assertThat(cache.get(photo("existing-1"), newPhoto, () -> load("reloaded"))).isEqualTo("reloaded");
+        assertThat(loads).hasValue(1002);
+    }
+
+    private String load(String result) {
+        loads.incrementAndGet();
+        return result;
+    }
+
+    private void expireAll() {
+        Map<?, ?> results = (Map<?, ?>) ReflectionTestUtils.getField(cache, "results");
+        for (Object cachedResult : results.values()) {
+            ReflectionTestUtils.setField(cachedResult, "expiresAt", 0L);
+        }
+    }
+
+    private static MultipartFile photo(String content) {
+        return photo("photo.jpg", content);
+    }
+
+    private static MultipartFile photo(String fileName, String content) {
+        return new MockMultipartFile("photo", fileName, "image/jpeg", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
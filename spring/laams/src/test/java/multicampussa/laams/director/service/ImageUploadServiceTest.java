@@ -0,0 +1,92 @@
+package multicampussa.laams.director.service;
+
+import multicampussa.laams.director.dto.director.ImageUploadResultDto;
+import multicampussa.laams.global.storage.ObjectStorage;
+import multicampussa.laams.manager.domain.exam.Exam;
+import multicampussa.laams.manager.domain.examinee.ExamExaminee;
+import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
+import multicampussa.laams.manager.domain.examinee.ImageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 여러 이미지 업로드 (한 파일이 실패해도 나머지 업로드를 모두 기다리고 파일별 결과를 돌려줌)
+@ExtendWith(MockitoExtension.class)
+class ImageUploadServiceTest {
+
+    private static final String KEY_PREFIX = "images/202603031000/A-001/";
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ExamExamineeRepository examExamineeRepository;
+
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
+    @InjectMocks
+    private ImageUploadService imageUploadService;
+
+    @Test
+    void 업로드_중_런타임_예외가_나도_나머지_업로드를_기다린다() throws IOException {
+        givenExaminee();
+        ObjectStorage.PendingUpload broken = mock(ObjectStorage.PendingUpload.class);
+        ObjectStorage.PendingUpload failed = mock(ObjectStorage.PendingUpload.class);
+        ObjectStorage.PendingUpload uploaded = mock(ObjectStorage.PendingUpload.class);
+        when(objectStorage.startUpload(eq(KEY_PREFIX + "a.jpg"), any())).thenReturn(broken);
+        when(objectStorage.startUpload(eq(KEY_PREFIX + "b.jpg"), any())).thenReturn(failed);
+        when(objectStorage.startUpload(eq(KEY_PREFIX + "c.jpg"), any())).thenReturn(uploaded);
+        doThrow(new IllegalStateException("connection reset")).when(broken).waitForCompletion();
+        doThrow(new IOException("S3 업로드에 실패했습니다")).when(failed).waitForCompletion();
+        when(objectStorage.getUrl(KEY_PREFIX + "c.jpg")).thenReturn("https://cdn/c.jpg");
+
+        List<ImageUploadResultDto> results = imageUploadService.uploadImages(files("a.jpg", "b.jpg", "c.jpg"), 1L, 2L, "본인 확인");
+
+        verify(broken).waitForCompletion();
+        verify(failed).waitForCompletion();
+        verify(uploaded).waitForCompletion();
+        assertThat(results).extracting(ImageUploadResultDto::getFileName).containsExactly("a.jpg", "b.jpg", "c.jpg");
+        assertThat(results).extracting(ImageUploadResultDto::getSuccess).containsExactly(false, false, true);
+        assertThat(results.get(2).getImageUrl()).isEqualTo("https://cdn/c.jpg");
+        verify(imageRepository).saveAll(anyList());
+    }
+
+    private void givenExaminee() {
+        Exam exam = mock(Exam.class);
+        when(exam.getExamDate()).thenReturn(LocalDateTime.of(2026, 3, 3, 10, 0));
+        ExamExaminee examExaminee = mock(ExamExaminee.class);
+        when(examExaminee.getExam()).thenReturn(exam);
+        when(examExaminee.getExamineeCode()).thenReturn("A-001");
+        when(examExamineeRepository.findByExamNoAndExamineeNo(1L, 2L)).thenReturn(examExaminee);
+    }
+
+    private static List<MultipartFile> files(String... names) {
+        MultipartFile[] files = new MultipartFile[names.length];
+        for (int i = 0; i < names.length; i++) {
+            files[i] = new MockMultipartFile("images", names[i], "image/jpeg", new byte[]{1, 2, 3});
+        }
+        return Arrays.asList(files);
+    }
+}
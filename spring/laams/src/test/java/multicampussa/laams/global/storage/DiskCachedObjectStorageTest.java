@@ -0,0 +1,384 @@
+package multicampussa.laams.global.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// S3 앞 디스크 캐시 (크기 기준 LRU, 동시 첫 조회 합치기, 무효화, 다시 확인, 시작 시 정리)
+class DiskCachedObjectStorageTest {
+
+    @TempDir
+    Path configuredDir;
+
+    private S3ObjectStorage delegate;
+    // 키 -> S3에 있는 내용
+    private final Map<String, String> objects = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        delegate = mock(S3ObjectStorage.class);
+        when(delegate.get(anyString())).thenAnswer(invocation -> open(invocation.getArgument(0)));
+        when(delegate.getRange(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> open(invocation.getArgument(0)));
+        when(delegate.stat(anyString())).thenAnswer(invocation -> open(invocation.getArgument(0)).getInfo());
+    }
+
+    @Test
+    void 두_번째_조회는_디스크에서_읽는다() throws IOException {
+        DiskCachedObjectStorage storage = storage(1024, 1024);
+        objects.put("notice/a.pdf", "attachment");
+
+        assertThat(read(storage, "notice/a.pdf")).isEqualTo("attachment");
+        assertThat(read(storage, "notice/a.pdf")).isEqualTo("attachment");
+
+        verify(delegate, times(1)).get("notice/a.pdf");
+        assertThat(cachedFiles()).hasSize(1);
+    }
+
+    @Test
+    void 같은_키의_동시_첫_조회는_S3에서_한_번만_받는다() throws Exception {
+        DiskCachedObjectStorage storage = storage(1024, 1024);
+        objects.put("notice/a.pdf", "attachment");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.get("notice/a.pdf")).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return open("notice/a.pdf");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> read(storage, "notice/a.pdf"));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> second = executor.submit(() -> read(storage, "notice/a.pdf"));
+            Future<String> third = executor.submit(() -> read(storage, "notice/a.pdf"));
+            // 뒤 요청들이 기다리기 시작할 시간
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("attachment");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("attachment");
+            assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("attachment");
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).get("notice/a.pdf");
+    }
+
+    @Test
+    void 전체_크기를_넘으면_가장_오래_안_쓴_파일부터_지운다() throws IOException {
+        DiskCachedObjectStorage storage = storage(10, 10);
+        objects.put("a", "aaaa");
+        objects.put("b", "bbbb");
+        objects.put("c", "cccc");
+
+        read(storage, "a");
+        read(storage, "b");
+        read(storage, "a");
+        // 8 + 4 > 10 이므로 가장 오래 안 쓴 b가 밀려남
+        read(storage, "c");
+        assertThat(cachedFiles()).hasSize(2);
+
+        read(storage, "a");
+        read(storage, "b");
+        verify(delegate, times(1)).get("a");
+        verify(delegate, times(2)).get("b");
+    }
+
+    @Test
+    void 큰_파일은_캐시하지_않는다() throws IOException {
+        DiskCachedObjectStorage storage = storage(1024, 4);
+        objects.put("big", "0123456789");
+
+        assertThat(read(storage, "big")).isEqualTo("0123456789");
+        assertThat(read(storage, "big")).isEqualTo("0123456789");
+
+        verify(delegate, times(2)).get("big");
+        assertThat(cachedFiles()).isEmpty();
+    }
+
+    @Test
+    void 업로드와_삭제는_캐시를_지운다() throws IOException {
+        DiskCachedObjectStorage storage = storage(1024, 1024);
+        objects.put("a", "old");
+        read(storage, "a");
+
+        objects.put("a", "new");
+        storage.put("a", new ByteArrayInputStream(bytes("new")), 3, "text/plain");
+        assertThat(read(storage, "a")).isEqualTo("new");
+
+        storage.delete("a");
+        assertThat(cachedFiles()).isEmpty();
+        verify(delegate).delete("a");
+    }
+
+    @Test
+    void 받는_중에_삭제되면_이전_내용을_캐시에_올리지_않는다() throws Exception {
+        DiskCachedObjectStorage storage = storage(1024, 1024);
+        objects.put("a", "old");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 첫 조회는 삭제 전의 내용을 받아 두고, 삭제가 끝난 뒤에 돌려줌
+        when(delegate.get("a")).thenAnswer(invocation -> {
+            StoredObject old = open("a");
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return old;
+        }).thenAnswer(invocation -> open("a"));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> reading = executor.submit(() -> read(storage, "a"));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            objects.remove("a");
+            storage.delete("a");
+            release.countDown();
+
+            // 채우던 요청은 캐시 대신 S3를 다시 읽어서 삭제된 것을 봄
+            assertThatThrownBy(() -> reading.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StorageObjectNotFoundException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cachedFiles()).isEmpty();
+        assertThatThrownBy(() -> read(storage, "a")).isInstanceOf(StorageObjectNotFoundException.class);
+        assertThatThrownBy(() -> storage.stat("a")).isInstanceOf(StorageObjectNotFoundException.class);
+    }
+
+    @Test
+    void 받는_중에_같은_키로_다시_올리면_새_내용을_읽는다() throws Exception {
+        DiskCachedObjectStorage storage = storage(1024, 1024);
+        objects.put("a", "old");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.get("a")).thenAnswer(invocation -> {
+            StoredObject old = open("a");
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return old;
+        }).thenAnswer(invocation -> open("a"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> filling = executor.submit(() -> read(storage, "a"));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> waiting = executor.submit(() -> read(storage, "a"));
+            Thread.sleep(100);
+
+            objects.put("a", "new");
+            storage.put("a", new ByteArrayInputStream(bytes("new")), 3, "text/plain");
+            // 기다리던 요청은 채우기를 기다리지 않고 바로 S3에서 읽음
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("new");
+            release.countDown();
+            assertThat(filling.get(5, TimeUnit.SECONDS)).isEqualTo("new");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(read(storage, "a")).isEqualTo("new");
+        assertThat(read(storage, "a")).isEqualTo("new");
+        assertThat(storage.stat("a").getETag()).isEqualTo("etag-new");
+        assertThat(cachedFiles()).hasSize(1);
+        assertThat(new String(Files.readAllBytes(cachedFiles()[0]), StandardCharsets.UTF_8)).isEqualTo("new");
+    }
+
+    @Test
+    void 확인_주기_안에서는_S3_메타_데이터를_읽지_않는다() throws IOException {
+        DiskCachedObjectStorage storage = storage(1024, 1024, Duration.ofHours(1));
+        objects.put("a", "old");
+        read(storage, "a");
+
+        // 다른 서버에서 바꾼 내용은 확인 주기가 지나야 보임
+        objects.put("a", "new");
+        assertThat(read(storage, "a")).isEqualTo("old");
+        assertThat(storage.stat("a").getETag()).isEqualTo("etag-old");
+        verify(delegate, never()).stat("a");
+    }
+
+    @Test
+    void 확인_주기가_지나면_다른_서버에서_바꾸거나_지운_파일을_반영한다() throws IOException {
+        DiskCachedObjectStorage storage = storage(1024, 1024, Duration.ZERO);
+        objects.put("a", "old");
+        read(storage, "a");
+
+        // 그대로면 메타 데이터만 확인하고 디스크에서 읽음
+        assertThat(read(storage, "a")).isEqualTo("old");
+        verify(delegate, times(1)).get("a");
+
+        objects.put("a", "new");
+        assertThat(storage.stat("a").getETag()).isEqualTo("etag-new");
+        assertThat(read(storage, "a")).isEqualTo("new");
+        assertThat(cachedFiles()).hasSize(1);
+
+        objects.remove("a");
+        assertThatThrownBy(() -> storage.stat("a")).isInstanceOf(StorageObjectNotFoundException.class);
+        assertThatThrownBy(() -> read(storage, "a")).isInstanceOf(StorageObjectNotFoundException.class);
+        assertThat(cachedFiles()).isEmpty();
+    }
+
+    @Test
+    void 구간_요청은_캐시에_있을_때만_디스크에서_읽는다() throws IOException {
+        DiskCachedObjectStorage storage = storage(1024, 1024);
+        objects.put("a", "0123456789");
+
+        storage.getRange("a", 2, 5).close();
+        verify(delegate).getRange("a", 2, 5);
+        assertThat(cachedFiles()).isEmpty();
+
+        read(storage, "a");
+        try (StoredObject range = storage.getRange("a", 2, 5)) {
+            assertThat(range.getRangeStart()).isEqualTo(2);
+            assertThat(range.getRangeLength()).isEqualTo(4);
+            assertThat(new String(StreamUtils.copyToByteArray(range.getInputStream()), StandardCharsets.UTF_8)).isEqualTo("2345");
+        }
+        verify(delegate, times(1)).getRange(eq("a"), anyLong(), anyLong());
+    }
+
+    @Test
+    void 내용이_같은_키는_캐시_파일_하나를_같이_쓴다() throws IOException {
+        DiskCachedObjectStorage storage = storage(1024, 1024);
+        objects.put("a", "same");
+        objects.put("b", "same");
+
+        read(storage, "a");
+        read(storage, "b");
+
+        assertThat(cachedFiles()).hasSize(1);
+    }
+
+    @Test
+    void 시작할_때_캐시가_만든_파일만_지운다() throws IOException {
+        Path cacheDir = configuredDir.resolve("laams-storage-cache");
+        Path shard = Files.createDirectories(cacheDir.resolve("ab"));
+        Path cachedFile = Files.write(shard.resolve(repeat('a', 64)), bytes("cached"));
+        Path tempFile = Files.write(shard.resolve(".123e4567-e89b-12d3-a456-426614174000.fill"), bytes("partial"));
+        Path emptyShard = Files.createDirectories(cacheDir.resolve("cd"));
+        Path foreignInShard = Files.write(Files.createDirectories(cacheDir.resolve("ef")).resolve("notes.txt"), bytes("keep"));
+        Path foreignDir = Files.createDirectories(cacheDir.resolve("backup"));
+        Path foreignInConfiguredDir = Files.write(configuredDir.resolve(repeat('b', 64)), bytes("keep"));
+
+        storage(1024, 1024);
+
+        assertThat(cachedFile).doesNotExist();
+        assertThat(tempFile).doesNotExist();
+        assertThat(shard).doesNotExist();
+        assertThat(emptyShard).doesNotExist();
+        assertThat(foreignInShard).exists();
+        assertThat(foreignDir).exists();
+        assertThat(foreignInConfiguredDir).exists();
+        assertThat(configuredDir).exists();
+    }
+
+    private DiskCachedObjectStorage storage(long maxBytes, long maxObjectBytes) throws IOException {
+        return storage(maxBytes, maxObjectBytes, Duration.ofHours(1));
+    }
+
+    private DiskCachedObjectStorage storage(long maxBytes, long maxObjectBytes, Duration revalidateAfter) throws IOException {
+        return new DiskCachedObjectStorage(delegate, configuredDir.toString(), maxBytes, maxObjectBytes, revalidateAfter);
+    }
+
+    private static String read(ObjectStorage storage, String key) throws IOException {
+        try (StoredObject object = storage.get(key)) {
+            return new String(StreamUtils.copyToByteArray(object.getInputStream()), StandardCharsets.UTF_8);
+        }
+    }
+
+    private StoredObject open(String key) throws StorageObjectNotFoundException {
+        String content = objects.get(key);
+        if (content == null) {
+            throw new StorageObjectNotFoundException(key);
+        }
+        // ETag는 내용 기준 (S3와 같이 내용이 같으면 같은 ETag)
+        ObjectInfo info = new ObjectInfo(key, content.length(), "text/plain", Instant.EPOCH, "etag-" + content);
+        return new BytesStoredObject(info, bytes(content));
+    }
+
+    private Path[] cachedFiles() throws IOException {
+        Path cacheDir = configuredDir.resolve("laams-storage-cache");
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            return paths.filter(Files::isRegularFile).toArray(Path[]::new);
+        }
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    // S3 조회 결과 대신 쓰는 메모리 객체
+    private static class BytesStoredObject implements StoredObject {
+        private final ObjectInfo info;
+        private final byte[] content;
+
+        private BytesStoredObject(ObjectInfo info, byte[] content) {
+            this.info = info;
+            this.content = content;
+        }
+
+        @Override
+        public ObjectInfo getInfo() {
+            return info;
+        }
+
+        @Override
+        public long getRangeStart() {
+            return 0;
+        }
+
+        @Override
+        public long getRangeLength() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public long transferTo(WritableByteChannel target) throws IOException {
+            return target.write(ByteBuffer.wrap(content));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
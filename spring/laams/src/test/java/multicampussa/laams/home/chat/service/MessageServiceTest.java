@@ -0,0 +1,159 @@
+package multicampussa.laams.home.chat.service;
+
+import multicampussa.laams.home.chat.dto.SaveMessage;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 채팅 내역 커서 페이지 (커서 조건, 정렬, 페이지 크기 제한, 잘못된 커서)
+@ExtendWith(MockitoExtension.class)
+class MessageServiceTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final LocalDateTime CURSOR_TIME = LocalDateTime.of(2026, 3, 3, 10, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Mock
+    private MessageWriteBehind messageWriteBehind;
+
+    @InjectMocks
+    private MessageService messageService;
+
+    @Test
+    void 이전_페이지는_커서보다_앞선_메시지를_최신순으로_잘라서_시간순으로_반환() {
+        SaveMessage cursor = message(ROOM_ID, CURSOR_TIME);
+        givenCursor(cursor);
+        SaveMessage newest = message(ROOM_ID, CURSOR_TIME);
+        SaveMessage middle = message(ROOM_ID, CURSOR_TIME.minusMinutes(1));
+        SaveMessage oldest = message(ROOM_ID, CURSOR_TIME.minusMinutes(2));
+        when(reactiveMongoTemplate.find(any(Query.class), eq(SaveMessage.class))).thenReturn(Flux.just(newest, middle, oldest));
+
+        StepVerifier.create(messageService.getMessagesBefore(ROOM_ID, cursor.getId(), 3))
+                .expectNext(oldest, middle, newest)
+                .verifyComplete();
+
+        Query query = capturedQuery();
+        assertThat(query.getSortObject()).isEqualTo(new Document("dateTime", -1).append("_id", -1));
+        assertThat(query.getLimit()).isEqualTo(3);
+        assertThat(query.getQueryObject().get("roomId")).isEqualTo(ROOM_ID);
+        assertThat(query.getQueryObject().get("$or")).isEqualTo(Arrays.asList(
+                new Document("dateTime", new Document("$lt", CURSOR_TIME)),
+                new Document("dateTime", CURSOR_TIME).append("_id", new Document("$lt", new ObjectId(cursor.getId())))));
+    }
+
+    @Test
+    void 다음_페이지는_커서_이후_메시지를_시간순으로_반환() {
+        SaveMessage cursor = message(ROOM_ID, CURSOR_TIME);
+        givenCursor(cursor);
+        SaveMessage sameTime = message(ROOM_ID, CURSOR_TIME);
+        SaveMessage later = message(ROOM_ID, CURSOR_TIME.plusSeconds(1));
+        when(reactiveMongoTemplate.find(any(Query.class), eq(SaveMessage.class))).thenReturn(Flux.just(sameTime, later));
+
+        StepVerifier.create(messageService.getMessagesAfter(ROOM_ID, cursor.getId(), 50))
+                .expectNext(sameTime, later)
+                .verifyComplete();
+
+        Query query = capturedQuery();
+        assertThat(query.getSortObject()).isEqualTo(new Document("dateTime", 1).append("_id", 1));
+        assertThat(query.getLimit()).isEqualTo(50);
+        assertThat(query.getQueryObject().get("$or")).isEqualTo(Arrays.asList(
+                new Document("dateTime", new Document("$gt", CURSOR_TIME)),
+                new Document("dateTime", CURSOR_TIME).append("_id", new Document("$gt", new ObjectId(cursor.getId())))));
+    }
+
+    @Test
+    void 페이지_크기는_1에서_200_사이로_제한() {
+        SaveMessage cursor = message(ROOM_ID, CURSOR_TIME);
+        givenCursor(cursor);
+        when(reactiveMongoTemplate.find(any(Query.class), eq(SaveMessage.class))).thenReturn(Flux.empty());
+
+        messageService.getMessagesAfter(ROOM_ID, cursor.getId(), 0).blockLast();
+        messageService.getMessagesAfter(ROOM_ID, cursor.getId(), -5).blockLast();
+        messageService.getMessagesBefore(ROOM_ID, cursor.getId(), 1000).blockLast();
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(reactiveMongoTemplate, times(3)).find(captor.capture(), eq(SaveMessage.class));
+        List<Query> queries = captor.getAllValues();
+        assertThat(queries.get(0).getLimit()).isEqualTo(1);
+        assertThat(queries.get(1).getLimit()).isEqualTo(1);
+        assertThat(queries.get(2).getLimit()).isEqualTo(200);
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_조회하지_않고_빈_결과() {
+        StepVerifier.create(messageService.getMessagesBefore(ROOM_ID, "not-an-object-id", 20)).verifyComplete();
+        StepVerifier.create(messageService.getMessagesAfter(ROOM_ID, null, 20)).verifyComplete();
+
+        verify(reactiveMongoTemplate, never()).findById(any(), eq(SaveMessage.class));
+        verify(reactiveMongoTemplate, never()).find(any(Query.class), eq(SaveMessage.class));
+    }
+
+    @Test
+    void 다른_방_메시지나_없는_메시지를_커서로_주면_빈_결과() {
+        SaveMessage otherRoom = message("room-2", CURSOR_TIME);
+        givenCursor(otherRoom);
+        String missingId = new ObjectId().toHexString();
+        when(reactiveMongoTemplate.findById(new ObjectId(missingId), SaveMessage.class)).thenReturn(Mono.empty());
+
+        StepVerifier.create(messageService.getMessagesBefore(ROOM_ID, otherRoom.getId(), 20)).verifyComplete();
+        StepVerifier.create(messageService.getMessagesAfter(ROOM_ID, missingId, 20)).verifyComplete();
+
+        verify(reactiveMongoTemplate, never()).find(any(Query.class), eq(SaveMessage.class));
+    }
+
+    @Test
+    void 보낸_시간이_없는_커서는_빈_결과() {
+        SaveMessage cursor = message(ROOM_ID, null);
+        givenCursor(cursor);
+
+        StepVerifier.create(messageService.getMessagesAfter(ROOM_ID, cursor.getId(), 20)).verifyComplete();
+
+        verify(reactiveMongoTemplate, never()).find(any(Query.class), eq(SaveMessage.class));
+    }
+
+    private void givenCursor(SaveMessage cursor) {
+        when(reactiveMongoTemplate.findById(new ObjectId(cursor.getId()), SaveMessage.class)).thenReturn(Mono.just(cursor));
+    }
+
+    private Query capturedQuery() {
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(reactiveMongoTemplate).find(captor.capture(), eq(SaveMessage.class));
+        return captor.getValue();
+    }
+
+    private static SaveMessage message(String roomId, LocalDateTime dateTime) {
+        SaveMessage message = new SaveMessage();
+        message.setId(new ObjectId().toHexString());
+        message.setRoomId(roomId);
+        message.setDateTime(dateTime);
+        return message;
+    }
+}
@@ -0,0 +1,195 @@
+package multicampussa.laams.home.chat.service;
+
+import multicampussa.laams.home.chat.dto.SaveMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+
+// 채팅 메시지 지연 저장 (개수/대기 시간 기준 묶음, 대기열이 가득 찼을 때 직접 저장, 종료 시 남은 메시지 저장)
+@ExtendWith(MockitoExtension.class)
+class MessageWriteBehindTest {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final long MAX_DELAY_MILLIS = 200;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private MessageWriteBehind writeBehind;
+
+    // 묶음 저장 (저장 뒤 목록을 비우므로 복사해 둠) 과 한 건씩 저장
+    private final List<List<SaveMessage>> batches = new CopyOnWriteArrayList<>();
+    private final List<Long> batchNanos = new CopyOnWriteArrayList<>();
+    private final List<SaveMessage> singles = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = new MessageWriteBehind(mongoTemplate);
+        lenient().doAnswer(invocation -> {
+            Collection<SaveMessage> batch = invocation.getArgument(0);
+            batches.add(new ArrayList<>(batch));
+            batchNanos.add(System.nanoTime());
+            return batch;
+        }).when(mongoTemplate).insertAll(anyCollection());
+        lenient().doAnswer(invocation -> {
+            singles.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        }).when(mongoTemplate).save(any(SaveMessage.class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ReflectionTestUtils.getField(writeBehind, "flusher") != null) {
+            writeBehind.shutdown();
+        }
+    }
+
+    @Test
+    void 쌓여_있는_메시지는_BATCH_SIZE개씩_묶어서_저장() throws InterruptedException {
+        // 저장 스레드를 띄우기 전에 대기열에 먼저 쌓아 둠
+        ReflectionTestUtils.setField(writeBehind, "running", true);
+        enqueue(BATCH_SIZE * 2 + 200);
+
+        writeBehind.start();
+        writeBehind.shutdown();
+
+        assertThat(batchSizes()).containsExactly(BATCH_SIZE, BATCH_SIZE, 200);
+        assertThat(singles).isEmpty();
+        assertThat(writeBehind.getStats().getFlushCnt()).isEqualTo(3);
+    }
+
+    @Test
+    void BATCH_SIZE가_안_되면_첫_메시지가_MAX_DELAY만큼_기다린_뒤_저장() throws InterruptedException {
+        writeBehind.start();
+
+        long enqueuedAt = System.nanoTime();
+        enqueue(3);
+        awaitSaved(3);
+
+        assertThat(batchSizes()).containsExactly(3);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(batchNanos.get(0) - enqueuedAt)).isGreaterThanOrEqualTo(MAX_DELAY_MILLIS);
+    }
+
+    @Test
+    void 대기열이_가득_차면_기다렸다가_직접_저장() {
+        // 저장 스레드 없이 대기열을 채움
+        ReflectionTestUtils.setField(writeBehind, "running", true);
+        enqueue(QUEUE_CAPACITY);
+
+        SaveMessage overflow = message(-1);
+        writeBehind.enqueue(overflow);
+
+        assertThat(singles).containsExactly(overflow);
+        assertThat(writeBehind.getStats().getEnqueuedCnt()).isEqualTo(QUEUE_CAPACITY);
+        assertThat(writeBehind.getStats().getDirectSaveCnt()).isEqualTo(1);
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void 종료하면_남은_메시지를_모두_저장하고_이후_메시지는_직접_저장() throws InterruptedException {
+        writeBehind.start();
+        enqueue(1_200);
+
+        writeBehind.shutdown();
+
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(1_200);
+        assertThat(writeBehind.getStats().getQueueDepth()).isZero();
+
+        SaveMessage late = message(-1);
+        writeBehind.enqueue(late);
+        assertThat(singles).containsExactly(late);
+    }
+
+    @Test
+    void 종료와_동시에_넣은_메시지도_빠짐없이_한_번씩_저장() throws InterruptedException {
+        writeBehind.start();
+        int threads = 4;
+        int perThread = 2_000;
+        CountDownLatch started = new CountDownLatch(threads);
+        List<Thread> senders = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            Thread sender = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < perThread; i++) {
+                    writeBehind.enqueue(message(offset + i));
+                }
+            });
+            senders.add(sender);
+            sender.start();
+        }
+        started.await();
+        writeBehind.shutdown();
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        List<String> savedIds = new ArrayList<>();
+        batches.forEach(batch -> batch.forEach(message -> savedIds.add(message.getId())));
+        singles.forEach(message -> savedIds.add(message.getId()));
+        assertThat(savedIds).hasSize(threads * perThread).doesNotHaveDuplicates();
+        assertThat(writeBehind.getStats().getEnqueuedCnt() + writeBehind.getStats().getDirectSaveCnt()).isEqualTo(threads * perThread);
+    }
+
+    @Test
+    void 묶음_저장이_실패하면_한_건씩_다시_저장() throws InterruptedException {
+        doThrow(new IllegalStateException("bulk write error")).when(mongoTemplate).insertAll(anyCollection());
+        writeBehind.start();
+        enqueue(3);
+
+        writeBehind.shutdown();
+
+        assertThat(singles).hasSize(3);
+        assertThat(writeBehind.getStats().getFlushedCnt()).isEqualTo(3);
+        assertThat(writeBehind.getStats().getFailedCnt()).isZero();
+    }
+
+    private void enqueue(int count) {
+        for (int i = 0; i < count; i++) {
+            writeBehind.enqueue(message(i));
+        }
+    }
+
+    private void awaitSaved(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batches.stream().mapToInt(List::size).sum() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private List<Integer> batchSizes() {
+        List<Integer> sizes = new ArrayList<>();
+        for (List<SaveMessage> batch : batches) {
+            sizes.add(batch.size());
+        }
+        return Collections.unmodifiableList(sizes);
+    }
+
+    private static SaveMessage message(int index) {
+        SaveMessage message = new SaveMessage();
+        message.setRoomId("room-" + (index % 3));
+        message.setMessage("message " + index);
+        return message;
+    }
+}
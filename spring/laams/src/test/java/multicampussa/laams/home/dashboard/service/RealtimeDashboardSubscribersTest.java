@@ -0,0 +1,80 @@
+package multicampussa.laams.home.dashboard.service;
+
+import multicampussa.laams.home.member.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+// 실시간 대시보드 구독 토큰 (프레임 헤더 우선, 없으면 CONNECT 때 세션에 저장한 토큰) 과 구독 권한
+@ExtendWith(MockitoExtension.class)
+class RealtimeDashboardSubscribersTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @InjectMocks
+    private RealtimeDashboardSubscribers realtimeDashboardSubscribers;
+
+    @Test
+    void 구독_프레임에_토큰이_없으면_CONNECT_때_저장한_토큰을_쓴다() {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        StompHeaderAccessor connect = frame(StompCommand.CONNECT, sessionAttributes, "Bearer connect-token");
+        RealtimeDashboardSubscribers.rememberAuthorization(connect);
+
+        StompHeaderAccessor subscribe = frame(StompCommand.SUBSCRIBE, sessionAttributes, null);
+
+        assertThat(RealtimeDashboardSubscribers.getAuthorization(subscribe)).isEqualTo("Bearer connect-token");
+    }
+
+    @Test
+    void 구독_프레임의_토큰이_세션_토큰보다_우선() {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        RealtimeDashboardSubscribers.rememberAuthorization(frame(StompCommand.CONNECT, sessionAttributes, "Bearer connect-token"));
+
+        StompHeaderAccessor subscribe = frame(StompCommand.SUBSCRIBE, sessionAttributes, "Bearer subscribe-token");
+
+        assertThat(RealtimeDashboardSubscribers.getAuthorization(subscribe)).isEqualTo("Bearer subscribe-token");
+    }
+
+    @Test
+    void 토큰이_어디에도_없으면_null() {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        RealtimeDashboardSubscribers.rememberAuthorization(frame(StompCommand.CONNECT, sessionAttributes, null));
+
+        assertThat(sessionAttributes).isEmpty();
+        assertThat(RealtimeDashboardSubscribers.getAuthorization(frame(StompCommand.SUBSCRIBE, sessionAttributes, null))).isNull();
+        assertThat(RealtimeDashboardSubscribers.getAuthorization(frame(StompCommand.SUBSCRIBE, null, null))).isNull();
+    }
+
+    @Test
+    void 응시자와_잘못된_토큰은_구독할_수_없다() {
+        when(jwtTokenProvider.getAuthority("manager-token")).thenReturn("ROLE_MANAGER");
+        when(jwtTokenProvider.getAuthority("examinee-token")).thenReturn("ROLE_EXAMINEE");
+        when(jwtTokenProvider.getAuthority("expired-token")).thenThrow(new IllegalArgumentException("만료된 토큰"));
+
+        assertThat(realtimeDashboardSubscribers.canSubscribe("Bearer manager-token")).isTrue();
+        assertThat(realtimeDashboardSubscribers.canSubscribe("Bearer examinee-token")).isFalse();
+        assertThat(realtimeDashboardSubscribers.canSubscribe("Bearer expired-token")).isFalse();
+        assertThat(realtimeDashboardSubscribers.canSubscribe(null)).isFalse();
+    }
+
+    private static StompHeaderAccessor frame(StompCommand command, Map<String, Object> sessionAttributes, String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        return accessor;
+    }
+}
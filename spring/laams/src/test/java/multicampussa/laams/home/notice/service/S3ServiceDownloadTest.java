@@ -0,0 +1,207 @@
+package multicampussa.laams.home.notice.service;
+
+import multicampussa.laams.global.storage.ObjectInfo;
+import multicampussa.laams.global.storage.ObjectStorage;
+import multicampussa.laams.global.storage.StoredObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 첨부파일 다운로드의 Range, If-Range, 304 판단
+class S3ServiceDownloadTest {
+
+    private static final String KEY = "notice/file.pdf";
+    private static final long SIZE = 10;
+    private static final String ETAG = "abc";
+    // 밀리초가 있는 수정 시각 (HTTP 날짜는 초 단위)
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-10-01T09:00:00.250Z");
+    private static final long LAST_MODIFIED_SECONDS = Instant.parse("2026-10-01T09:00:00Z").toEpochMilli();
+
+    private ObjectStorage objectStorage;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        objectStorage = mock(ObjectStorage.class);
+        s3Service = new S3Service(objectStorage);
+        when(objectStorage.stat(KEY)).thenReturn(new ObjectInfo(KEY, SIZE, "application/pdf", LAST_MODIFIED, ETAG));
+        when(objectStorage.get(KEY)).thenAnswer(invocation -> storedObject(0, SIZE));
+        when(objectStorage.getRange(eq(KEY), anyLong(), anyLong())).thenAnswer(invocation -> {
+            long start = invocation.getArgument(1);
+            long end = invocation.getArgument(2);
+            return storedObject(start, end - start + 1);
+        });
+    }
+
+    @Test
+    void 조건이_없으면_전체를_보낸다() throws IOException {
+        ResponseEntity<?> response = download(new HttpHeaders());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc\"");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(LAST_MODIFIED_SECONDS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(SIZE);
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("file.pdf");
+        assertThat(body(response)).isEqualTo(SIZE);
+    }
+
+    @Test
+    void ETag가_같으면_304() throws IOException {
+        assertThat(download(ifNoneMatch("\"abc\"")).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(download(ifNoneMatch("W/\"abc\"")).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(download(ifNoneMatch("\"other\", \"abc\"")).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(download(ifNoneMatch("*")).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(objectStorage, never()).get(anyString());
+    }
+
+    @Test
+    void ETag가_다르면_수정_시각과_관계없이_전체를_보낸다() throws IOException {
+        HttpHeaders headers = ifNoneMatch("\"other\"");
+        headers.setIfModifiedSince(LAST_MODIFIED_SECONDS);
+
+        assertThat(download(headers).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void If_Modified_Since는_초_단위로_비교한다() throws IOException {
+        HttpHeaders same = new HttpHeaders();
+        same.setIfModifiedSince(LAST_MODIFIED_SECONDS);
+        assertThat(download(same).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        HttpHeaders before = new HttpHeaders();
+        before.setIfModifiedSince(LAST_MODIFIED_SECONDS - 1000);
+        assertThat(download(before).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void 구간_하나를_요청하면_206() throws IOException {
+        ResponseEntity<?> response = download(range("bytes=2-5"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(4);
+        assertThat(body(response)).isEqualTo(4);
+        verify(objectStorage).getRange(KEY, 2, 5);
+    }
+
+    @Test
+    void 끝_구간과_파일_크기를_넘는_끝은_파일_끝까지로_자른다() throws IOException {
+        assertThat(download(range("bytes=-3")).getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+        assertThat(download(range("bytes=8-100")).getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 8-9/10");
+    }
+
+    @Test
+    void 파일_크기를_벗어난_구간은_416() throws IOException {
+        ResponseEntity<?> response = download(range("bytes=20-30"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        verify(objectStorage, never()).getRange(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void 여러_구간이나_잘못된_Range는_전체를_보낸다() throws IOException {
+        assertThat(download(range("bytes=0-1,4-5")).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(download(range("items=0-1")).getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(objectStorage, never()).getRange(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void If_Range_ETag가_같을_때만_구간을_보낸다() throws IOException {
+        assertThat(download(range("bytes=2-5", "\"abc\"")).getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(download(range("bytes=2-5", "\"other\"")).getStatusCode()).isEqualTo(HttpStatus.OK);
+        // If-Range는 강한 비교 (약한 ETag는 일치로 보지 않음)
+        assertThat(download(range("bytes=2-5", "W/\"abc\"")).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void If_Range_날짜가_수정_시각과_같을_때만_구간을_보낸다() throws IOException {
+        HttpHeaders same = range("bytes=2-5");
+        same.setDate(HttpHeaders.IF_RANGE, LAST_MODIFIED_SECONDS);
+        assertThat(download(same).getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+
+        HttpHeaders older = range("bytes=2-5");
+        older.setDate(HttpHeaders.IF_RANGE, LAST_MODIFIED_SECONDS - 1000);
+        assertThat(download(older).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(download(range("bytes=2-5", "yesterday")).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void 서명_주소가_있으면_그_주소로_보낸다() throws IOException {
+        when(objectStorage.getPresignedUrl(eq(KEY), any(), anyString())).thenReturn("https://bucket.example.com/notice/file.pdf?signature");
+
+        ResponseEntity<?> response = s3Service.downloadFile(KEY, new HttpHeaders(), true);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+        assertThat(response.getHeaders().getLocation()).hasToString("https://bucket.example.com/notice/file.pdf?signature");
+        verify(objectStorage, never()).stat(anyString());
+    }
+
+    @Test
+    void 서명_주소를_지원하지_않으면_직접_보낸다() throws IOException {
+        ResponseEntity<?> response = s3Service.downloadFile(KEY, new HttpHeaders(), true);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private ResponseEntity<?> download(HttpHeaders requestHeaders) throws IOException {
+        return s3Service.downloadFile(KEY, requestHeaders, false);
+    }
+
+    private static HttpHeaders ifNoneMatch(String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_NONE_MATCH, value);
+        return headers;
+    }
+
+    private static HttpHeaders range(String range) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, range);
+        return headers;
+    }
+
+    private static HttpHeaders range(String range, String ifRange) {
+        HttpHeaders headers = range(range);
+        headers.set(HttpHeaders.IF_RANGE, ifRange);
+        return headers;
+    }
+
+    // 응답 본문을 써서 보낸 바이트 수 반환
+    private static long body(ResponseEntity<?> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(outputStream);
+        return outputStream.size();
+    }
+
+    private static StoredObject storedObject(long start, long length) throws IOException {
+        StoredObject storedObject = mock(StoredObject.class);
+        when(storedObject.getRangeStart()).thenReturn(start);
+        when(storedObject.getRangeLength()).thenReturn(length);
+        when(storedObject.transferTo(any(WritableByteChannel.class))).thenAnswer(invocation -> {
+            WritableByteChannel target = invocation.getArgument(0);
+            return (long) target.write(ByteBuffer.allocate((int) length));
+        });
+        return storedObject;
+    }
+}
@@ -0,0 +1,175 @@
+package multicampussa.laams.manager.service.dashboard;
+
+import multicampussa.laams.director.service.ExamStatusCounter;
+import multicampussa.laams.manager.domain.dashboard.DashboardDailyRepository;
+import multicampussa.laams.manager.domain.examinee.ExamExaminee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+// 일별 집계 증감 (보상 대기 전환, 날짜 이동, 트랜잭션 안에서 날짜별로 모아 커밋 직전 반영)
+@ExtendWith(MockitoExtension.class)
+class DashboardDailyRollupTest {
+
+    private static final LocalDateTime MARCH_3 = LocalDateTime.of(2026, 3, 3, 10, 0);
+    private static final LocalDateTime MARCH_5 = LocalDateTime.of(2026, 3, 5, 23, 59);
+
+    @Mock
+    private DashboardDailyRepository dashboardDailyRepository;
+
+    @InjectMocks
+    private DashboardDailyRollup dashboardDailyRollup;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(dashboardDailyRollup);
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_반영() {
+        dashboardDailyRollup.recordErrorReport(MARCH_3);
+        dashboardDailyRollup.recordUnassignedExam(MARCH_5, -1);
+
+        verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 3), 1, 0, 0);
+        verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 5), 0, 0, -1);
+    }
+
+    @Test
+    void 보상_대기_여부가_바뀔_때만_증감() {
+        dashboardDailyRollup.recordCompensation(MARCH_3, null, snapshot(true));
+        dashboardDailyRollup.recordCompensation(MARCH_3, snapshot(true), snapshot(false));
+        dashboardDailyRollup.recordCompensation(MARCH_3, snapshot(true), null);
+
+        InOrder inOrder = inOrder(dashboardDailyRepository);
+        inOrder.verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 3), 0, 1, 0);
+        inOrder.verify(dashboardDailyRepository, times(2)).addCounts(LocalDate.of(2026, 3, 3), 0, -1, 0);
+    }
+
+    @Test
+    void 보상_대기_여부가_그대로면_반영하지_않음() {
+        dashboardDailyRollup.recordCompensation(MARCH_3, snapshot(true), snapshot(true));
+        dashboardDailyRollup.recordCompensation(MARCH_3, snapshot(false), snapshot(false));
+        dashboardDailyRollup.recordCompensation(MARCH_3, null, snapshot(false));
+
+        verifyNoInteractions(dashboardDailyRepository);
+    }
+
+    @Test
+    void 날짜가_없거나_증감이_0이면_무시() {
+        dashboardDailyRollup.recordErrorReport(null);
+        dashboardDailyRollup.recordUnassignedExam(MARCH_3, 0);
+        dashboardDailyRollup.movePendingCompensations(MARCH_3, MARCH_5, 0);
+
+        verifyNoInteractions(dashboardDailyRepository);
+    }
+
+    @Test
+    void 보상_대기_날짜_이동은_이전_날짜에서_빼고_새_날짜에_더함() {
+        dashboardDailyRollup.movePendingCompensations(MARCH_3, MARCH_5, 4);
+
+        verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 3), 0, -4, 0);
+        verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 5), 0, 4, 0);
+    }
+
+    @Test
+    void 시험이_삭제되면_보상_대기를_빼기만_함() {
+        dashboardDailyRollup.movePendingCompensations(MARCH_3, null, 2);
+
+        verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 3), 0, -2, 0);
+        verifyNoMoreInteractions(dashboardDailyRepository);
+    }
+
+    @Test
+    void 트랜잭션_안에서는_날짜별로_모아_커밋_직전에_날짜_순으로_한_번씩_반영() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dashboardDailyRollup.recordUnassignedExam(MARCH_5, 1);
+        dashboardDailyRollup.recordErrorReport(MARCH_3);
+        dashboardDailyRollup.recordErrorReport(MARCH_3.plusHours(5));
+        dashboardDailyRollup.recordCompensation(MARCH_5, null, snapshot(true));
+        verifyNoInteractions(dashboardDailyRepository);
+
+        commit();
+
+        InOrder inOrder = inOrder(dashboardDailyRepository);
+        inOrder.verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 3), 2, 0, 0);
+        inOrder.verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 5), 0, 1, 1);
+        inOrder.verifyNoMoreInteractions();
+        assertThat(TransactionSynchronizationManager.hasResource(dashboardDailyRollup)).isFalse();
+    }
+
+    @Test
+    void 트랜잭션_안에서_서로_상쇄된_날짜는_반영하지_않음() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dashboardDailyRollup.recordUnassignedExam(MARCH_3, 1);
+        dashboardDailyRollup.recordUnassignedExam(MARCH_3, -1);
+        dashboardDailyRollup.movePendingCompensations(MARCH_5, MARCH_5, 3);
+
+        commit();
+
+        verifyNoInteractions(dashboardDailyRepository);
+    }
+
+    @Test
+    void 롤백되면_집계에_남지_않음() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dashboardDailyRollup.recordErrorReport(MARCH_3);
+        dashboardDailyRollup.recordUnassignedExam(MARCH_5, 1);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        verifyNoInteractions(dashboardDailyRepository);
+        assertThat(TransactionSynchronizationManager.hasResource(dashboardDailyRollup)).isFalse();
+
+        // 다음 트랜잭션 밖 기록은 바로 반영
+        dashboardDailyRollup.recordErrorReport(MARCH_3);
+        verify(dashboardDailyRepository).addCounts(LocalDate.of(2026, 3, 3), 1, 0, 0);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.beforeCommit(false);
+        }
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static ExamStatusCounter.Snapshot snapshot(boolean pendingCompensation) {
+        ExamExaminee examExaminee = mock(ExamExaminee.class);
+        when(examExaminee.getCompensation()).thenReturn(true);
+        when(examExaminee.getCompensationStatus()).thenReturn(pendingCompensation
+                ? ExamExaminee.CompensationValue.보상_대기 : ExamExaminee.CompensationValue.보상_승인);
+        return ExamStatusCounter.Snapshot.of(examExaminee, MARCH_3);
+    }
+}
@@ -0,0 +1,261 @@
+package multicampussa.laams.manager.service.dashboard;
+
+import multicampussa.laams.LaamsApplication;
+import multicampussa.laams.centerManager.domain.CenterManager;
+import multicampussa.laams.director.domain.director.Director;
+import multicampussa.laams.director.domain.errorReport.ErrorReport;
+import multicampussa.laams.director.repository.errorReport.ErrorReportRepository;
+import multicampussa.laams.manager.domain.center.Center;
+import multicampussa.laams.manager.domain.exam.Exam;
+import multicampussa.laams.manager.domain.exam.ExamDirector;
+import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.domain.examinee.ExamExaminee;
+import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
+import multicampussa.laams.manager.domain.examinee.Examinee;
+import multicampussa.laams.manager.dto.dashboard.response.DashboardErrorReport;
+import multicampussa.laams.manager.dto.dashboard.response.DashboardResponse;
+import multicampussa.laams.manager.dto.dashboard.response.UnassignedExam;
+import multicampussa.laams.manager.dto.dashboard.response.UnprocessedCompensation;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월 대시보드 조회 횟수, 응답 시간 벤치마크 (H2 메모리 DB, 한 달 시험 약 천 건).
+ * 날짜별로 조회하던 이전 방식(같은 저장소 메서드로 재현)과 한 달 범위 조회 세 번을 비교하고 결과가 같은지 확인한다.
+ * 기본 테스트에서는 빠지고 ./gradlew test -Pbenchmark --tests '*ManagerDashboardBenchmarkTest'로 실행한다.
+ */
+@Tag("benchmark")
+// 이전 방식 쿼리의 DATE() 함수를 쓰기 위해 H2를 MySQL 호환 모드로 띄움
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dashboard-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ManagerDashboardService.class)
+class ManagerDashboardBenchmarkTest {
+
+    private static final int YEAR = 2026;
+    private static final int MONTH = 3;
+    private static final int CENTERS = 40;
+    private static final int DIRECTORS = 200;
+    private static final int EXAMS_PER_DAY = 30;
+    private static final int ERROR_REPORTS_PER_DAY = 10;
+    private static final int ROUNDS = 3;
+
+    // 메인 설정의 Mongo 저장소 없이 JPA 엔티티, 저장소만 올림 (작성일을 직접 넣기 위해 JPA Auditing도 끔)
+    @Configuration
+    @EntityScan(basePackageClasses = LaamsApplication.class)
+    @EnableJpaRepositories(basePackageClasses = LaamsApplication.class)
+    static class JpaOnlyConfig {
+    }
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private ManagerDashboardService managerDashboardService;
+    @Autowired private ErrorReportRepository errorReportRepository;
+    @Autowired private ExamExamineeRepository examExamineeRepository;
+    @Autowired private ExamDirectorRepository examDirectorRepository;
+    @Autowired private ExamRepository examRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        seed();
+    }
+
+    @Test
+    void 한_달_범위_조회와_날짜별_조회_비교() {
+        Result perDay = measure(() -> legacyMonthlyDashboard(YEAR, MONTH));
+        Result monthRange = measure(() -> managerDashboardService.generateMonthlyDashboard(YEAR, MONTH));
+
+        System.out.printf("[dashboard benchmark] %d exams, %d error reports, %d pending compensations%n",
+                YearMonthDays.days() * EXAMS_PER_DAY, YearMonthDays.days() * ERROR_REPORTS_PER_DAY, YearMonthDays.days() * EXAMS_PER_DAY);
+        System.out.printf("[dashboard benchmark] per-day queries : %5d statements, %7.1f ms%n", perDay.statements, perDay.millis);
+        System.out.printf("[dashboard benchmark] month range     : %5d statements, %7.1f ms%n", monthRange.statements, monthRange.millis);
+
+        assertThat(monthRange.statements).isEqualTo(3);
+        assertThat(perDay.statements).isGreaterThan(EXAMS_PER_DAY * YearMonthDays.days());
+        assertThat(summarize(monthRange.dashboard)).isEqualTo(summarize(perDay.dashboard));
+    }
+
+    // 라운드마다 영속성 컨텍스트를 비워서 매번 DB에서 읽음 (첫 라운드는 워밍업)
+    private Result measure(Supplier<List<DashboardResponse>> dashboard) {
+        entityManager.clear();
+        dashboard.get();
+
+        long statements = 0;
+        long totalNanos = 0;
+        List<DashboardResponse> last = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            entityManager.clear();
+            statistics.clear();
+            long startedAt = System.nanoTime();
+            last = dashboard.get();
+            totalNanos += System.nanoTime() - startedAt;
+            statements = statistics.getPrepareStatementCount();
+        }
+        return new Result(statements, totalNanos / 1_000_000.0 / ROUNDS, last);
+    }
+
+    // 이전 구현 (날짜마다 3번 조회 + 시험마다 감독관 조회, 승인 여부 비교만 enum으로 고침)
+    private List<DashboardResponse> legacyMonthlyDashboard(int year, int month) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        List<DashboardResponse> monthlyData = new ArrayList<>();
+        for (LocalDate date = startDate; date.getMonthValue() == month; date = date.plusDays(1)) {
+            java.sql.Date sqlDate = java.sql.Date.valueOf(date);
+            List<DashboardErrorReport> errorReports = new ArrayList<>();
+            for (ErrorReport errorReport : errorReportRepository.findErrorReportByDate(sqlDate)) {
+                errorReports.add(new DashboardErrorReport(errorReport));
+            }
+            List<UnprocessedCompensation> compensations = new ArrayList<>();
+            for (ExamExaminee examExaminee : examExamineeRepository.findUncompensatedByDate(sqlDate)) {
+                compensations.add(new UnprocessedCompensation(examExaminee));
+            }
+            List<UnassignedExam> unassignedExams = new ArrayList<>();
+            for (Exam exam : examRepository.findExamByExamDate(sqlDate)) {
+                boolean assigned = false;
+                for (ExamDirector examDirector : examDirectorRepository.findByExamNo(exam.getNo())) {
+                    if (examDirector.getConfirm() == ExamDirector.Confirm.승인) {
+                        assigned = true;
+                        break;
+                    }
+                }
+                if (!assigned) {
+                    unassignedExams.add(new UnassignedExam(exam));
+                }
+            }
+            monthlyData.add(new DashboardResponse(date.getDayOfMonth(), errorReports, compensations, unassignedExams));
+        }
+        return monthlyData;
+    }
+
+    // 날짜별 건수 (두 방식의 결과 비교용)
+    private static List<String> summarize(List<DashboardResponse> dashboard) {
+        List<String> summary = new ArrayList<>();
+        for (DashboardResponse daily : dashboard) {
+            summary.add(daily.getDay() + ":" + daily.getDailyDashboardErrorReports().size()
+                    + "/" + daily.getUnprocessedCompensations().size() + "/" + daily.getUnassignedExams().size());
+        }
+        return summary;
+    }
+
+    // 센터 40곳, 감독관 200명, 하루 시험 30건(3건 중 1건은 승인된 감독관 없음), 시험마다 보상 대기 응시자 1명, 하루 에러 리포트 10건
+    private void seed() {
+        List<Center> centers = new ArrayList<>();
+        for (int i = 0; i < CENTERS; i++) {
+            CenterManager centerManager = entity(CenterManager.class);
+            ReflectionTestUtils.setField(centerManager, "name", "담당자" + i);
+            entityManager.persist(centerManager);
+            Center center = entity(Center.class);
+            ReflectionTestUtils.setField(center, "name", "센터" + i);
+            ReflectionTestUtils.setField(center, "centerManager", centerManager);
+            entityManager.persist(center);
+            centers.add(center);
+        }
+        List<Director> directors = new ArrayList<>();
+        for (int i = 0; i < DIRECTORS; i++) {
+            Director director = entity(Director.class);
+            ReflectionTestUtils.setField(director, "name", "감독관" + i);
+            ReflectionTestUtils.setField(director, "center", centers.get(i % CENTERS));
+            entityManager.persist(director);
+            directors.add(director);
+        }
+
+        int examCnt = 0;
+        for (int day = 1; day <= YearMonthDays.days(); day++) {
+            for (int i = 0; i < EXAMS_PER_DAY; i++, examCnt++) {
+                Exam exam = new Exam(centers.get(examCnt % CENTERS), LocalDateTime.of(YEAR, MONTH, day, 9 + i % 9, 0), null, 60, "TOEIC", "KOR", 2);
+                entityManager.persist(exam);
+                if (examCnt % 3 != 0) {
+                    ExamDirector examDirector = new ExamDirector();
+                    examDirector.setExam(exam, directors.get(examCnt % DIRECTORS));
+                    examDirector.confirmDirector();
+                    entityManager.persist(examDirector);
+                } else if (examCnt % 2 == 0) {
+                    // 신청만 하고 승인 전
+                    ExamDirector examDirector = new ExamDirector();
+                    examDirector.setExam(exam, directors.get(examCnt % DIRECTORS));
+                    entityManager.persist(examDirector);
+                }
+
+                Examinee examinee = entity(Examinee.class);
+                ReflectionTestUtils.setField(examinee, "name", "응시자" + examCnt);
+                ReflectionTestUtils.setField(examinee, "phoneNum", "010");
+                ReflectionTestUtils.setField(examinee, "gender", "F");
+                entityManager.persist(examinee);
+                ExamExaminee examExaminee = new ExamExaminee(examinee, exam, "CODE-" + examCnt);
+                ReflectionTestUtils.setField(examExaminee, "compensation", true);
+                ReflectionTestUtils.setField(examExaminee, "compensationType", "지각");
+                entityManager.persist(examExaminee);
+            }
+            for (int i = 0; i < ERROR_REPORTS_PER_DAY; i++) {
+                ErrorReport errorReport = entity(ErrorReport.class);
+                ReflectionTestUtils.setField(errorReport, "director", directors.get((day * ERROR_REPORTS_PER_DAY + i) % DIRECTORS));
+                ReflectionTestUtils.setField(errorReport, "title", "오류" + i);
+                ReflectionTestUtils.setField(errorReport, "createdAt", LocalDateTime.of(YEAR, MONTH, day, i, 30));
+                entityManager.persist(errorReport);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            // 다음 날 시험이 참조할 센터, 감독관을 다시 읽음
+            for (int i = 0; i < centers.size(); i++) {
+                centers.set(i, entityManager.getReference(Center.class, centers.get(i).getNo()));
+            }
+            for (int i = 0; i < directors.size(); i++) {
+                directors.set(i, entityManager.getReference(Director.class, directors.get(i).getNo()));
+            }
+        }
+    }
+
+    private static <T> T entity(Class<T> type) {
+        return BeanUtils.instantiateClass(type);
+    }
+
+    private static class YearMonthDays {
+        private static int days() {
+            return LocalDate.of(YEAR, MONTH, 1).lengthOfMonth();
+        }
+    }
+
+    private static class Result {
+        private final long statements;
+        private final double millis;
+        private final List<DashboardResponse> dashboard;
+
+        private Result(long statements, double millis, List<DashboardResponse> dashboard) {
+            this.statements = statements;
+            this.millis = millis;
+            this.dashboard = dashboard;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package multicampussa.laams.manager.service.dashboard;
+
+import multicampussa.laams.director.domain.errorReport.ErrorReport;
+import multicampussa.laams.director.repository.errorReport.ErrorReportRepository;
+import multicampussa.laams.manager.domain.dashboard.DashboardDailyRepository;
+import multicampussa.laams.manager.domain.exam.Exam;
+import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.domain.examinee.ExamExaminee;
+import multicampussa.laams.manager.domain.examinee.ExamExamineeRepository;
+import multicampussa.laams.manager.dto.dashboard.response.DashboardResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// 월 대시보드를 한 달 범위 조회 세 번으로 만들고 날짜(일)별로 나누는지
+@ExtendWith(MockitoExtension.class)
+class ManagerDashboardServiceTest {
+
+    @Mock private ErrorReportRepository errorReportRepository;
+    @Mock private ExamExamineeRepository examExamineeRepository;
+    @Mock private ExamDirectorRepository examDirectorRepository;
+    @Mock private ExamRepository examRepository;
+    @Mock private DashboardDailyRepository dashboardDailyRepository;
+
+    @InjectMocks
+    private ManagerDashboardService managerDashboardService;
+
+    @Test
+    void 한_달_범위로_한_번씩_조회하고_날짜별로_나눈다() {
+        LocalDateTime start = LocalDateTime.of(2024, 2, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 1, 0, 0);
+        List<ErrorReport> errorReports = Arrays.asList(
+                errorReport(1L, start),
+                errorReport(2L, LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999_999_999)),
+                errorReport(3L, LocalDateTime.of(2024, 2, 29, 0, 0)));
+        List<ExamExaminee> compensations = Collections.singletonList(pendingCompensation(10L, LocalDateTime.of(2024, 2, 15, 9, 0)));
+        List<Exam> exams = Collections.singletonList(unassignedExam(100L, LocalDateTime.of(2024, 2, 29, 13, 0)));
+        when(errorReportRepository.findErrorReportBetween(start, end)).thenReturn(errorReports);
+        when(examExamineeRepository.findUncompensatedBetween(start, end)).thenReturn(compensations);
+        when(examRepository.findUnassignedExamBetween(start, end)).thenReturn(exams);
+
+        List<DashboardResponse> monthlyData = managerDashboardService.generateMonthlyDashboard(2024, 2);
+
+        // 윤년 2월은 29일
+        assertThat(monthlyData).hasSize(29);
+        assertThat(monthlyData).extracting(DashboardResponse::getDay).startsWith(1, 2).endsWith(29);
+        assertThat(monthlyData.get(0).getDailyDashboardErrorReports()).extracting("errorReportNo").containsExactly(1L);
+        // 같은 날은 조회 순서(no) 그대로
+        assertThat(monthlyData.get(28).getDailyDashboardErrorReports()).extracting("errorReportNo").containsExactly(2L, 3L);
+        assertThat(monthlyData.get(14).getUnprocessedCompensations()).extracting("examineeNo").containsExactly(10L);
+        assertThat(monthlyData.get(28).getUnassignedExams()).extracting("examNo").containsExactly(100L);
+
+        int errorReportCnt = 0;
+        int compensationCnt = 0;
+        int unassignedCnt = 0;
+        for (DashboardResponse daily : monthlyData) {
+            errorReportCnt += daily.getDailyDashboardErrorReports().size();
+            compensationCnt += daily.getUnprocessedCompensations().size();
+            unassignedCnt += daily.getUnassignedExams().size();
+        }
+        assertThat(errorReportCnt).isEqualTo(3);
+        assertThat(compensationCnt).isEqualTo(1);
+        assertThat(unassignedCnt).isEqualTo(1);
+
+        // 날짜별, 시험별 조회 없음
+        verify(errorReportRepository).findErrorReportBetween(start, end);
+        verify(examExamineeRepository).findUncompensatedBetween(start, end);
+        verify(examRepository).findUnassignedExamBetween(start, end);
+        verifyNoInteractions(examDirectorRepository, dashboardDailyRepository);
+    }
+
+    @Test
+    void 조회_결과가_없는_달도_모든_날짜를_빈_목록으로_돌려준다() {
+        List<DashboardResponse> monthlyData = managerDashboardService.generateMonthlyDashboard(2026, 2);
+
+        assertThat(monthlyData).hasSize(28);
+        for (DashboardResponse daily : monthlyData) {
+            assertThat(daily.getDailyDashboardErrorReports()).isEmpty();
+            assertThat(daily.getUnprocessedCompensations()).isEmpty();
+            assertThat(daily.getUnassignedExams()).isEmpty();
+        }
+    }
+
+    @Test
+    void 월_요약은_집계가_없는_날을_0으로_채운다() {
+        when(dashboardDailyRepository.findByDashboardDateBetweenOrderByDashboardDate(
+                LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30))).thenReturn(Collections.emptyList());
+
+        assertThat(managerDashboardService.generateMonthlySummary(2026, 4))
+                .hasSize(30)
+                .allSatisfy(summary -> assertThat(summary.getErrorReportCnt() + summary.getUnprocessedCompensationCnt() + summary.getUnassignedExamCnt()).isZero());
+    }
+
+    private static ErrorReport errorReport(Long no, LocalDateTime createdAt) {
+        ErrorReport errorReport = mock(ErrorReport.class, withSettings().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+        when(errorReport.getNo()).thenReturn(no);
+        when(errorReport.getCreatedAt()).thenReturn(createdAt);
+        return errorReport;
+    }
+
+    private static ExamExaminee pendingCompensation(Long examineeNo, LocalDateTime examDate) {
+        ExamExaminee examExaminee = mock(ExamExaminee.class, withSettings().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+        when(examExaminee.getExaminee().getNo()).thenReturn(examineeNo);
+        when(examExaminee.getExam().getExamDate()).thenReturn(examDate);
+        return examExaminee;
+    }
+
+    private static Exam unassignedExam(Long no, LocalDateTime examDate) {
+        Exam exam = mock(Exam.class, withSettings().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+        when(exam.getNo()).thenReturn(no);
+        when(exam.getExamDate()).thenReturn(examDate);
+        return exam;
+    }
+}
@@ -0,0 +1,221 @@
+package multicampussa.laams.manager.service.exam;
+
+import multicampussa.laams.director.dto.director.DirectorScheduleDto;
+import multicampussa.laams.manager.domain.exam.ExamDirectorRepository;
+import multicampussa.laams.manager.domain.exam.ExamRepository;
+import multicampussa.laams.manager.dto.ExamIntervalDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 진행 중인 시험 색인 (구간 경계 포함 여부, 겹치는 시험, 감독관/센터별 색인, 무효화 후 다시 만들기)
+@ExtendWith(MockitoExtension.class)
+class OngoingExamIndexTest {
+
+    private static final long CENTER_A = 1L;
+    private static final long CENTER_B = 2L;
+
+    @Mock
+    private ExamRepository examRepository;
+
+    @Mock
+    private ExamDirectorRepository examDirectorRepository;
+
+    @InjectMocks
+    private OngoingExamIndex ongoingExamIndex;
+
+    // 색인은 오늘 날짜 기준으로 만들어지므로 시험 시간도 오늘 기준
+    private LocalDateTime today;
+    private final List<ExamIntervalDTO> exams = new ArrayList<>();
+    private final List<DirectorScheduleDto> schedules = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDateTime.now().toLocalDate().atStartOfDay();
+        when(examRepository.findExamIntervalsBetween(any(), any())).thenAnswer(invocation -> new ArrayList<>(exams));
+        when(examDirectorRepository.findConfirmedSchedulesBetween(any(), any())).thenAnswer(invocation -> new ArrayList<>(schedules));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 시작_시각은_포함하고_종료_시각은_포함하지_않음() {
+        exam(1L, CENTER_A, at(10, 0), 60);
+
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 0).minusNanos(1))).isEmpty();
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 0))).containsExactly(1L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(11, 0).minusNanos(1))).containsExactly(1L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(11, 0))).isEmpty();
+    }
+
+    @Test
+    void 이어지는_시험은_경계_시각에_다음_시험만_진행_중() {
+        exam(1L, CENTER_A, at(10, 0), 60);
+        exam(2L, CENTER_A, at(11, 0), 60);
+
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 30))).containsExactly(1L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(11, 0))).containsExactly(2L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(12, 0))).isEmpty();
+    }
+
+    @Test
+    void 겹치는_시험() {
+        exam(1L, CENTER_A, at(10, 0), 120);
+        exam(2L, CENTER_B, at(11, 0), 120);
+        exam(3L, CENTER_B, at(11, 0), 30);
+
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(11, 15))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(11, 30))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(12, 0))).containsExactly(2L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(13, 0))).isEmpty();
+    }
+
+    @Test
+    void 진행_시간이_0분인_시험은_진행_중이_아님() {
+        exam(1L, CENTER_A, at(10, 0), 0);
+        exam(2L, CENTER_A, at(10, 0), 1);
+
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 0))).containsExactly(2L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 1))).isEmpty();
+    }
+
+    @Test
+    void 어제_시작해서_자정을_넘긴_시험() {
+        exam(1L, CENTER_A, today.minusMinutes(30), 60);
+
+        assertThat(ongoingExamIndex.findOngoingExamNos(today.plusMinutes(10))).containsExactly(1L);
+        assertThat(ongoingExamIndex.findOngoingExamNos(today.plusMinutes(30))).isEmpty();
+    }
+
+    @Test
+    void 감독관별_센터별_색인() {
+        exam(1L, CENTER_A, at(10, 0), 60);
+        exam(2L, CENTER_B, at(10, 30), 60);
+        exam(3L, null, at(10, 30), 60);
+        schedules.add(new DirectorScheduleDto("kim", 1L, at(10, 0), CENTER_A, null, null));
+        schedules.add(new DirectorScheduleDto("kim", 2L, at(10, 30), CENTER_B, null, null));
+        schedules.add(new DirectorScheduleDto("lee", 2L, at(10, 30), CENTER_B, null, null));
+        // 색인 기간 밖 시험 일정은 무시
+        schedules.add(new DirectorScheduleDto("park", 99L, at(10, 0), CENTER_A, null, null));
+
+        assertThat(numbers(ongoingExamIndex.findOngoingByDirector("kim", at(10, 45)))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(numbers(ongoingExamIndex.findOngoingByDirector("lee", at(10, 15)))).isEmpty();
+        assertThat(numbers(ongoingExamIndex.findOngoingByDirector("lee", at(11, 15)))).containsExactly(2L);
+        assertThat(ongoingExamIndex.isOngoingForDirector("park", at(10, 15))).isFalse();
+        assertThat(ongoingExamIndex.isOngoingForDirector("unknown", at(10, 15))).isFalse();
+
+        assertThat(numbers(ongoingExamIndex.findOngoingByCenter(CENTER_A, at(10, 45)))).containsExactly(1L);
+        assertThat(numbers(ongoingExamIndex.findOngoingByCenter(CENTER_B, at(10, 45)))).containsExactly(2L);
+        assertThat(ongoingExamIndex.findOngoingByCenter(3L, at(10, 45))).isEmpty();
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 45))).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void 무작위_시험과_시각에서_전체_검사와_같은_결과() {
+        Random random = new Random(21);
+        for (long examNo = 1; examNo <= 200; examNo++) {
+            // 어제 저녁부터 내일 오전 사이, 5분 단위 시작 시각
+            LocalDateTime examDate = today.minusHours(4).plusMinutes(5L * random.nextInt(12 * 40));
+            exam(examNo, (long) random.nextInt(5), examDate, 5 * random.nextInt(40));
+        }
+
+        List<LocalDateTime> times = new ArrayList<>();
+        for (ExamIntervalDTO exam : exams) {
+            times.add(exam.getExamDate());
+            times.add(exam.getExamDate().minusNanos(1));
+            times.add(exam.getEndDate());
+            times.add(exam.getEndDate().minusNanos(1));
+        }
+        for (int i = 0; i < 500; i++) {
+            times.add(today.minusHours(5).plusSeconds(random.nextInt(60 * 60 * 48)));
+        }
+
+        for (LocalDateTime time : times) {
+            List<Long> expected = new ArrayList<>();
+            for (ExamIntervalDTO exam : exams) {
+                if (!time.isBefore(exam.getExamDate()) && time.isBefore(exam.getEndDate())) {
+                    expected.add(exam.getExamNo());
+                }
+            }
+            assertThat(ongoingExamIndex.findOngoingExamNos(time)).as("%s", time).containsExactlyInAnyOrderElementsOf(expected);
+        }
+        // 색인은 한 번만 만듦
+        verify(examRepository, times(1)).findExamIntervalsBetween(any(), any());
+    }
+
+    @Test
+    void 트랜잭션_밖_무효화는_바로_다시_읽음() {
+        exam(1L, CENTER_A, at(10, 0), 60);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 30))).containsExactly(1L);
+
+        exam(2L, CENTER_A, at(10, 0), 60);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 30))).containsExactly(1L);
+
+        ongoingExamIndex.invalidate();
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 30))).containsExactlyInAnyOrder(1L, 2L);
+        verify(examRepository, times(2)).findExamIntervalsBetween(any(), any());
+    }
+
+    @Test
+    void 트랜잭션_안_무효화는_커밋_후에_반영() {
+        exam(1L, CENTER_A, at(10, 0), 60);
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 30))).containsExactly(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        exam(2L, CENTER_A, at(10, 0), 60);
+        ongoingExamIndex.invalidate();
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 30))).containsExactly(1L);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCommit();
+        }
+        assertThat(ongoingExamIndex.findOngoingExamNos(at(10, 30))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 시험이_없으면_빈_목록() {
+        assertThat(ongoingExamIndex.findOngoing(at(10, 0))).isEqualTo(Collections.emptyList());
+        assertThat(ongoingExamIndex.findOngoingByDirector("kim", at(10, 0))).isEmpty();
+    }
+
+    private void exam(Long examNo, Long centerNo, LocalDateTime examDate, int runningTime) {
+        exams.add(new ExamIntervalDTO(examNo, centerNo, examDate, runningTime));
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return today.withHour(hour).withMinute(minute);
+    }
+
+    private static List<Long> numbers(List<ExamIntervalDTO> exams) {
+        List<Long> numbers = new ArrayList<>();
+        for (ExamIntervalDTO exam : exams) {
+            numbers.add(exam.getExamNo());
+        }
+        return numbers;
+    }
+}